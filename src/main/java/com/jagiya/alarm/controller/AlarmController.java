@@ -47,6 +47,14 @@ public class AlarmController {
         return alarmService.selectAlarmDetail(alarmId);
     }
 
+    @Operation(summary = "알람 캐시 통계", description = "알람 목록, 상세 캐시 적중률 조회 모니터링용")
+    @GetMapping("/getAlarmCacheStats")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK")}
+    )
+    public AlarmCacheStatsResponse getAlarmCacheStats() {
+        return alarmService.selectAlarmCacheStats();
+    }
+
     @Operation(summary = "알람 등록", description = "알람 등록")
     @PostMapping("/insertAlarm")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK")}
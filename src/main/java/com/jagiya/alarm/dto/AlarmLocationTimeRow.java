@@ -0,0 +1,29 @@
+package com.jagiya.alarm.dto;
+
+import com.jagiya.location.entity.LocationGroup;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 알람지역 + 알람지역시간 (시간이 없는 지역은 alarmLocationTimeId, locationTime null)
+@Getter
+@AllArgsConstructor
+public class AlarmLocationTimeRow {
+
+    private final Long alarmId;
+
+    private final Long alarmLocationId;
+
+    private final String cityDo;
+
+    private final String guGun;
+
+    private final String eupMyun;
+
+    private final String regionCd;
+
+    private final LocationGroup locationGroup;
+
+    private final Long alarmLocationTimeId;
+
+    private final String locationTime;
+}
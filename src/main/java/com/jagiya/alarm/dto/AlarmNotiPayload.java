@@ -0,0 +1,38 @@
+package com.jagiya.alarm.dto;
+
+import com.jagiya.alarm.response.AlarmLocationNotiResponse;
+import com.jagiya.alarm.response.AlarmLocationWeatherDetailResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 알람 울림시 응답할 미리 계산된 결과
+@Getter
+@AllArgsConstructor
+public class AlarmNotiPayload {
+
+    private final Long alarmId;
+
+    private final Long userId;
+
+    // HHmm (같은 시간대 사용자 알람을 합쳐 계산)
+    private final String alarmTime;
+
+    // 계산 기준 예보일자 (알람이 울리는 날짜)
+    private final String fcstDate;
+
+    // 계산 시점의 같은 시간대 알람 버전 (AlarmCustomRepository.selectAlarmNotiVersion)
+    private final String version;
+
+    private final AlarmLocationNotiResponse notiResponse;
+
+    private final List<AlarmLocationWeatherDetailResponse> detailResponseList;
+
+    // locationGroupId:fcstDate:fcstTime 별 비 여부 (예보가 없던 시간은 null)
+    private final Map<String, Boolean> rainMap;
+
+    private final LocalDateTime expireDateTime;
+}
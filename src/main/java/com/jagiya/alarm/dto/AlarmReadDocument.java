@@ -0,0 +1,20 @@
+package com.jagiya.alarm.dto;
+
+import com.jagiya.alarm.response.AlarmDetailResponse;
+import com.jagiya.alarm.response.AlarmResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// AlarmReadModel.document 에 저장되는 사용자 알람 전체
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlarmReadDocument {
+
+    private List<AlarmResponse> alarmList;
+
+    private List<AlarmDetailResponse> alarmDetailList;
+}
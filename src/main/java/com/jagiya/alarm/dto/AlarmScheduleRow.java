@@ -0,0 +1,20 @@
+package com.jagiya.alarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AlarmScheduleRow {
+
+    private final Long alarmId;
+
+    // 활성화여부 (변경분 동기화시 비활성 알람은 휠에서 제거)
+    private final Integer enabled;
+
+    // 자정기준 분
+    private final Integer alarmMinute;
+
+    // 울림요일 비트
+    private final Integer weekMask;
+}
@@ -0,0 +1,15 @@
+package com.jagiya.alarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AlarmWeekRow {
+
+    private final Long alarmId;
+
+    private final Long alarmWeekId;
+
+    private final Long weekId;
+}
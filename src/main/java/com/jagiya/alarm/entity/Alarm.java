@@ -8,6 +8,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.DynamicInsert;
 
+import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.Date;
 
 @Data
@@ -24,6 +26,10 @@ import java.util.Date;
 @NoArgsConstructor
 @Schema(description = "Alarm VO")
 public class Alarm {
+
+    // 매일 (월~일 모든 비트)
+    public static final int ALL_WEEK_MASK = 127;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "alarmId")
@@ -46,6 +52,14 @@ public class Alarm {
     @Schema(description = "알람시간")
     private String alarmTime;
 
+    @Column(name = "alarmMinute")
+    @Schema(description = "알람시간 자정기준 분 (0~1439)")
+    private Integer alarmMinute;
+
+    @Column(name = "weekMask")
+    @Schema(description = "울림요일 비트 (월요일 1, 화요일 2, ... 일요일 64, 요일 미지정은 매일 127)")
+    private Integer weekMask;
+
     @Column(name = "reminder")
     @Schema(description = "다시울림")
     private String reminder;
@@ -97,4 +111,38 @@ public class Alarm {
         alarmSoundId = alarmEditor.getAlarmSoundId();
     }
 
+    // alarmTime 과 요일로 조회용 컬럼 갱신
+    public void updateSchedule(Collection<Long> weekIds) {
+        alarmMinute = toAlarmMinute(alarmTime);
+        weekMask = toWeekMask(weekIds);
+    }
+
+    public static Integer toAlarmMinute(String alarmTime) {
+        if (alarmTime == null || !alarmTime.matches("\\d{4}")) {
+            return null;
+        }
+        int hour = Integer.parseInt(alarmTime.substring(0, 2));
+        int minute = Integer.parseInt(alarmTime.substring(2));
+        if (hour > 23 || minute > 59) {
+            return null;
+        }
+        return hour * 60 + minute;
+    }
+
+    // 요일코드(1부터 월요일)를 비트로 변환
+    public static int toWeekMask(Collection<Long> weekIds) {
+        int mask = 0;
+        if (weekIds != null) {
+            for (Long weekId : weekIds) {
+                if (weekId != null && weekId >= 1 && weekId <= 7) {
+                    mask |= 1 << (weekId.intValue() - 1);
+                }
+            }
+        }
+        return mask == 0 ? ALL_WEEK_MASK : mask;
+    }
+
+    public static int toWeekBit(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
 }
@@ -0,0 +1,41 @@
+package com.jagiya.alarm.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+// 사용자별 알람 목록, 상세를 JSON 한 건으로 저장한 조회용 테이블 (알람 변경 트랜잭션에서 함께 갱신)
+@Data
+@Entity(name = "AlarmReadModel")
+@Table(name = "AlarmReadModel")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties()
+@Builder
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "AlarmReadModel VO")
+public class AlarmReadModel {
+    @Id
+    @Column(name = "userId")
+    @Schema(description = "userId")
+    private Long userId;
+
+    @Column(name = "document", columnDefinition = "LONGTEXT")
+    @Schema(description = "알람 목록, 상세 JSON")
+    private String document;
+
+    @Column(name = "version")
+    @Schema(description = "갱신 횟수")
+    private Long version;
+
+    @Column(name = "modifyDate")
+    @Schema(description = "수정일")
+    private Date modifyDate;
+}
@@ -0,0 +1,53 @@
+package com.jagiya.alarm.repository;
+
+import com.jagiya.alarm.dto.AlarmLocationTimeRow;
+import com.jagiya.alarm.dto.AlarmScheduleRow;
+import com.jagiya.alarm.dto.AlarmWeekRow;
+import com.jagiya.alarm.entity.Alarm;
+import com.jagiya.alarm.entity.AlarmLocationTime;
+import com.jagiya.alarm.entity.AlarmReadModel;
+
+import java.time.LocalDateTime;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface AlarmCustomRepository {
+
+    public List<AlarmWeekRow> selectAlarmWeekRowList(List<Long> alarmIds);
+
+    public List<AlarmLocationTimeRow> selectAlarmLocationTimeRowList(List<Long> alarmIds);
+
+    public List<AlarmScheduleRow> selectEnabledAlarmScheduleRowList(Long lastAlarmId, int limit);
+
+    public List<AlarmScheduleRow> selectChangedAlarmScheduleRowList(Date since, Long lastAlarmId, int limit);
+
+    public List<Long> selectEnabledAlarmIdList(Collection<Long> alarmIds);
+
+    public List<Alarm> selectDueAlarmList(LocalDateTime fromDateTime, LocalDateTime toDateTime);
+
+    public void insertAlarmWeekList(Long alarmId, List<Long> weekIds);
+
+    public void insertAlarmLocationTimeList(List<AlarmLocationTime> alarmLocationTimeList);
+
+    public long deleteAlarmWeekByIds(List<Long> alarmWeekIds);
+
+    public long deleteAlarmLocationTimeByIds(List<Long> alarmLocationTimeIds);
+
+    public long deleteAlarmLocationByIds(List<Long> alarmLocationIds);
+
+    public long deleteAlarmGraph(Long alarmId);
+
+    public Long selectAlarmUserId(Long alarmId);
+
+    public String selectAlarmNotiVersion(Long userId, String alarmTime);
+
+    public List<Long> selectAlarmUserIdList(Long lastUserId, int limit);
+
+    public void upsertAlarmReadModelList(List<AlarmReadModel> alarmReadModelList);
+
+    public String selectAlarmReadDocumentByAlarmId(Long alarmId);
+
+    public int deleteAlarmReadModelWithoutAlarm();
+}
@@ -0,0 +1,317 @@
+package com.jagiya.alarm.repository;
+
+import com.jagiya.alarm.dto.AlarmLocationTimeRow;
+import com.jagiya.alarm.dto.AlarmScheduleRow;
+import com.jagiya.alarm.dto.AlarmWeekRow;
+import com.jagiya.alarm.entity.Alarm;
+import com.jagiya.alarm.entity.AlarmLocationTime;
+import com.jagiya.alarm.entity.AlarmReadModel;
+import com.jagiya.alarm.entity.QAlarm;
+import com.jagiya.alarm.entity.QAlarmLocation;
+import com.jagiya.alarm.entity.QAlarmLocationTime;
+import com.jagiya.alarm.entity.QAlarmWeek;
+import com.jagiya.location.entity.QLocation;
+import com.jagiya.location.entity.QLocationGroup;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class AlarmCustomRepositoryImpl implements AlarmCustomRepository {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_ALARM_WEEK_SQL =
+            "INSERT INTO AlarmWeek (alarmId, weekId, regDate) VALUES (?, ?, NOW())";
+
+    private static final String INSERT_ALARM_LOCATION_TIME_SQL =
+            "INSERT INTO AlarmLocationTime (alarmLocationId, locationTime, regDate) VALUES (?, ?, NOW())";
+
+    private static final String UPSERT_ALARM_READ_MODEL_SQL =
+            "INSERT INTO AlarmReadModel (userId, document, version, modifyDate) VALUES (?, ?, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE document = VALUES(document), version = version + 1, modifyDate = NOW()";
+
+    private static final String SELECT_ALARM_READ_DOCUMENT_BY_ALARM_ID_SQL =
+            "SELECT r.document FROM Alarm a JOIN AlarmReadModel r ON r.userId = a.userId WHERE a.alarmId = ?";
+
+    private static final String DELETE_ALARM_READ_MODEL_WITHOUT_ALARM_SQL =
+            "DELETE r FROM AlarmReadModel r LEFT JOIN Alarm a ON a.userId = r.userId WHERE a.alarmId IS NULL";
+
+    @Override
+    public List<AlarmWeekRow> selectAlarmWeekRowList(List<Long> alarmIds) {
+        if (alarmIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QAlarmWeek alarmWeek = QAlarmWeek.alarmWeek;
+        return jpaQueryFactory.select(Projections.constructor(AlarmWeekRow.class,
+                        alarmWeek.alarm.alarmId,
+                        alarmWeek.alarmWeekId,
+                        alarmWeek.week.weekId))
+                .from(alarmWeek)
+                .where(alarmWeek.alarm.alarmId.in(alarmIds))
+                .orderBy(alarmWeek.alarmWeekId.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<AlarmLocationTimeRow> selectAlarmLocationTimeRowList(List<Long> alarmIds) {
+        if (alarmIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QAlarmLocation alarmLocation = QAlarmLocation.alarmLocation;
+        QAlarmLocationTime alarmLocationTime = QAlarmLocationTime.alarmLocationTime;
+        QLocation location = QLocation.location;
+        QLocationGroup locationGroup = QLocationGroup.locationGroup;
+        return jpaQueryFactory.select(Projections.constructor(AlarmLocationTimeRow.class,
+                        alarmLocation.alarm.alarmId,
+                        alarmLocation.alarmLocationId,
+                        location.cityDo,
+                        location.guGun,
+                        location.eupMyun,
+                        location.regionCd,
+                        locationGroup,
+                        alarmLocationTime.alarmLocationTimeId,
+                        alarmLocationTime.locationTime))
+                .from(alarmLocation)
+                .join(alarmLocation.location, location)
+                .join(location.locationGroup, locationGroup)
+                .leftJoin(alarmLocationTime).on(alarmLocationTime.alarmLocation.eq(alarmLocation))
+                .where(alarmLocation.alarm.alarmId.in(alarmIds))
+                .orderBy(alarmLocation.alarm.alarmId.asc(), alarmLocation.alarmLocationId.asc(), alarmLocationTime.locationTime.asc())
+                .fetch();
+    }
+
+    // 활성 알람을 alarmId 순으로 나누어 조회
+    @Override
+    public List<AlarmScheduleRow> selectEnabledAlarmScheduleRowList(Long lastAlarmId, int limit) {
+        QAlarm alarm = QAlarm.alarm;
+        return jpaQueryFactory.select(Projections.constructor(AlarmScheduleRow.class,
+                        alarm.alarmId,
+                        alarm.enabled,
+                        alarm.alarmMinute,
+                        alarm.weekMask))
+                .from(alarm)
+                .where(alarm.enabled.eq(1), alarm.alarmId.gt(lastAlarmId))
+                .orderBy(alarm.alarmId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // since 이후 등록, 수정된 알람 (비활성 포함)
+    @Override
+    public List<AlarmScheduleRow> selectChangedAlarmScheduleRowList(Date since, Long lastAlarmId, int limit) {
+        QAlarm alarm = QAlarm.alarm;
+        return jpaQueryFactory.select(Projections.constructor(AlarmScheduleRow.class,
+                        alarm.alarmId,
+                        alarm.enabled,
+                        alarm.alarmMinute,
+                        alarm.weekMask))
+                .from(alarm)
+                .where(alarm.regDate.goe(since).or(alarm.modifyDate.goe(since)), alarm.alarmId.gt(lastAlarmId))
+                .orderBy(alarm.alarmId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 목록 중 아직 있고 활성인 알람
+    @Override
+    public List<Long> selectEnabledAlarmIdList(Collection<Long> alarmIds) {
+        if (alarmIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QAlarm alarm = QAlarm.alarm;
+        return jpaQueryFactory.select(alarm.alarmId)
+                .from(alarm)
+                .where(alarm.alarmId.in(alarmIds), alarm.enabled.eq(1))
+                .fetch();
+    }
+
+    // 기간을 날짜별로 나누어 (enabled, alarmMinute) 인덱스 범위 조회, 요일은 해당 날짜의 비트로 확인
+    // 자정을 넘는 기간(2345 ~ 0044)은 오늘 1425~1439분, 내일 0~44분 두 범위로 조회
+    @Override
+    public List<Alarm> selectDueAlarmList(LocalDateTime fromDateTime, LocalDateTime toDateTime) {
+        QAlarm alarm = QAlarm.alarm;
+        BooleanBuilder dueBuilder = new BooleanBuilder();
+        LocalDateTime segmentFrom = fromDateTime;
+        while (!segmentFrom.isAfter(toDateTime)) {
+            LocalDateTime dayEnd = segmentFrom.toLocalDate().atTime(23, 59);
+            LocalDateTime segmentTo = toDateTime.isBefore(dayEnd) ? toDateTime : dayEnd;
+            int weekBit = Alarm.toWeekBit(segmentFrom.getDayOfWeek());
+            dueBuilder.or(alarm.alarmMinute.between(getMinuteOfDay(segmentFrom), getMinuteOfDay(segmentTo))
+                    .and(Expressions.numberTemplate(Integer.class, "bitand({0}, {1})", alarm.weekMask, weekBit).ne(0)));
+            segmentFrom = segmentFrom.toLocalDate().plusDays(1).atStartOfDay();
+        }
+        return jpaQueryFactory.selectFrom(alarm)
+                .where(alarm.enabled.eq(1), dueBuilder)
+                .orderBy(alarm.alarmId.asc())
+                .fetch();
+    }
+
+    private int getMinuteOfDay(LocalDateTime dateTime) {
+        return dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    // IDENTITY 키는 Hibernate 배치가 불가능하므로 JDBC 배치로 한번에 등록
+    @Override
+    public void insertAlarmWeekList(Long alarmId, List<Long> weekIds) {
+        if (weekIds == null || weekIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long weekId : weekIds) {
+            batchArgs.add(new Object[]{alarmId, weekId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ALARM_WEEK_SQL, batchArgs);
+    }
+
+    @Override
+    public void insertAlarmLocationTimeList(List<AlarmLocationTime> alarmLocationTimeList) {
+        if (alarmLocationTimeList.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (AlarmLocationTime alarmLocationTime : alarmLocationTimeList) {
+            batchArgs.add(new Object[]{alarmLocationTime.getAlarmLocation().getAlarmLocationId(), alarmLocationTime.getLocationTime()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ALARM_LOCATION_TIME_SQL, batchArgs);
+    }
+
+    @Override
+    public long deleteAlarmWeekByIds(List<Long> alarmWeekIds) {
+        if (alarmWeekIds.isEmpty()) {
+            return 0;
+        }
+        QAlarmWeek alarmWeek = QAlarmWeek.alarmWeek;
+        return jpaQueryFactory.delete(alarmWeek)
+                .where(alarmWeek.alarmWeekId.in(alarmWeekIds))
+                .execute();
+    }
+
+    @Override
+    public long deleteAlarmLocationTimeByIds(List<Long> alarmLocationTimeIds) {
+        if (alarmLocationTimeIds.isEmpty()) {
+            return 0;
+        }
+        QAlarmLocationTime alarmLocationTime = QAlarmLocationTime.alarmLocationTime;
+        return jpaQueryFactory.delete(alarmLocationTime)
+                .where(alarmLocationTime.alarmLocationTimeId.in(alarmLocationTimeIds))
+                .execute();
+    }
+
+    // 지역 시간부터 삭제 후 지역 삭제
+    @Override
+    public long deleteAlarmLocationByIds(List<Long> alarmLocationIds) {
+        if (alarmLocationIds.isEmpty()) {
+            return 0;
+        }
+        QAlarmLocation alarmLocation = QAlarmLocation.alarmLocation;
+        QAlarmLocationTime alarmLocationTime = QAlarmLocationTime.alarmLocationTime;
+        jpaQueryFactory.delete(alarmLocationTime)
+                .where(alarmLocationTime.alarmLocation.alarmLocationId.in(alarmLocationIds))
+                .execute();
+        return jpaQueryFactory.delete(alarmLocation)
+                .where(alarmLocation.alarmLocationId.in(alarmLocationIds))
+                .execute();
+    }
+
+    // 알람 하위 데이터(요일, 지역시간, 지역) 및 알람 삭제
+    @Override
+    public long deleteAlarmGraph(Long alarmId) {
+        QAlarm alarm = QAlarm.alarm;
+        QAlarmWeek alarmWeek = QAlarmWeek.alarmWeek;
+        QAlarmLocation alarmLocation = QAlarmLocation.alarmLocation;
+        QAlarmLocationTime alarmLocationTime = QAlarmLocationTime.alarmLocationTime;
+        jpaQueryFactory.delete(alarmWeek)
+                .where(alarmWeek.alarm.alarmId.eq(alarmId))
+                .execute();
+        jpaQueryFactory.delete(alarmLocationTime)
+                .where(alarmLocationTime.alarmLocation.alarmLocationId.in(
+                        JPAExpressions.select(alarmLocation.alarmLocationId)
+                                .from(alarmLocation)
+                                .where(alarmLocation.alarm.alarmId.eq(alarmId))))
+                .execute();
+        jpaQueryFactory.delete(alarmLocation)
+                .where(alarmLocation.alarm.alarmId.eq(alarmId))
+                .execute();
+        return jpaQueryFactory.delete(alarm)
+                .where(alarm.alarmId.eq(alarmId))
+                .execute();
+    }
+
+    @Override
+    public Long selectAlarmUserId(Long alarmId) {
+        QAlarm alarm = QAlarm.alarm;
+        return jpaQueryFactory.select(alarm.user.userId)
+                .from(alarm)
+                .where(alarm.alarmId.eq(alarmId))
+                .fetchOne();
+    }
+
+    // 사용자의 같은 시간 활성 알람 수와 최근 등록일, 수정일 (등록, 수정, 삭제, 활성 변경시 달라짐)
+    @Override
+    public String selectAlarmNotiVersion(Long userId, String alarmTime) {
+        QAlarm alarm = QAlarm.alarm;
+        Tuple tuple = jpaQueryFactory.select(alarm.count(), alarm.regDate.max(), alarm.modifyDate.max())
+                .from(alarm)
+                .where(alarm.user.userId.eq(userId), alarm.alarmTime.eq(alarmTime), alarm.enabled.eq(1))
+                .fetchOne();
+        if (tuple == null) {
+            return null;
+        }
+        Date regDate = tuple.get(alarm.regDate.max());
+        Date modifyDate = tuple.get(alarm.modifyDate.max());
+        return tuple.get(alarm.count()) + ":" + (regDate == null ? 0 : regDate.getTime()) + ":" + (modifyDate == null ? 0 : modifyDate.getTime());
+    }
+
+    // 알람이 있는 사용자를 userId 순으로 나누어 조회
+    @Override
+    public List<Long> selectAlarmUserIdList(Long lastUserId, int limit) {
+        QAlarm alarm = QAlarm.alarm;
+        return jpaQueryFactory.select(alarm.user.userId)
+                .distinct()
+                .from(alarm)
+                .where(alarm.user.userId.gt(lastUserId))
+                .orderBy(alarm.user.userId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public void upsertAlarmReadModelList(List<AlarmReadModel> alarmReadModelList) {
+        if (alarmReadModelList.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (AlarmReadModel alarmReadModel : alarmReadModelList) {
+            batchArgs.add(new Object[]{alarmReadModel.getUserId(), alarmReadModel.getDocument()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ALARM_READ_MODEL_SQL, batchArgs);
+    }
+
+    // 알람이 속한 사용자의 조회용 데이터 (없으면 null)
+    @Override
+    public String selectAlarmReadDocumentByAlarmId(Long alarmId) {
+        List<String> documentList = jdbcTemplate.queryForList(SELECT_ALARM_READ_DOCUMENT_BY_ALARM_ID_SQL, String.class, alarmId);
+        return documentList.isEmpty() ? null : documentList.get(0);
+    }
+
+    // 알람이 모두 삭제된 사용자 정리
+    @Override
+    public int deleteAlarmReadModelWithoutAlarm() {
+        return jdbcTemplate.update(DELETE_ALARM_READ_MODEL_WITHOUT_ALARM_SQL);
+    }
+}
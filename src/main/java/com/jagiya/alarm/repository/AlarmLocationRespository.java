@@ -11,7 +11,5 @@ public interface AlarmLocationRespository extends JpaRepository<AlarmLocation, L
 
     List<AlarmLocation> findByAlarmAlarmId(Long alarmId);
 
-    Long deleteByAlarmAlarmId(Long alarmId);
-
 
 }
@@ -13,6 +13,4 @@ public interface AlarmLocationTimeRespository extends JpaRepository<AlarmLocatio
     List<AlarmLocationTime> findByAlarmLocationAlarmLocationId(Long alarmLocationId);
 
 
-    Long deleteByAlarmLocationAlarmLocationId(Long alarmLocationId);
-
 }
@@ -0,0 +1,8 @@
+package com.jagiya.alarm.repository;
+
+import com.jagiya.alarm.entity.AlarmReadModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AlarmReadModelRepository extends JpaRepository<AlarmReadModel, Long> {
+
+}
@@ -3,13 +3,14 @@ package com.jagiya.alarm.repository;
 import com.jagiya.alarm.entity.Alarm;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 
     List<Alarm> findByUserUserId(Long userId);
 
-    List<Alarm> findByEnabledAndAlarmTimeBetween(Integer enabled, String fromTime, String toTime);
+    List<Alarm> findByUserUserIdIn(Collection<Long> userIds);
 
     List<Alarm> findByUserUserIdAndAlarmTimeAndEnabledOrderByAlarmId(Long userId, String alarmTime, Integer enabled);
 }
@@ -10,6 +10,4 @@ public interface AlarmWeekRepository extends JpaRepository<AlarmWeek, Long> {
 
     List<AlarmWeek> findByAlarmAlarmId(Long alarmId);
 
-    Long deleteByAlarmAlarmId(Long alarmId);
-
 }
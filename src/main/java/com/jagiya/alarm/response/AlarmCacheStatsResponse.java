@@ -0,0 +1,28 @@
+package com.jagiya.alarm.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AlarmCacheStatsResponse {
+
+    @Schema(description = "알람 캐시 적중 수", example = "1200", name = "cacheHit")
+    private long cacheHit;
+
+    @Schema(description = "알람 캐시 미적중 수", example = "80", name = "cacheMiss")
+    private long cacheMiss;
+
+    @Schema(description = "알람 캐시 적중률", example = "0.93", name = "cacheHitRatio")
+    private double cacheHitRatio;
+
+    @Schema(description = "최대 사용자 수 초과로 제거된 수", example = "0", name = "cacheEviction")
+    private long cacheEviction;
+
+    @Schema(description = "미사용 시간 경과로 만료된 수", example = "40", name = "cacheExpired")
+    private long cacheExpired;
+
+    @Schema(description = "현재 캐시된 사용자 수", example = "500", name = "cacheSize")
+    private int cacheSize;
+}
@@ -2,13 +2,17 @@ package com.jagiya.alarm.response;
 
 import com.jagiya.alarm.request.AlarmLocationTimeRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AlarmLocationDetailResponse {
     @Schema(description = "알람지역ID", example = "1", name = "alarmLocationId")
     private Long alarmLocationId;
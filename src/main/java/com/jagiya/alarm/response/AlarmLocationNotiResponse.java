@@ -18,5 +18,7 @@ public class AlarmLocationNotiResponse {
     private String timeOfDay;
     @Schema(description = "다시울림분", example = "35", name = "reminder")
     private String reminder;
+    @Schema(description = "이전 발표 기준 예보 포함여부", example = "false", name = "stale")
+    private boolean stale;
 
 }
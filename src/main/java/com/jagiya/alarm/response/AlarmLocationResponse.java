@@ -2,11 +2,15 @@ package com.jagiya.alarm.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AlarmLocationResponse {
 
     @Schema(description = "시도", example = "부천시", name = "cityDo")
@@ -1,6 +1,8 @@
 package com.jagiya.alarm.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -13,5 +15,10 @@ public class AlarmLocationWeatherDataResponse {
     private String timeOfDay;
     @Schema(description = "지역설정시간", example = "0800", name = "locationTime")
     private String locationTime;
+    @Schema(description = "이전 발표 기준 예보여부", example = "false", name = "stale")
+    private boolean stale;
+    @Hidden
+    @JsonIgnore
+    private String fcstTime;
 
 }
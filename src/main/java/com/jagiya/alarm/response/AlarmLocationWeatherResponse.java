@@ -37,6 +37,9 @@ public class AlarmLocationWeatherResponse {
     @Schema(description = "비가오는지역여부", example = "true", name = "locationRain")
     private boolean locationRain;
 
+    @Schema(description = "이전 발표 기준 예보 포함여부", example = "false", name = "stale")
+    private boolean stale;
+
     @Schema(description = "알람지역날씨목록", name = "alarmLocationWeatherList")
     private List<AlarmLocationWeatherDataResponse> alarmLocationWeatherList;
 }
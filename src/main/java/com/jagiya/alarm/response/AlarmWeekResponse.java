@@ -1,11 +1,15 @@
 package com.jagiya.alarm.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AlarmWeekResponse {
 
     @Schema(description = "알람요일ID", example = "1", name = "alarmWeekId")
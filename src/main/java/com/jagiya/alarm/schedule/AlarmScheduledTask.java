@@ -1,21 +1,89 @@
 package com.jagiya.alarm.schedule;
 
 import com.jagiya.alarm.service.AlarmService;
-import com.jagiya.weather.service.WeatherService;
+import com.jagiya.alarm.service.AlarmTimingWheel;
+import com.jagiya.common.service.JobLeaseManager;
+import com.jagiya.common.service.ScheduledJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AlarmScheduledTask {
     private final AlarmService alarmService;
+
+    private final AlarmTimingWheel alarmTimingWheel;
+
+    private final JobLeaseManager jobLeaseManager;
+
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    // 알람 실행 임대의 마지막 fencingToken (중간에 다른 서버가 가져갔었는지 확인용)
+    private Long lastDispatchToken;
+
+    // 예보 갱신은 살아있는 서버 수로 격자를 나누어 실행, 알림 결과 저장소는 서버별이므로 각자 계산
+    // API 호출은 alarm.refresh.spreadMillis 동안 나누어 실행
     @Scheduled(cron = "0 45 * * * ?")
-    public void runTask() throws Exception {
-        log.info("alarm Scheduled start");
-        alarmService.refreshAlarmLocationWeather();
-        log.info("alarm Scheduled end");
+    public void runTask() {
+        scheduledJobRunner.submit("alarmRefreshWeather", () -> {
+            log.info("alarm Scheduled start");
+            jobLeaseManager.runPartitioned("alarmRefreshWeather", 30 * 60, alarmService::refreshAlarmLocationWeather);
+            alarmService.precomputeAlarmNoti();
+            log.info("alarm Scheduled end");
+        });
+    }
+
+    // 매 분 정각에 해당 분의 알람 실행 (임대를 가진 서버가 계속 연장하며 실행)
+    @Scheduled(cron = "0 * * * * ?")
+    public void dispatchTask() {
+        LocalDateTime now = LocalDateTime.now();
+        scheduledJobRunner.submit("alarmDispatch", () -> dispatch(now));
+    }
+
+    // 이전 tick 이 늦어져 건너뛴 분은 다음 tick 에서 보충됨
+    private void dispatch(LocalDateTime now) {
+        boolean ran = jobLeaseManager.runOnce("alarmDispatch", 90, partition -> {
+            // 처음 임대를 받았거나 다른 서버가 실행하던 것을 가져온 경우 전체 재적재, 계속 실행중이면 변경분만 반영
+            Long fencingToken = partition.getFencingToken();
+            if (fencingToken != null && (lastDispatchToken == null || fencingToken != lastDispatchToken + 1)) {
+                alarmTimingWheel.load();
+            } else {
+                alarmTimingWheel.syncChanges();
+            }
+            lastDispatchToken = fencingToken;
+
+            int fired = alarmTimingWheel.tick(now);
+            if (fired > 0) {
+                log.info("alarm dispatch fired {}, elapsed {}ms", fired, alarmTimingWheel.getLastTickMillis());
+            }
+        });
+        if (!ran) {
+            alarmTimingWheel.skip(now);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTimingWheel() {
+        alarmTimingWheel.load();
+    }
+
+    // 변경분 동기화에서 놓친 알람이 없도록 매일 전체 재적재
+    @Scheduled(cron = "${alarm.dispatch.reloadCron:0 30 4 * * ?}")
+    public void reloadTimingWheel() {
+        scheduledJobRunner.submit("alarmTimingWheelReload", alarmTimingWheel::load);
+    }
+
+    // 알람 조회용 테이블 전체 재생성
+    @Scheduled(cron = "${alarm.readModel.rebuildCron:0 0 5 * * SUN}")
+    public void rebuildAlarmReadModel() {
+        scheduledJobRunner.submit("alarmReadModelRebuild",
+                () -> jobLeaseManager.runOnce("alarmReadModelRebuild", 60 * 60, partition -> alarmService.rebuildAlarmReadModel()));
     }
 }
@@ -0,0 +1,301 @@
+package com.jagiya.alarm.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jagiya.alarm.response.AlarmDetailResponse;
+import com.jagiya.alarm.response.AlarmResponse;
+import com.jagiya.common.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 사용자별 알람 목록, 알람 상세 캐시 (최대 사용자 수 초과시 LRU 제거, 미사용 idleMinutes 경과시 만료)
+// 무효화는 서버마다 따로 이루어지므로 다른 서버의 변경은 ttlSeconds 이내에 반영되도록 저장 후 ttlSeconds 가 지나면 만료
+// 값은 JSON 으로 저장하고 조회할 때마다 새 객체로 만들어 호출한 쪽에서 변경해도 캐시에 영향이 없도록 함
+@Component
+@Slf4j
+public class AlarmCache {
+
+    private static final TypeReference<List<AlarmResponse>> ALARM_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    private final int maxUsers;
+
+    private final long idleMillis;
+
+    private final long ttlMillis;
+
+    // 접근 순서 (가장 오래 사용하지 않은 사용자가 앞)
+    private final LinkedHashMap<Long, UserEntry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 알람ID -> 사용자ID (상세 조회, 무효화용)
+    private final Map<Long, Long> alarmUserMap = new HashMap<>();
+
+    // 무효화 시 증가, 조회 시작 이후 무효화가 있었으면 조회 결과를 저장하지 않음
+    private long stamp;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private long expiredCount;
+
+    public AlarmCache(ObjectMapper objectMapper,
+                      @Value("${alarm.cache.maxUsers:10000}") int maxUsers,
+                      @Value("${alarm.cache.idleMinutes:30}") long idleMinutes,
+                      @Value("${alarm.cache.ttlSeconds:30}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.maxUsers = maxUsers;
+        this.idleMillis = idleMinutes * 60 * 1000;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public synchronized long getStamp() {
+        return stamp;
+    }
+
+    public List<AlarmResponse> getAlarmList(Long userId) {
+        byte[] alarmList;
+        synchronized (this) {
+            UserEntry entry = getEntry(userId);
+            alarmList = entry == null ? null : entry.alarmList;
+            if (alarmList == null) {
+                missCount++;
+                return null;
+            }
+            hitCount++;
+        }
+        return read(alarmList, ALARM_LIST_TYPE);
+    }
+
+    public void putAlarmList(Long userId, List<AlarmResponse> alarmList, long loadStamp) {
+        if (userId == null) {
+            return;
+        }
+        byte[] value = write(alarmList);
+        if (value == null) {
+            return;
+        }
+        synchronized (this) {
+            if (loadStamp != stamp) {
+                return;
+            }
+            UserEntry entry = getOrCreateEntry(userId);
+            entry.alarmList = value;
+            for (AlarmResponse alarmResponse : alarmList) {
+                entry.alarmIds.add(alarmResponse.getAlarmId());
+                alarmUserMap.put(alarmResponse.getAlarmId(), userId);
+            }
+        }
+    }
+
+    public AlarmDetailResponse getAlarmDetail(Long alarmId) {
+        byte[] alarmDetail;
+        synchronized (this) {
+            Long userId = alarmUserMap.get(alarmId);
+            UserEntry entry = userId == null ? null : getEntry(userId);
+            alarmDetail = entry == null ? null : entry.detailMap.get(alarmId);
+            if (alarmDetail == null) {
+                missCount++;
+                return null;
+            }
+            hitCount++;
+        }
+        return read(alarmDetail, AlarmDetailResponse.class);
+    }
+
+    public void putAlarmDetail(AlarmDetailResponse alarmDetailResponse, long loadStamp) {
+        Long userId = alarmDetailResponse.getUserId();
+        if (userId == null) {
+            return;
+        }
+        byte[] value = write(alarmDetailResponse);
+        if (value == null) {
+            return;
+        }
+        synchronized (this) {
+            if (loadStamp != stamp) {
+                return;
+            }
+            UserEntry entry = getOrCreateEntry(userId);
+            entry.detailMap.put(alarmDetailResponse.getAlarmId(), value);
+            alarmUserMap.put(alarmDetailResponse.getAlarmId(), userId);
+        }
+    }
+
+    // 변경 즉시, 커밋 후 한번 더 무효화 (커밋 전 다른 요청이 이전 값을 다시 저장하지 않도록)
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        removeUser(userId);
+        TransactionUtils.afterCommit(() -> removeUser(userId));
+    }
+
+    // 등록, 수정 결과를 커밋 후 상세 캐시에 저장
+    public void writeThrough(AlarmDetailResponse alarmDetailResponse) {
+        Long userId = alarmDetailResponse.getUserId();
+        if (userId == null) {
+            return;
+        }
+        removeUser(userId);
+        TransactionUtils.afterCommit(() -> {
+            byte[] value = write(alarmDetailResponse);
+            synchronized (this) {
+                removeUser(userId);
+                if (value != null) {
+                    UserEntry entry = getOrCreateEntry(userId);
+                    entry.detailMap.put(alarmDetailResponse.getAlarmId(), value);
+                    alarmUserMap.put(alarmDetailResponse.getAlarmId(), userId);
+                }
+            }
+        });
+    }
+
+    private synchronized void removeUser(Long userId) {
+        stamp++;
+        removeEntry(userId);
+    }
+
+    private UserEntry getEntry(Long userId) {
+        UserEntry entry = cache.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (now - entry.lastAccessMillis > idleMillis || now - entry.createMillis > ttlMillis) {
+            removeEntry(userId);
+            expiredCount++;
+            return null;
+        }
+        entry.lastAccessMillis = now;
+        return entry;
+    }
+
+    private UserEntry getOrCreateEntry(Long userId) {
+        UserEntry entry = cache.get(userId);
+        if (entry == null) {
+            evictIdle();
+            entry = new UserEntry();
+            entry.createMillis = System.currentTimeMillis();
+            cache.put(userId, entry);
+            if (cache.size() > maxUsers) {
+                Long eldestUserId = cache.keySet().iterator().next();
+                removeEntry(eldestUserId);
+                evictionCount++;
+            }
+        }
+        entry.lastAccessMillis = System.currentTimeMillis();
+        return entry;
+    }
+
+    // 앞쪽(오래 사용하지 않은 순)부터 만료된 사용자 제거
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Long, UserEntry>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, UserEntry> eldest = iterator.next();
+            if (now - eldest.getValue().lastAccessMillis <= idleMillis) {
+                break;
+            }
+            iterator.remove();
+            removeAlarmIndex(eldest.getValue());
+            expiredCount++;
+        }
+    }
+
+    private void removeEntry(Long userId) {
+        UserEntry entry = cache.remove(userId);
+        if (entry != null) {
+            removeAlarmIndex(entry);
+        }
+    }
+
+    private void removeAlarmIndex(UserEntry entry) {
+        for (Long alarmId : entry.alarmIds) {
+            alarmUserMap.remove(alarmId);
+        }
+        for (Long alarmId : entry.detailMap.keySet()) {
+            alarmUserMap.remove(alarmId);
+        }
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            log.error("알람 캐시 저장 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T read(byte[] value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (Exception e) {
+            log.error("알람 캐시 조회 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T read(byte[] value, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (Exception e) {
+            log.error("알람 캐시 조회 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized double getHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getExpiredCount() {
+        return expiredCount;
+    }
+
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    private static class UserEntry {
+
+        // 알람 목록 JSON
+        private byte[] alarmList;
+
+        private final Set<Long> alarmIds = new HashSet<>();
+
+        // 알람ID -> 알람 상세 JSON
+        private final Map<Long, byte[]> detailMap = new HashMap<>();
+
+        private long createMillis;
+
+        private long lastAccessMillis;
+    }
+}
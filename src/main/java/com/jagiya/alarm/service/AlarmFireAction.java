@@ -0,0 +1,11 @@
+package com.jagiya.alarm.service;
+
+import java.time.LocalDateTime;
+
+// 알람 시각에 실행할 작업 (alarm.dispatch.action 이름으로 선택)
+public interface AlarmFireAction {
+
+    public String getName();
+
+    public void fire(Long alarmId, LocalDateTime fireDateTime);
+}
@@ -0,0 +1,143 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.dto.AlarmNotiPayload;
+import com.jagiya.weather.dto.WeatherRefreshedEvent;
+import com.jagiya.weather.entity.Weather;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 곧 울릴 알람의 응답을 미리 저장 (알람 수정시, 새 예보로 비 여부가 바뀌면 삭제)
+@Component
+@Slf4j
+public class AlarmNotiStore {
+
+    private final Map<Long, AlarmNotiPayload> payloadMap = new ConcurrentHashMap<>();
+
+    // 비 여부 키(locationGroupId:fcstDate:fcstTime) -> 알람 (예보 갱신시 해당 알람만 확인)
+    private final Map<String, Set<Long>> rainKeyIndex = new HashMap<>();
+
+    // 사용자 -> 알람
+    private final Map<Long, Set<Long>> userIndex = new HashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public AlarmNotiPayload get(Long alarmId, String fcstDate) {
+        AlarmNotiPayload payload = payloadMap.get(alarmId);
+        if (payload == null || !StringUtils.equals(payload.getFcstDate(), fcstDate)
+                || LocalDateTime.now().isAfter(payload.getExpireDateTime())) {
+            if (payload != null) {
+                remove(alarmId, payload);
+            }
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return payload;
+    }
+
+    public synchronized void put(AlarmNotiPayload payload) {
+        Long alarmId = payload.getAlarmId();
+        AlarmNotiPayload before = payloadMap.put(alarmId, payload);
+        if (before != null) {
+            unindex(before);
+        }
+        for (String rainKey : payload.getRainMap().keySet()) {
+            rainKeyIndex.computeIfAbsent(rainKey, key -> new HashSet<>()).add(alarmId);
+        }
+        userIndex.computeIfAbsent(payload.getUserId(), key -> new HashSet<>()).add(alarmId);
+    }
+
+    // 같은 시간대의 다른 알람 결과에도 포함되므로 사용자 단위로 삭제
+    public synchronized void invalidateAlarm(Long alarmId) {
+        AlarmNotiPayload payload = payloadMap.get(alarmId);
+        if (payload != null) {
+            remove(alarmId, payload);
+            invalidateUser(payload.getUserId());
+        }
+    }
+
+    public synchronized void invalidateUser(Long userId) {
+        Set<Long> alarmIds = userIndex.get(userId);
+        if (alarmIds == null) {
+            return;
+        }
+        for (Long alarmId : new ArrayList<>(alarmIds)) {
+            AlarmNotiPayload payload = payloadMap.get(alarmId);
+            if (payload != null) {
+                remove(alarmId, payload);
+            }
+        }
+    }
+
+    // 갱신된 예보의 키에 걸린 알람만 확인 (전체 결과를 예보 건수만큼 훑지 않도록)
+    @EventListener
+    public synchronized void onWeatherRefreshed(WeatherRefreshedEvent event) {
+        if (payloadMap.isEmpty()) {
+            return;
+        }
+        for (Weather weather : event.getWeatherList()) {
+            String key = event.getLocationGroupId() + ":" + weather.getFcstDate() + ":" + weather.getFcstTime();
+            Set<Long> alarmIds = rainKeyIndex.get(key);
+            if (alarmIds == null) {
+                continue;
+            }
+            boolean rain = weather.hasRain();
+            for (Long alarmId : new ArrayList<>(alarmIds)) {
+                AlarmNotiPayload payload = payloadMap.get(alarmId);
+                if (payload == null) {
+                    continue;
+                }
+                Boolean beforeRain = payload.getRainMap().get(key);
+                if (beforeRain == null || beforeRain != rain) {
+                    log.info("예보 변경으로 알람 결과 삭제 alarmId {}, {}", alarmId, key);
+                    remove(alarmId, payload);
+                }
+            }
+        }
+    }
+
+    private synchronized void remove(Long alarmId, AlarmNotiPayload payload) {
+        if (payloadMap.remove(alarmId, payload)) {
+            unindex(payload);
+        }
+    }
+
+    private void unindex(AlarmNotiPayload payload) {
+        Long alarmId = payload.getAlarmId();
+        for (String rainKey : payload.getRainMap().keySet()) {
+            Set<Long> alarmIds = rainKeyIndex.get(rainKey);
+            if (alarmIds != null && alarmIds.remove(alarmId) && alarmIds.isEmpty()) {
+                rainKeyIndex.remove(rainKey);
+            }
+        }
+        Set<Long> alarmIds = userIndex.get(payload.getUserId());
+        if (alarmIds != null && alarmIds.remove(alarmId) && alarmIds.isEmpty()) {
+            userIndex.remove(payload.getUserId());
+        }
+    }
+
+    public int getSize() {
+        return payloadMap.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+}
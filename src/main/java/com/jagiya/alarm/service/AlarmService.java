@@ -1,29 +1,47 @@
 package com.jagiya.alarm.service;
 
+import com.jagiya.alarm.dto.AlarmLocationTimeRow;
+import com.jagiya.alarm.dto.AlarmNotiPayload;
+import com.jagiya.alarm.dto.AlarmReadDocument;
+import com.jagiya.alarm.dto.AlarmWeekRow;
 import com.jagiya.alarm.entity.*;
 import com.jagiya.alarm.enums.TimeOfDay;
 import com.jagiya.alarm.repository.*;
 import com.jagiya.alarm.request.*;
 import com.jagiya.alarm.response.*;
+import com.jagiya.common.dto.JobPartition;
 import com.jagiya.common.exception.CommonException;
+import com.jagiya.common.utils.TransactionUtils;
 import com.jagiya.location.entity.Location;
 import com.jagiya.location.entity.LocationGroup;
 import com.jagiya.location.request.LocationRequest;
 import com.jagiya.location.service.LocationService;
 import com.jagiya.user.entity.User;
+import com.jagiya.weather.dto.WeatherReadResult;
+import com.jagiya.weather.dto.WeatherRefreshTarget;
 import com.jagiya.weather.entity.Weather;
 import com.jagiya.weather.service.WeatherService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -39,6 +57,36 @@ public class AlarmService {
 
     private final AlarmWeekRepository alarmWeekRepository;
 
+    private final AlarmCustomRepository alarmCustomRepository;
+
+    private final AlarmNotiStore alarmNotiStore;
+
+    private final AlarmTimingWheel alarmTimingWheel;
+
+    private final AlarmCache alarmCache;
+
+    private final AlarmReadModelRepository alarmReadModelRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${alarm.readModel.enabled:true}")
+    private boolean readModelEnabled;
+
+    @Value("${alarm.readModel.chunkSize:500}")
+    private int readModelChunkSize;
+
+    @Value("${alarm.readModel.rebuildThreads:4}")
+    private int readModelRebuildThreads;
+
+    @Value("${alarm.noti.ttlMinutes:90}")
+    private long notiPayloadTtlMinutes;
+
+    // 예보 갱신 API 호출을 나누어 실행할 시간 (기본 45분 ~ 55분)
+    @Value("${alarm.refresh.spreadMillis:600000}")
+    private long refreshSpreadMillis;
+
     private final LocationService locationService;
 
     private final WeatherService weatherService;
@@ -47,51 +95,102 @@ public class AlarmService {
 
 
     public List<AlarmResponse> selectAlarmList(Long userId) {
-        List<Alarm> alarmList = alarmRepository.findByUserUserId(userId);
+        List<AlarmResponse> cachedAlarmList = alarmCache.getAlarmList(userId);
+        if (cachedAlarmList != null) {
+            return cachedAlarmList;
+        }
+        long loadStamp = alarmCache.getStamp();
+
+        // 조회용 테이블에 있으면 한건 조회로 응답, 없으면 알람 테이블에서 조회
+        AlarmReadDocument alarmReadDocument = selectAlarmReadDocument(userId);
+        if (alarmReadDocument != null) {
+            alarmCache.putAlarmList(userId, alarmReadDocument.getAlarmList(), loadStamp);
+            for (AlarmDetailResponse alarmDetailResponse : alarmReadDocument.getAlarmDetailList()) {
+                alarmCache.putAlarmDetail(alarmDetailResponse, loadStamp);
+            }
+            return alarmReadDocument.getAlarmList();
+        }
 
-        List<AlarmResponse> alarmResponseList = new ArrayList<>();
+        List<AlarmResponse> alarmResponseList = loadAlarmList(userId);
+        alarmCache.putAlarmList(userId, alarmResponseList, loadStamp);
+        return alarmResponseList;
+    }
 
-        if (alarmList != null && alarmList.size() > 0) {
-            for (Alarm alarm : alarmList) {
-                Long alarmId = alarm.getAlarmId();
-                List<AlarmLocation> alarmLocationList = alarmLocationRespository.findByAlarmAlarmIdOrderByAlarmLocationId(alarmId);
-                List<AlarmLocationResponse> alarmLocationResponseList = new ArrayList<>();
+    // 알람, 요일, 지역/시간을 각각 한번씩 조회하여 알람 수와 관계없이 쿼리 3회로 조회
+    private List<AlarmResponse> loadAlarmList(Long userId) {
+        return loadAlarmReadDocument(userId).getAlarmList();
+    }
 
-                // 주소 목록
-                if (alarmLocationList != null && alarmLocationList.size() > 0) {
-                    for (AlarmLocation alarmLocation : alarmLocationList) {
+    private AlarmReadDocument loadAlarmReadDocument(Long userId) {
+        AlarmReadDocument alarmReadDocument = loadAlarmReadDocumentMap(alarmRepository.findByUserUserId(userId)).get(userId);
+        return alarmReadDocument != null ? alarmReadDocument : new AlarmReadDocument(new ArrayList<>(), new ArrayList<>());
+    }
 
-                        Long alarmLocationId = alarmLocation.getAlarmLocationId();
+    // 알람 목록의 요일, 지역/시간을 한번씩 조회하여 사용자별 목록과 상세를 함께 만듦 (사용자, 알람 수와 관계없이 쿼리 2회)
+    private Map<Long, AlarmReadDocument> loadAlarmReadDocumentMap(List<Alarm> alarmList) {
+        Map<Long, AlarmReadDocument> alarmReadDocumentMap = new LinkedHashMap<>();
 
-                        String cityDo = alarmLocation.getLocation().getCityDo();
-                        String guGun = alarmLocation.getLocation().getGuGun();
-                        String eupMyun = alarmLocation.getLocation().getEupMyun();
+        if (alarmList != null && alarmList.size() > 0) {
+            List<Long> alarmIdList = alarmList.stream().map(Alarm::getAlarmId).collect(Collectors.toList());
+
+            // 요일 목록
+            Map<Long, List<AlarmWeekResponse>> alarmWeekMap = new HashMap<>();
+            for (AlarmWeekRow alarmWeekRow : alarmCustomRepository.selectAlarmWeekRowList(alarmIdList)) {
+                AlarmWeekResponse alarmWeekResponse = AlarmWeekResponse.builder()
+                        .alarmWeekId(alarmWeekRow.getAlarmWeekId())
+                        .weekId(alarmWeekRow.getWeekId())
+                        .build();
+                alarmWeekMap.computeIfAbsent(alarmWeekRow.getAlarmId(), key -> new ArrayList<>()).add(alarmWeekResponse);
+            }
 
-                        List<AlarmLocationTime> alarmLocationTimeList = alarmLocationTimeRespository.findByAlarmLocationAlarmLocationIdOrderByLocationTime(alarmLocationId);
-                        // 오전 오후 종일 체크
-                        String timeOfDay = getTimeOfDayForTimeList(alarmLocationTimeList);
+            // 주소 목록 (알람지역 순서, 지역 내 시간 순서 유지)
+            Map<Long, Map<Long, List<AlarmLocationTimeRow>>> alarmLocationMap = new HashMap<>();
+            for (AlarmLocationTimeRow alarmLocationTimeRow : alarmCustomRepository.selectAlarmLocationTimeRowList(alarmIdList)) {
+                alarmLocationMap.computeIfAbsent(alarmLocationTimeRow.getAlarmId(), key -> new LinkedHashMap<>())
+                        .computeIfAbsent(alarmLocationTimeRow.getAlarmLocationId(), key -> new ArrayList<>())
+                        .add(alarmLocationTimeRow);
+            }
 
-                        AlarmLocationResponse alarmLocationResponse = AlarmLocationResponse.builder()
-                                .cityDo(cityDo)
-                                .guGun(guGun)
-                                .eupMyun(eupMyun)
-                                .timeOfDay(timeOfDay)
-                                .build();
-                        alarmLocationResponseList.add(alarmLocationResponse);
-                    }
-                }
+            for (Alarm alarm : alarmList) {
+                Long alarmId = alarm.getAlarmId();
+                List<AlarmLocationResponse> alarmLocationResponseList = new ArrayList<>();
+                List<AlarmLocationDetailResponse> alarmLocationDetailResponseList = new ArrayList<>();
 
-                // 요일 목록
-                List<AlarmWeekResponse> alarmWeekResponseList = new ArrayList<>();
-                List<AlarmWeek> alarmWeekList = alarmWeekRepository.findByAlarmAlarmId(alarmId);
-                if (alarmWeekList != null && alarmWeekList.size() > 0) {
-                    for (AlarmWeek alarmWeek : alarmWeekList) {
-                        AlarmWeekResponse alarmWeekResponse = AlarmWeekResponse.builder()
-                                .alarmWeekId(alarmWeek.getAlarmWeekId())
-                                .weekId(alarmWeek.getWeek().getWeekId())
-                                .build();
-                        alarmWeekResponseList.add(alarmWeekResponse);
+                Map<Long, List<AlarmLocationTimeRow>> locationTimeRowMap = alarmLocationMap.getOrDefault(alarmId, Collections.emptyMap());
+                for (List<AlarmLocationTimeRow> locationTimeRowList : locationTimeRowMap.values()) {
+                    AlarmLocationTimeRow alarmLocationRow = locationTimeRowList.get(0);
+                    List<String> locationTimeList = new ArrayList<>();
+                    List<AlarmLocationTimeDetailResponse> alarmLocationTimeDetailResponseList = new ArrayList<>();
+                    for (AlarmLocationTimeRow locationTimeRow : locationTimeRowList) {
+                        if (locationTimeRow.getLocationTime() != null) {
+                            locationTimeList.add(locationTimeRow.getLocationTime());
+
+                            AlarmLocationTimeDetailResponse alarmLocationTimeDetailResponse = new AlarmLocationTimeDetailResponse();
+                            alarmLocationTimeDetailResponse.setAlarmLocationTimeId(locationTimeRow.getAlarmLocationTimeId());
+                            alarmLocationTimeDetailResponse.setLocationTime(locationTimeRow.getLocationTime());
+                            alarmLocationTimeDetailResponseList.add(alarmLocationTimeDetailResponse);
+                        }
                     }
+                    // 오전 오후 종일 체크
+                    String timeOfDay = getTimeOfDayForLocationTimeList(locationTimeList);
+
+                    AlarmLocationResponse alarmLocationResponse = AlarmLocationResponse.builder()
+                            .cityDo(alarmLocationRow.getCityDo())
+                            .guGun(alarmLocationRow.getGuGun())
+                            .eupMyun(alarmLocationRow.getEupMyun())
+                            .timeOfDay(timeOfDay)
+                            .build();
+                    alarmLocationResponseList.add(alarmLocationResponse);
+
+                    AlarmLocationDetailResponse alarmLocationDetailResponse = AlarmLocationDetailResponse.builder()
+                            .cityDo(alarmLocationRow.getCityDo())
+                            .guGun(alarmLocationRow.getGuGun())
+                            .eupMyun(alarmLocationRow.getEupMyun())
+                            .regionCd(alarmLocationRow.getRegionCd())
+                            .alarmLocationId(alarmLocationRow.getAlarmLocationId())
+                            .alarmLocationTimeDetail(alarmLocationTimeDetailResponseList)
+                            .build();
+                    alarmLocationDetailResponseList.add(alarmLocationDetailResponse);
                 }
 
                 Integer enabled = alarm.getEnabled();
@@ -99,6 +198,7 @@ public class AlarmService {
                 String asisTime = alarm.getAlarmTime();
                 String timeOfDay = getTimeOfDay(asisTime);
                 String alarmTime = getTime(asisTime, "HHmm", "hhmm");
+                List<AlarmWeekResponse> alarmWeekResponseList = alarmWeekMap.getOrDefault(alarmId, new ArrayList<>());
 
                 AlarmResponse alarmResponse = AlarmResponse.builder()
                         .alarmId(alarmId)
@@ -110,21 +210,36 @@ public class AlarmService {
                         .alarmWeek(alarmWeekResponseList)
                         .build();
 
-                alarmResponseList.add(alarmResponse);
+                AlarmDetailResponse alarmDetailResponse = new AlarmDetailResponse();
+                alarmDetailResponse.setAlarmId(alarmId);
+                alarmDetailResponse.setAlarmSoundId(alarm.getAlarmSoundId());
+                alarmDetailResponse.setTimeOfDay(timeOfDay);
+                alarmDetailResponse.setAlarmTime(alarmTime);
+                alarmDetailResponse.setReminder(alarm.getReminder());
+                alarmDetailResponse.setEnabled(enabled);
+                alarmDetailResponse.setUserId(alarm.getUser().getUserId());
+                alarmDetailResponse.setVibration(vibration);
+                alarmDetailResponse.setVolume(alarm.getVolume());
+                alarmDetailResponse.setAlarmLocation(alarmLocationDetailResponseList);
+                alarmDetailResponse.setAlarmWeek(new ArrayList<>(alarmWeekResponseList));
+
+                AlarmReadDocument alarmReadDocument = alarmReadDocumentMap.computeIfAbsent(alarm.getUser().getUserId(),
+                        key -> new AlarmReadDocument(new ArrayList<>(), new ArrayList<>()));
+                alarmReadDocument.getAlarmList().add(alarmResponse);
+                alarmReadDocument.getAlarmDetailList().add(alarmDetailResponse);
             }
         }
-        return alarmResponseList;
+        return alarmReadDocumentMap;
     }
 
-    private String getTimeOfDayForTimeList(List<AlarmLocationTime> alarmLocationTimeList) {
+    private String getTimeOfDayForLocationTimeList(List<String> locationTimeList) {
 
         try {
             boolean containsAM = false; // 오전 포함 여부
             boolean containsPM = false; // 오후 포함 여부
 
-            for (AlarmLocationTime alarmLocationTime : alarmLocationTimeList) {
+            for (String timeStr : locationTimeList) {
                 // SimpleDateFormat을 사용하여 문자열을 시간 형식으로 파싱
-                String timeStr = alarmLocationTime.getLocationTime();
                 SimpleDateFormat sdf = new SimpleDateFormat("HHmm");
                 Date time = sdf.parse(timeStr);
 
@@ -147,10 +262,10 @@ public class AlarmService {
             } else if (containsPM) {
                 return TimeOfDay.AFTERNOON.getEngName();
             } else {
-                log.error("오전과 오후 모두 포함하지 않습니다. {}", alarmLocationTimeList);
+                log.error("오전과 오후 모두 포함하지 않습니다. {}", locationTimeList);
             }
         } catch (Exception e) {
-            log.error("오전 오후 체크 오류 getTimeOfDayForTimeList {}", e);
+            log.error("오전 오후 체크 오류 getTimeOfDayForLocationTimeList {}", e);
         }
         return null;
     }
@@ -218,6 +333,7 @@ public class AlarmService {
         String time = getTime(alarmTime, timeOfDay);
 
         Alarm alarm = Alarm.builder()
+                    .enabled(1)
                     .alarmTime(time)
                     .reminder(reminder)
                     .vibration(vibration)
@@ -225,27 +341,22 @@ public class AlarmService {
                     .alarmSoundId(alarmSoundId)
                     .user(user)
                     .build();
-            alarmRepository.save(alarm);
-
-        // 요일 저장 기존 요일 삭제 후 등록
         List<AlarmWeekInsertRequest> weekList = alarmInsertRequest.getWeekList();
-        if (weekList != null && weekList.size() > 0) {
-            Long alarmId = alarm.getAlarmId();
-            alarmWeekRepository.deleteByAlarmAlarmId(alarmId);
-            for (AlarmWeekInsertRequest alarmWeekRequest : weekList) {
-                Long weekId = alarmWeekRequest.getWeekId();
-                Week week = Week.builder()
-                        .weekId(weekId)
-                        .build();
-                AlarmWeek alarmWeek = AlarmWeek.builder()
-                        .alarm(alarm)
-                        .week(week)
-                        .build();
-                alarmWeekRepository.save(alarmWeek);
-            }
-        }
+        List<Long> weekIds = weekList == null ? null : weekList.stream().map(AlarmWeekInsertRequest::getWeekId).collect(Collectors.toList());
+        alarm.updateSchedule(weekIds);
+        alarmRepository.save(alarm);
+
+        // 미리 계산된 알림 결과 무효화 (커밋 전에 지우면 그 사이 미리 계산이 이전 결과를 다시 저장할 수 있음)
+        TransactionUtils.afterCommit(() -> alarmNotiStore.invalidateUser(userId));
+
+        // 요일 저장 (신규 알람이므로 기존 요일 없음, 한번에 등록)
+        alarmCustomRepository.insertAlarmWeekList(alarm.getAlarmId(), weekIds);
+
+        // 알람 실행 휠 등록 (신규 알람은 활성)
+        alarmTimingWheel.schedule(alarm.getAlarmId(), alarm.getAlarmMinute(), alarm.getWeekMask());
 
-        // 지역 저장
+        // 지역 저장 (지역 시간은 모아서 한번에 등록)
+        List<AlarmLocationTime> insertAlarmLocationTimeList = new ArrayList<>();
         List<AlarmLocationInsertRequest> AlarmLocationList = alarmInsertRequest.getAlarmLocationList();
         if (AlarmLocationList != null && AlarmLocationList.size() > 0) {
             for (AlarmLocationInsertRequest alarmLocationRequest : AlarmLocationList) {
@@ -268,22 +379,31 @@ public class AlarmService {
                         .build();
                 alarmLocationRespository.save(alarmLocation);
 
-                // 지역 시간 저장 기존값은 전부 삭제 후 저장
+                // 지역 시간 저장 (신규 지역이므로 기존값 없음)
                 List<AlarmLocationTimeInsertRequest> AlarmLocationTimeList = alarmLocationRequest.getAlarmLocationTimeRequest();
                 if (AlarmLocationTimeList != null && AlarmLocationTimeList.size() > 0) {
-                    alarmLocationTimeRespository.deleteByAlarmLocationAlarmLocationId(alarmLocation.getAlarmLocationId());
                     for (AlarmLocationTimeInsertRequest alarmLocationTimeRequest : AlarmLocationTimeList) {
                         String locationTime = alarmLocationTimeRequest.getLocationTime();
                         AlarmLocationTime alarmLocationTime = AlarmLocationTime.builder()
                                 .alarmLocation(alarmLocation)
                                 .locationTime(locationTime)
                                 .build();
-                        alarmLocationTimeRespository.save(alarmLocationTime);
+                        insertAlarmLocationTimeList.add(alarmLocationTime);
                     }
                 }
             }
         }
-        return selectAlarmDetail(alarm.getAlarmId());
+        alarmCustomRepository.insertAlarmLocationTimeList(insertAlarmLocationTimeList);
+
+        AlarmReadDocument alarmReadDocument = refreshAlarmReadModel(userId);
+
+        // 등록 결과를 커밋 후 캐시에 저장 (조회용 데이터를 만들며 생성한 상세를 그대로 사용)
+        AlarmDetailResponse alarmDetailResponse = findAlarmDetail(alarmReadDocument, alarm.getAlarmId());
+        if (alarmDetailResponse == null) {
+            alarmDetailResponse = loadAlarmDetail(alarm.getAlarmId());
+        }
+        alarmCache.writeThrough(alarmDetailResponse);
+        return alarmDetailResponse;
     }
 
     private String getTime(String alarmTime, String timeOfDay) {
@@ -329,6 +449,11 @@ public class AlarmService {
                         .alarmSoundId(alarmSoundId)
                         .build();
                 alarm.edit(alarmEditor);
+
+                // 지역, 요일만 바뀐 경우에도 다른 서버가 미리 계산된 결과를 버리도록 수정일 갱신
+                alarm.setModifyDate(new Date());
+                Long userId = alarm.getUser().getUserId();
+                TransactionUtils.afterCommit(() -> alarmNotiStore.invalidateUser(userId));
             } else {
                 throw new CommonException("알람정보가 올바르지 않습니다.", "444");
             }
@@ -344,26 +469,26 @@ public class AlarmService {
 
         // 기존 값 삭제
         findUniqueValuesAlarmWeek(alarmWeekList, weekList);
-        for (AlarmWeek deleteAlarmWeek : alarmWeekList) {
-            Long alarmWeekId = deleteAlarmWeek.getAlarmWeekId();
-            alarmWeekRepository.deleteById(alarmWeekId);
-        }
+        alarmCustomRepository.deleteAlarmWeekByIds(alarmWeekList.stream().map(AlarmWeek::getAlarmWeekId).collect(Collectors.toList()));
 
         // 새로운 값 등록
         if (weekList != null && weekList.size() > 0) {
+            List<Long> insertWeekIds = new ArrayList<>();
             for (AlarmWeekRequest alarmWeekRequest : weekList) {
                 if (alarmWeekRequest.getAlarmWeekId() == null) {
-                    Long weekId = alarmWeekRequest.getWeekId();
-                    Week week = Week.builder()
-                            .weekId(weekId)
-                            .build();
-                    AlarmWeek alarmWeek = AlarmWeek.builder()
-                            .alarm(alarm)
-                            .week(week)
-                            .build();
-                    alarmWeekRepository.save(alarmWeek);
+                    insertWeekIds.add(alarmWeekRequest.getWeekId());
                 }
             }
+            alarmCustomRepository.insertAlarmWeekList(alarmId, insertWeekIds);
+        }
+
+        // 조회용 시간, 요일 컬럼 및 알람 실행 휠 갱신
+        List<Long> weekIds = weekList == null ? null : weekList.stream().map(AlarmWeekRequest::getWeekId).collect(Collectors.toList());
+        alarm.updateSchedule(weekIds);
+        if (alarm.getEnabled() == null || alarm.getEnabled() == 1) {
+            alarmTimingWheel.schedule(alarmId, alarm.getAlarmMinute(), alarm.getWeekMask());
+        } else {
+            alarmTimingWheel.unschedule(alarmId);
         }
 
         // 지역 등록 및 삭제
@@ -372,14 +497,13 @@ public class AlarmService {
             // 비교를 위해 기존 값 조회
             List<AlarmLocation> alarmLocationList = alarmLocationRespository.findByAlarmAlarmIdOrderByAlarmLocationId(alarmId);
 
-            // 기존값 삭제
+            // 기존값 삭제 (해당 알람지역의 시간부터 삭제 후 삭제)
             findUniqueValuesAlarmLocation(alarmLocationList, alarmLocationRequestList);
-            for (AlarmLocation deleteAlarmLocation : alarmLocationList) {
-                // 해당 알람지역의 시간부터 삭제 후 삭제
-                Long alarmLocationId = deleteAlarmLocation.getAlarmLocationId();
-                alarmLocationTimeRespository.deleteByAlarmLocationAlarmLocationId(alarmLocationId);
-                alarmLocationRespository.deleteById(alarmLocationId);
-            }
+            alarmCustomRepository.deleteAlarmLocationByIds(alarmLocationList.stream().map(AlarmLocation::getAlarmLocationId).collect(Collectors.toList()));
+
+            // 지역 시간 삭제, 등록 대상은 모아서 한번에 처리
+            List<Long> deleteAlarmLocationTimeIds = new ArrayList<>();
+            List<AlarmLocationTime> insertAlarmLocationTimeList = new ArrayList<>();
 
             // 지역등록 및 지역시간 등록 및 수정 삭제
             for (AlarmLocationRequest alarmLocationRequest : alarmLocationRequestList) {
@@ -442,7 +566,7 @@ public class AlarmService {
                                     .alarmLocation(alarmLocation)
                                     .locationTime(locationTime)
                                     .build();
-                            alarmLocationTimeRespository.save(alarmLocationTime);
+                            insertAlarmLocationTimeList.add(alarmLocationTime);
                         }
                     }
                 } else {
@@ -455,7 +579,7 @@ public class AlarmService {
 
                     // 기존 값 삭제
                     for (AlarmLocationTime alarmLocationTime : alarmLocationTimeList) {
-                        alarmLocationTimeRespository.deleteById(alarmLocationTime.getAlarmLocationTimeId());
+                        deleteAlarmLocationTimeIds.add(alarmLocationTime.getAlarmLocationTimeId());
                     }
 
                     // 새로운 값 등록
@@ -467,14 +591,25 @@ public class AlarmService {
                                         .alarmLocation(alarmLocation)
                                         .locationTime(locationTime)
                                         .build();
-                                alarmLocationTimeRespository.save(alarmLocationTime);
+                                insertAlarmLocationTimeList.add(alarmLocationTime);
                             }
                         }
                     }
                 }
             }
+            alarmCustomRepository.deleteAlarmLocationTimeByIds(deleteAlarmLocationTimeIds);
+            alarmCustomRepository.insertAlarmLocationTimeList(insertAlarmLocationTimeList);
+        }
+
+        AlarmReadDocument alarmReadDocument = refreshAlarmReadModel(alarm.getUser().getUserId());
+
+        // 수정 결과를 커밋 후 캐시에 저장 (조회용 데이터를 만들며 생성한 상세를 그대로 사용)
+        AlarmDetailResponse alarmDetailResponse = findAlarmDetail(alarmReadDocument, alarmId);
+        if (alarmDetailResponse == null) {
+            alarmDetailResponse = loadAlarmDetail(alarmId);
         }
-        return selectAlarmDetail(alarmId);
+        alarmCache.writeThrough(alarmDetailResponse);
+        return alarmDetailResponse;
     }
 
     private void findUniqueValuesAlarmLocation(List<AlarmLocation> listA, List<AlarmLocationRequest> listB) {
@@ -526,6 +661,17 @@ public class AlarmService {
                 AlarmEditor.AlarmEditorBuilder editorBuilder = alarm.toEditor();
                 AlarmEditor alarmEditor = editorBuilder.enabled(enabled).build();
                 alarm.edit(alarmEditor);
+                Long userId = alarm.getUser().getUserId();
+                TransactionUtils.afterCommit(() -> alarmNotiStore.invalidateUser(userId));
+                alarmCache.invalidateUser(alarm.getUser().getUserId());
+                refreshAlarmReadModel(alarm.getUser().getUserId());
+
+                // 알람 실행 휠 갱신
+                if (enabled != null && enabled == 1) {
+                    alarmTimingWheel.schedule(alarmId, alarm.getAlarmMinute(), alarm.getWeekMask());
+                } else {
+                    alarmTimingWheel.unschedule(alarmId);
+                }
             } else {
                 throw new CommonException("알람정보가 올바르지 않습니다.", "444");
             }
@@ -535,45 +681,79 @@ public class AlarmService {
     }
 
     public AlarmLocationNotiResponse selectAlarmLocationWeather(Long alarmId) {
-        AlarmLocationNotiResponse alarmLocationNotiResponse = new AlarmLocationNotiResponse();
         if (alarmId != null) {
+            // 미리 계산된 결과가 있으면 바로 응답
+            AlarmNotiPayload payload = getAlarmNotiPayload(alarmId);
+            if (payload != null) {
+                return payload.getNotiResponse();
+            }
+
             Alarm alarm = alarmRepository.findById(alarmId).orElseThrow(() -> new CommonException("알람정보가 올바르지 않습니다.", "444"));
-            String reminder = alarm.getReminder();
-            alarmLocationNotiResponse.setReminder(reminder);
             List<AlarmLocationWeatherResponse> alarmLocationWeatherResponseList = selectAlarmLocationWeatherList(alarmId);
-            TimeOfDay[] timeOfDays = TimeOfDay.values();
-            int locationCnt = 0;
-            String cityDo = "";
-            String guGun = "";
-            String eupMyun = "";
-            String timeOfDayTxt = "";
-            for (AlarmLocationWeatherResponse alarmLocationWeatherResponse : alarmLocationWeatherResponseList) {
-                if (alarmLocationWeatherResponse.isLocationRain()) {
-                    if (locationCnt == 0) {
-                        for (TimeOfDay timeOfDay : timeOfDays) {
-                            if (StringUtils.equals(timeOfDay.getEngName(), alarmLocationWeatherResponse.getTimeOfDay())) {
-                                cityDo = alarmLocationWeatherResponse.getCityDo();
-                                guGun = alarmLocationWeatherResponse.getGuGun();
-                                eupMyun = alarmLocationWeatherResponse.getEupMyun();
-                                timeOfDayTxt = alarmLocationWeatherResponse.getTimeOfDay();
-                            }
+            return getAlarmLocationNotiResponse(alarm, alarmLocationWeatherResponseList);
+        } else {
+            throw new CommonException("알람정보가 올바르지 않습니다.", "443");
+        }
+    }
+
+    // 오늘 울리는 알람의 미리 계산된 결과
+    // 무효화는 서버마다 따로 이루어지므로 다른 서버에서 같은 시간대 알람이 바뀌었으면(버전이 다르면) 버림
+    private AlarmNotiPayload getAlarmNotiPayload(Long alarmId) {
+        AlarmNotiPayload payload = alarmNotiStore.get(alarmId, LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        if (payload == null) {
+            return null;
+        }
+        String version = alarmCustomRepository.selectAlarmNotiVersion(payload.getUserId(), payload.getAlarmTime());
+        if (!StringUtils.equals(payload.getVersion(), version)) {
+            log.info("알람 변경으로 미리 계산된 결과 삭제 alarmId {}", alarmId);
+            alarmNotiStore.invalidateUser(payload.getUserId());
+            return null;
+        }
+        return payload;
+    }
+
+    private AlarmLocationNotiResponse getAlarmLocationNotiResponse(Alarm alarm, List<AlarmLocationWeatherResponse> alarmLocationWeatherResponseList) {
+        AlarmLocationNotiResponse alarmLocationNotiResponse = new AlarmLocationNotiResponse();
+        String reminder = alarm.getReminder();
+        alarmLocationNotiResponse.setReminder(reminder);
+        TimeOfDay[] timeOfDays = TimeOfDay.values();
+        int locationCnt = 0;
+        String cityDo = "";
+        String guGun = "";
+        String eupMyun = "";
+        String timeOfDayTxt = "";
+        boolean stale = false;
+        for (AlarmLocationWeatherResponse alarmLocationWeatherResponse : alarmLocationWeatherResponseList) {
+            stale |= alarmLocationWeatherResponse.isStale();
+            if (alarmLocationWeatherResponse.isLocationRain()) {
+                if (locationCnt == 0) {
+                    for (TimeOfDay timeOfDay : timeOfDays) {
+                        if (StringUtils.equals(timeOfDay.getEngName(), alarmLocationWeatherResponse.getTimeOfDay())) {
+                            cityDo = alarmLocationWeatherResponse.getCityDo();
+                            guGun = alarmLocationWeatherResponse.getGuGun();
+                            eupMyun = alarmLocationWeatherResponse.getEupMyun();
+                            timeOfDayTxt = alarmLocationWeatherResponse.getTimeOfDay();
                         }
                     }
-                    locationCnt += 1;
                 }
+                locationCnt += 1;
             }
-            alarmLocationNotiResponse.setCityDo(cityDo);
-            alarmLocationNotiResponse.setGuGun(guGun);
-            alarmLocationNotiResponse.setEupMyun(eupMyun);
-            alarmLocationNotiResponse.setTimeOfDay(timeOfDayTxt);
-            alarmLocationNotiResponse.setLocationCnt(locationCnt == 0 ? locationCnt : locationCnt - 1);
-            return alarmLocationNotiResponse;
-        } else {
-            throw new CommonException("알람정보가 올바르지 않습니다.", "443");
         }
+        alarmLocationNotiResponse.setCityDo(cityDo);
+        alarmLocationNotiResponse.setGuGun(guGun);
+        alarmLocationNotiResponse.setEupMyun(eupMyun);
+        alarmLocationNotiResponse.setTimeOfDay(timeOfDayTxt);
+        alarmLocationNotiResponse.setLocationCnt(locationCnt == 0 ? locationCnt : locationCnt - 1);
+        alarmLocationNotiResponse.setStale(stale);
+        return alarmLocationNotiResponse;
     }
 
     public List<AlarmLocationWeatherResponse> selectAlarmLocationWeatherList(Long alarmId) {
+        return selectAlarmLocationWeatherList(alarmId, LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+    }
+
+    // baseDate : 예보 조회 기준일 (알람이 울리는 날짜)
+    private List<AlarmLocationWeatherResponse> selectAlarmLocationWeatherList(Long alarmId, String baseDate) {
         List<AlarmLocationWeatherResponse> alarmLocationWeatherResponseList = new ArrayList<>();
         if (alarmId != null) {
             Alarm alarm = alarmRepository.findById(alarmId).orElseThrow(() -> new CommonException("알람 정보가 올바르지 않습니다.", "666"));
@@ -582,160 +762,109 @@ public class AlarmService {
             String alarmTime = alarm.getAlarmTime();
             Long userId = alarm.getUser().getUserId();
             Integer enabled = 1;
-            String baseDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
             List<Alarm> alarmList = alarmRepository.findByUserUserIdAndAlarmTimeAndEnabledOrderByAlarmId(userId, alarmTime, enabled);
 
-            alarmList.stream().forEach(alarmData -> {
-                Long alarmDataId = alarmData.getAlarmId();
+            List<Long> alarmIdList = alarmList.stream().map(Alarm::getAlarmId).collect(Collectors.toList());
 
-                // 알람 지역 조회
-                List<AlarmLocation> alarmLocationList = alarmLocationRespository.findByAlarmAlarmIdOrderByAlarmLocationId(alarmDataId);
-
-                alarmLocationList.stream().forEach(alarmLocation -> {
+            // 동일 지역(법정동코드)은 하나로 합치고 알람 설정 시간 이후의 시간대만 모음
+            Map<String, AlarmLocationWeatherResponse> regionMap = new LinkedHashMap<>();
+            Map<String, TreeSet<String>> regionTimeMap = new HashMap<>();
+            for (AlarmLocationTimeRow row : alarmCustomRepository.selectAlarmLocationTimeRowList(alarmIdList)) {
+                String regionCd = row.getRegionCd();
+                if (!regionMap.containsKey(regionCd)) {
                     AlarmLocationWeatherResponse alarmLocationWeatherResponse = new AlarmLocationWeatherResponse();
-
-                    Long alarmLocationId = alarmLocation.getAlarmLocationId();
-                    LocationGroup locationGroup = alarmLocation.getLocation().getLocationGroup();
-
-                    String cityDo = alarmLocation.getLocation().getCityDo();
-                    String guGun = alarmLocation.getLocation().getGuGun();
-                    String eupMyun = alarmLocation.getLocation().getEupMyun();
-                    String regionCd = alarmLocation.getLocation().getRegionCd();
-
-                    alarmLocationWeatherResponse.setAlarmLocationId(alarmLocationId);
-                    alarmLocationWeatherResponse.setLocationGroup(locationGroup);
-                    alarmLocationWeatherResponse.setCityDo(cityDo);
-                    alarmLocationWeatherResponse.setGuGun(guGun);
-                    alarmLocationWeatherResponse.setEupMyun(eupMyun);
+                    alarmLocationWeatherResponse.setAlarmLocationId(row.getAlarmLocationId());
+                    alarmLocationWeatherResponse.setLocationGroup(row.getLocationGroup());
+                    alarmLocationWeatherResponse.setCityDo(row.getCityDo());
+                    alarmLocationWeatherResponse.setGuGun(row.getGuGun());
+                    alarmLocationWeatherResponse.setEupMyun(row.getEupMyun());
                     alarmLocationWeatherResponse.setRegionCd(regionCd);
+                    regionMap.put(regionCd, alarmLocationWeatherResponse);
+                    regionTimeMap.put(regionCd, new TreeSet<>());
+                }
 
-                    // 알람 지역 시간 조회
-                    List<AlarmLocationTime> alarmLocationTimeList = alarmLocationTimeRespository.findByAlarmLocationAlarmLocationIdOrderByLocationTime(alarmLocationId);
-
-                    List<String> locationTimeList = new ArrayList<>();
-                    alarmLocationTimeList.stream().forEach(alarmLocationTime -> {
-
-                        // 알람 설정 시간 이후의 시간대만 조회
-                        String locationTime = alarmLocationTime.getLocationTime();
-
-                        LocalTime tmpAlarmTime = LocalTime.parse(alarmTime, DateTimeFormatter.ofPattern("HHmm"));
-                        LocalTime tmpLocationTime = LocalTime.parse(locationTime, DateTimeFormatter.ofPattern("HHmm"));
-
-                        if (tmpLocationTime.compareTo(tmpAlarmTime) >= 0) {
-                            locationTimeList.add(locationTime);
-                        }
-                    });
-
-                    alarmLocationWeatherResponse.setLocationTimeList(locationTimeList);
-                    alarmLocationWeatherResponseList.add(alarmLocationWeatherResponse);
-                });
-            });
-
-            // 중복 합치기
-            List<Long> deleteAlarmLocationIdList = new ArrayList<>();
-
-            List<String> useRegionCd = new ArrayList<>();
-            alarmLocationWeatherResponseList.stream().forEach(alarmLocationWeatherResponse -> {
-                Long alarmLocationId = alarmLocationWeatherResponse.getAlarmLocationId();
-                String regionCd = alarmLocationWeatherResponse.getRegionCd();
-                List<String> locationTimeList = alarmLocationWeatherResponse.getLocationTimeList();
-                if (!useRegionCd.contains(regionCd)) {
-                    alarmLocationWeatherResponseList.stream().forEach(alarmLocationWeatherResponseTemp -> {
-                        Long alarmLocationIdTemp = alarmLocationWeatherResponseTemp.getAlarmLocationId();
-                        String regionCdTemp = alarmLocationWeatherResponseTemp.getRegionCd();
-                        List<String> locationTimeListTemp = alarmLocationWeatherResponseTemp.getLocationTimeList();
-                        if (alarmLocationId != alarmLocationIdTemp && StringUtils.equals(regionCd, regionCdTemp)) {
-                            locationTimeList.addAll(locationTimeListTemp);
-                            // 중복제거
-                            List<String> newlocationTimeList = locationTimeList.stream().distinct().collect(Collectors.toList());
-                            // 오름차순
-                            Collections.sort(newlocationTimeList);
-                            alarmLocationWeatherResponse.setLocationTimeList(newlocationTimeList);
-                            deleteAlarmLocationIdList.add(alarmLocationIdTemp);
-                        }
-                    });
+                // HHmm 형식이므로 문자열 비교가 시간 비교와 같음
+                String locationTime = row.getLocationTime();
+                if (locationTime != null && locationTime.compareTo(alarmTime) >= 0) {
+                    regionTimeMap.get(regionCd).add(locationTime);
                 }
-                useRegionCd.add(regionCd);
-            });
-
-            // 중복 데이터 삭제
-            List<Long> newDeleteAlarmLocationIdList = deleteAlarmLocationIdList.stream().distinct().collect(Collectors.toList());
-            Iterator<AlarmLocationWeatherResponse> iterator = alarmLocationWeatherResponseList.iterator();
-            while (iterator.hasNext()) {
-                AlarmLocationWeatherResponse element = iterator.next();
-                Long alarmLocationId = element.getAlarmLocationId();
-
-                for (Long deleteAlarmLocationId : newDeleteAlarmLocationIdList) {
-                    if (alarmLocationId.equals(deleteAlarmLocationId)) {
-                        iterator.remove();
-                    }
+            }
+
+            // 필요한 예보를 한번에 조회
+            List<WeatherRefreshTarget> targetList = new ArrayList<>();
+            for (AlarmLocationWeatherResponse alarmLocationWeatherResponse : regionMap.values()) {
+                List<String> locationTimeList = new ArrayList<>(regionTimeMap.get(alarmLocationWeatherResponse.getRegionCd()));
+                alarmLocationWeatherResponse.setLocationTimeList(locationTimeList);
+                for (String fcstTime : locationTimeList) {
+                    targetList.add(new WeatherRefreshTarget(alarmLocationWeatherResponse.getLocationGroup(), fcstTime));
                 }
+                alarmLocationWeatherResponseList.add(alarmLocationWeatherResponse);
             }
+            Map<String, WeatherReadResult> weatherReadResultMap = weatherService.selectLocationAndTimeForWeatherList(baseDate, targetList);
 
             // 데이터 세팅
-            alarmLocationWeatherResponseList.stream().forEach(alarmLocationWeatherResponse -> {
-                List<AlarmLocationWeatherDataResponse> alarmLocationWeatherDataResponseDataList = new ArrayList<>();
+            for (AlarmLocationWeatherResponse alarmLocationWeatherResponse : alarmLocationWeatherResponseList) {
                 List<String> locationTimeList = alarmLocationWeatherResponse.getLocationTimeList();
-                LocationGroup locationGroup = alarmLocationWeatherResponse.getLocationGroup();
+                if (locationTimeList.isEmpty()) {
+                    continue;
+                }
+                Long locationGroupId = alarmLocationWeatherResponse.getLocationGroup().getLocationGroupId();
+                List<AlarmLocationWeatherDataResponse> alarmLocationWeatherDataResponseDataList = new ArrayList<>();
 
                 boolean locationRain = false;
                 boolean amCk = false;
                 boolean pmCk = false;
                 for (String fcstTime : locationTimeList) {
+                    WeatherReadResult weatherReadResult = weatherReadResultMap.get(locationGroupId + ":" + fcstTime);
+                    Weather weather = weatherReadResult == null ? null : weatherReadResult.getWeather();
+                    if (weather == null) {
+                        continue;
+                    }
+
                     AlarmLocationWeatherDataResponse alarmLocationWeatherDataResponse = new AlarmLocationWeatherDataResponse();
-                    Weather weather = weatherService.selectLocationAndTimeForWeather(locationGroup, baseDate, fcstTime);
-
-                    if (weather != null) {
-                        // 비오는 기준 PTY 강수형태
-                        // (초단기)없음(0), 비(1), 비/눈(2), 눈(3), 빗방울(5), 빗방울눈날림(6), 눈날림(7)
-                        // (단기)없음(0), 비(1), 비/눈(2), 눈(3), 소나기(4)
-                        String ptyTxt = weather.getPty();
-
-                        boolean rain = false;
-                        if (StringUtils.isNotBlank(ptyTxt)) {
-                            try {
-                                int pty = Integer.parseInt(ptyTxt);
-                                // 1 부터 6까지 비
-                                if (pty > 0 && pty < 7) {
-                                    rain = true;
-                                    locationRain = true;
-                                }
-                            } catch (NumberFormatException e) {
-                                log.error("강수량이 숫자형식이 아닙니다. {}, {}", ptyTxt, e);
-                            }
-                        }
-                        alarmLocationWeatherDataResponse.setRain(rain);
-                        // 시간 AM, PM 변환
-                        String timeOfDay = getTimeOfDay(fcstTime);
-                        String alarmLocationTimeConvert = getTime(fcstTime, "HHmm", "hhmm");
-
-                        if (rain) {
-                            if (StringUtils.equals(timeOfDay, TimeOfDay.MORINING.getEngName())) {
-                                amCk = true;
-                            } else if (StringUtils.equals(timeOfDay, TimeOfDay.AFTERNOON.getEngName())) {
-                                pmCk = true;
-                            }
-                        }
-                        alarmLocationWeatherDataResponse.setLocationTime(alarmLocationTimeConvert);
-                        alarmLocationWeatherDataResponse.setTimeOfDay(timeOfDay);
-                        alarmLocationWeatherDataResponseDataList.add(alarmLocationWeatherDataResponse);
+                    alarmLocationWeatherDataResponse.setStale(weatherReadResult.isStale());
+                    if (weatherReadResult.isStale()) {
+                        alarmLocationWeatherResponse.setStale(true);
+                    }
+
+                    // 비오는 기준 PTY 강수형태 1 부터 6까지 비
+                    boolean rain = weather.hasRain();
+                    if (rain) {
+                        locationRain = true;
                     }
-                    alarmLocationWeatherResponse.setLocationRain(locationRain);
-                    if (locationRain) {
-                        String timeOfDay = "";
-                        if (amCk && pmCk) {
-                            timeOfDay = TimeOfDay.ALLDAY.getEngName();
-                        } else if (amCk) {
-                            timeOfDay = TimeOfDay.MORINING.getEngName();
-                        } else if (pmCk) {
-                            timeOfDay = TimeOfDay.AFTERNOON.getEngName();
+                    alarmLocationWeatherDataResponse.setRain(rain);
+                    alarmLocationWeatherDataResponse.setFcstTime(fcstTime);
+                    // 시간 AM, PM 변환
+                    String timeOfDay = getTimeOfDay(fcstTime);
+                    String alarmLocationTimeConvert = getTime(fcstTime, "HHmm", "hhmm");
+
+                    if (rain) {
+                        if (StringUtils.equals(timeOfDay, TimeOfDay.MORINING.getEngName())) {
+                            amCk = true;
+                        } else if (StringUtils.equals(timeOfDay, TimeOfDay.AFTERNOON.getEngName())) {
+                            pmCk = true;
                         }
-                        alarmLocationWeatherResponse.setTimeOfDay(timeOfDay);
                     }
-                    alarmLocationWeatherResponse.setAlarmLocationWeatherList(alarmLocationWeatherDataResponseDataList);
+                    alarmLocationWeatherDataResponse.setLocationTime(alarmLocationTimeConvert);
+                    alarmLocationWeatherDataResponse.setTimeOfDay(timeOfDay);
+                    alarmLocationWeatherDataResponseDataList.add(alarmLocationWeatherDataResponse);
                 }
-            });
+
+                alarmLocationWeatherResponse.setLocationRain(locationRain);
+                if (locationRain) {
+                    String timeOfDay = "";
+                    if (amCk && pmCk) {
+                        timeOfDay = TimeOfDay.ALLDAY.getEngName();
+                    } else if (amCk) {
+                        timeOfDay = TimeOfDay.MORINING.getEngName();
+                    } else if (pmCk) {
+                        timeOfDay = TimeOfDay.AFTERNOON.getEngName();
+                    }
+                    alarmLocationWeatherResponse.setTimeOfDay(timeOfDay);
+                }
+                alarmLocationWeatherResponse.setAlarmLocationWeatherList(alarmLocationWeatherDataResponseDataList);
+            }
         } else {
             throw new CommonException("알람정보가 잘못되었습니다.", "444");
         }
@@ -746,32 +875,31 @@ public class AlarmService {
     public void deleteAlarm(AlarmDeleteRequest alarmDeleteRequest) {
         Long alarmId = alarmDeleteRequest.getAlarmId();
         if (alarmId != null) {
-            // 알람요일삭제
-            alarmWeekRepository.deleteByAlarmAlarmId(alarmId);
-
-            // 알람지역조회
-            List<AlarmLocation> alarmLocationList = alarmLocationRespository.findByAlarmAlarmIdOrderByAlarmLocationId(alarmId);
-
-            for (AlarmLocation alarmLocation : alarmLocationList) {
-                Long alarmLocationId = alarmLocation.getAlarmLocationId();
-
-                // 알람시간삭제
-                alarmLocationTimeRespository.deleteByAlarmLocationAlarmLocationId(alarmLocationId);
-            }
-
-            // 알람지역 삭제
-            alarmLocationRespository.deleteByAlarmAlarmId(alarmId);
-
-            // 알람삭제
-            alarmRepository.deleteById(alarmId);
+            Long userId = alarmCustomRepository.selectAlarmUserId(alarmId);
+            alarmCache.invalidateUser(userId);
+            TransactionUtils.afterCommit(() -> alarmNotiStore.invalidateUser(userId));
+
+            // 알람요일, 알람시간, 알람지역, 알람 순서로 일괄 삭제
+            alarmCustomRepository.deleteAlarmGraph(alarmId);
+            alarmTimingWheel.unschedule(alarmId);
+            refreshAlarmReadModel(userId);
         } else {
             throw new CommonException("알람정보가 잘못되었습니다.", "443");
         }
     }
 
     public List<AlarmLocationWeatherDetailResponse> selectAlarmLocationWeatherDetail(Long alarmId) {
+        if (alarmId != null) {
+            AlarmNotiPayload payload = getAlarmNotiPayload(alarmId);
+            if (payload != null) {
+                return payload.getDetailResponseList();
+            }
+        }
         List<AlarmLocationWeatherResponse> alarmLocationWeatherResponseList = selectAlarmLocationWeatherList(alarmId);
+        return getAlarmLocationWeatherDetailList(alarmLocationWeatherResponseList);
+    }
 
+    private List<AlarmLocationWeatherDetailResponse> getAlarmLocationWeatherDetailList(List<AlarmLocationWeatherResponse> alarmLocationWeatherResponseList) {
         List<AlarmLocationWeatherDetailResponse> alarmLocationWeatherDetailResponses = new ArrayList<>();
 
         alarmLocationWeatherResponseList.stream().forEach(alarmLocationWeatherResponse -> {
@@ -789,125 +917,265 @@ public class AlarmService {
         return alarmLocationWeatherDetailResponses;
     }
 
-    @Transactional
-    public void refreshAlarmLocationWeather() {
-        // 현재시간 조회
-        LocalTime localFromTime = LocalTime.now();
-        // 혹시모를 분은 45분으로 고정
-        localFromTime = localFromTime.withMinute(45);
+    // 이번 시간 45분부터 다음 시간 44분 사이에 울리는 알람을 울리는 날짜(yyyyMMdd)별로 (자정, 요일 경계 포함)
+    private Map<String, List<Alarm>> selectUpcomingAlarmMap(LocalDateTime now) {
+        // 현재시간 조회, 혹시모를 분은 45분으로 고정
+        LocalDateTime fromDateTime = now.withMinute(45).truncatedTo(ChronoUnit.MINUTES);
 
         // 1시간추가에 분은 44분으로 고정
-        LocalTime localToTime = localFromTime.plusHours(1).withMinute(44);
+        LocalDateTime toDateTime = fromDateTime.plusMinutes(59);
 
-        String fromTime = localFromTime.format(DateTimeFormatter.ofPattern("HHmm"));
-        String toTime = localToTime.format(DateTimeFormatter.ofPattern("HHmm"));
+        // 대상 알람 조회
+        Map<String, List<Alarm>> upcomingAlarmMap = new TreeMap<>();
+        for (Alarm alarm : alarmCustomRepository.selectDueAlarmList(fromDateTime, toDateTime)) {
+            String dueDate = getDueDate(alarm, fromDateTime).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            upcomingAlarmMap.computeIfAbsent(dueDate, key -> new ArrayList<>()).add(alarm);
+        }
+        return upcomingAlarmMap;
+    }
 
-        String baseDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    // 기간이 한시간 미만이므로 시작 분보다 이른 알람은 자정을 넘긴 다음날 알람 (23:45 실행의 00:10 알람)
+    private LocalDate getDueDate(Alarm alarm, LocalDateTime fromDateTime) {
+        int fromMinute = fromDateTime.getHour() * 60 + fromDateTime.getMinute();
+        if (alarm.getAlarmMinute() != null && alarm.getAlarmMinute() < fromMinute) {
+            return fromDateTime.toLocalDate().plusDays(1);
+        }
+        return fromDateTime.toLocalDate();
+    }
 
-        Integer enabled = 1;
-        // 대상 알람 조회
-        List<Alarm> alarmList = alarmRepository.findByEnabledAndAlarmTimeBetween(enabled, fromTime, toTime);
+    // 여러 서버에서 나누어 실행하는 경우 내 구간의 격자만 갱신
+    // API 호출을 spreadMillis 동안 나누어 실행하므로 트랜잭션 없이 대상만 한번에 조회
+    public void refreshAlarmLocationWeather(JobPartition partition) {
+        refreshAlarmLocationWeather(partition, LocalDateTime.now());
+    }
 
-        for (Alarm alarm : alarmList) {
-            Long alarmId = alarm.getAlarmId();
+    // 예보는 알람이 울리는 날짜 기준으로 갱신 (날짜가 둘이면 spreadMillis 를 대상 수만큼 나누어 차례로 실행)
+    void refreshAlarmLocationWeather(JobPartition partition, LocalDateTime now) {
+        // 갱신 대상 (격자, 예보시간)을 날짜별로 모아서 한번에 갱신
+        Map<String, List<WeatherRefreshTarget>> targetMap = new TreeMap<>();
+        int targetCount = 0;
+        for (Map.Entry<String, List<Alarm>> entry : selectUpcomingAlarmMap(now).entrySet()) {
+            List<Long> alarmIdList = entry.getValue().stream().map(Alarm::getAlarmId).collect(Collectors.toList());
+            List<WeatherRefreshTarget> targetList = new ArrayList<>();
+            for (AlarmLocationTimeRow row : alarmCustomRepository.selectAlarmLocationTimeRowList(alarmIdList)) {
+                LocationGroup locationGroup = row.getLocationGroup();
+                if (row.getLocationTime() == null || !partition.contains(locationGroup.getLocationGroupId())) {
+                    continue;
+                }
+                targetList.add(new WeatherRefreshTarget(locationGroup, row.getLocationTime()));
+            }
+            targetMap.put(entry.getKey(), targetList);
+            targetCount += targetList.size();
+        }
 
-            // 알람지역 조회
-            List<AlarmLocation> alarmLocationList = alarmLocationRespository.findByAlarmAlarmId(alarmId);
+        for (Map.Entry<String, List<WeatherRefreshTarget>> entry : targetMap.entrySet()) {
+            long spreadMillis = targetCount == 0 ? 0 : refreshSpreadMillis * entry.getValue().size() / targetCount;
+            weatherService.refreshWeatherList(entry.getKey(), entry.getValue(), spreadMillis);
+        }
+    }
 
-            for (AlarmLocation alarmLocation : alarmLocationList) {
-                LocationGroup locationGroup = alarmLocation.getLocation().getLocationGroup();
+    // 곧 울릴 알람의 응답을 미리 계산하여 저장 (이전 발표 예보가 포함된 경우 제외)
+    public int precomputeAlarmNoti() {
+        return precomputeAlarmNoti(LocalDateTime.now());
+    }
 
-                Long alarmLocationId = alarmLocation.getAlarmLocationId();
+    int precomputeAlarmNoti(LocalDateTime now) {
+        LocalDateTime expireDateTime = now.plusMinutes(notiPayloadTtlMinutes);
 
-                List<AlarmLocationTime> alarmLocationTimeList = alarmLocationTimeRespository.findByAlarmLocationAlarmLocationId(alarmLocationId);
+        int stored = 0;
+        for (Map.Entry<String, List<Alarm>> entry : selectUpcomingAlarmMap(now).entrySet()) {
+            // 결과와 비 여부 키는 알람이 울리는 날짜 기준 (울릴 때 그 날짜로 조회)
+            String fcstDate = entry.getKey();
+            for (Alarm alarm : entry.getValue()) {
+                Long alarmId = alarm.getAlarmId();
+                Long userId = alarm.getUser().getUserId();
+                try {
+                    // 계산 전에 버전을 읽어 계산 중 바뀐 경우도 울릴 때 버려지도록 함
+                    String version = alarmCustomRepository.selectAlarmNotiVersion(userId, alarm.getAlarmTime());
+                    List<AlarmLocationWeatherResponse> alarmLocationWeatherResponseList = selectAlarmLocationWeatherList(alarmId, fcstDate);
+                    boolean stale = alarmLocationWeatherResponseList.stream().anyMatch(AlarmLocationWeatherResponse::isStale);
+                    if (stale) {
+                        continue;
+                    }
 
-                // 알람 시간 조회
-                for (AlarmLocationTime alarmLocationTime : alarmLocationTimeList) {
-                    String fcstTime = alarmLocationTime.getLocationTime();
-                    weatherService.refreshWeather(locationGroup, baseDate, fcstTime);
+                    Map<String, Boolean> rainMap = new HashMap<>();
+                    for (AlarmLocationWeatherResponse alarmLocationWeatherResponse : alarmLocationWeatherResponseList) {
+                        Long locationGroupId = alarmLocationWeatherResponse.getLocationGroup().getLocationGroupId();
+                        for (String fcstTime : alarmLocationWeatherResponse.getLocationTimeList()) {
+                            rainMap.put(locationGroupId + ":" + fcstDate + ":" + fcstTime, null);
+                        }
+                        if (alarmLocationWeatherResponse.getAlarmLocationWeatherList() != null) {
+                            for (AlarmLocationWeatherDataResponse dataResponse : alarmLocationWeatherResponse.getAlarmLocationWeatherList()) {
+                                rainMap.put(locationGroupId + ":" + fcstDate + ":" + dataResponse.getFcstTime(), dataResponse.isRain());
+                            }
+                        }
+                    }
+
+                    AlarmNotiPayload payload = new AlarmNotiPayload(alarmId, userId, alarm.getAlarmTime(), fcstDate, version,
+                            getAlarmLocationNotiResponse(alarm, alarmLocationWeatherResponseList),
+                            getAlarmLocationWeatherDetailList(alarmLocationWeatherResponseList),
+                            rainMap, expireDateTime);
+                    alarmNotiStore.put(payload);
+                    stored++;
+                } catch (Exception e) {
+                    log.error("precomputeAlarmNoti 실패 alarmId {} : {}", alarmId, e.getMessage());
                 }
             }
         }
+        log.info("precomputeAlarmNoti stored {}, size {}", stored, alarmNotiStore.getSize());
+        return stored;
     }
 
     public AlarmDetailResponse selectAlarmDetail(Long alarmId) {
-        AlarmDetailResponse alarmDetailResponse = new AlarmDetailResponse();
-        if (alarmId != null) {
-            Alarm alarm = alarmRepository.findById(alarmId).orElseThrow(() -> new CommonException("알람정보가 올바르지 않습니다.", "443"));
-
-            // 요일목록
-            List<AlarmWeekResponse> alarmWeekResponseList = new ArrayList<>();
-            List<AlarmWeek> alarmWeekList = alarmWeekRepository.findByAlarmAlarmId(alarmId);
-            if (alarmWeekList != null && alarmWeekList.size() > 0) {
-                for (AlarmWeek alarmWeek : alarmWeekList) {
-                    AlarmWeekResponse alarmWeekResponse = AlarmWeekResponse.builder()
-                            .alarmWeekId(alarmWeek.getAlarmWeekId())
-                            .weekId(alarmWeek.getWeek().getWeekId())
-                            .build();
-                    alarmWeekResponseList.add(alarmWeekResponse);
-                }
+        AlarmDetailResponse cachedAlarmDetail = alarmId == null ? null : alarmCache.getAlarmDetail(alarmId);
+        if (cachedAlarmDetail != null) {
+            return cachedAlarmDetail;
+        }
+        long loadStamp = alarmCache.getStamp();
+
+        // 알람이 속한 사용자의 조회용 데이터를 한번에 조회
+        if (alarmId != null && readModelEnabled) {
+            String document = alarmCustomRepository.selectAlarmReadDocumentByAlarmId(alarmId);
+            AlarmDetailResponse alarmDetailResponse = findAlarmDetail(parseAlarmReadDocument(document, alarmId), alarmId);
+            if (alarmDetailResponse != null) {
+                alarmCache.putAlarmDetail(alarmDetailResponse, loadStamp);
+                return alarmDetailResponse;
             }
+        }
 
-            alarmDetailResponse.setAlarmId(alarm.getAlarmId());
-            alarmDetailResponse.setAlarmSoundId(alarm.getAlarmSoundId());
+        AlarmDetailResponse alarmDetailResponse = loadAlarmDetail(alarmId);
+        alarmCache.putAlarmDetail(alarmDetailResponse, loadStamp);
+        return alarmDetailResponse;
+    }
 
-            String asisTime = alarm.getAlarmTime();
-            String timeOfDay = getTimeOfDay(asisTime);
-            String alarmTime = getTime(asisTime, "HHmm", "hhmm");
-            alarmDetailResponse.setTimeOfDay(timeOfDay);
-            alarmDetailResponse.setAlarmTime(alarmTime);
+    private AlarmDetailResponse findAlarmDetail(AlarmReadDocument alarmReadDocument, Long alarmId) {
+        if (alarmReadDocument != null) {
+            for (AlarmDetailResponse alarmDetailResponse : alarmReadDocument.getAlarmDetailList()) {
+                if (alarmId.equals(alarmDetailResponse.getAlarmId())) {
+                    return alarmDetailResponse;
+                }
+            }
+        }
+        return null;
+    }
 
-            alarmDetailResponse.setReminder(alarm.getReminder());
-            alarmDetailResponse.setEnabled(alarm.getEnabled());
-            alarmDetailResponse.setUserId(alarm.getUser().getUserId());
-            alarmDetailResponse.setVibration(alarm.getVibration());
-            alarmDetailResponse.setVolume(alarm.getVolume());
+    private AlarmReadDocument selectAlarmReadDocument(Long userId) {
+        if (!readModelEnabled || userId == null) {
+            return null;
+        }
+        Optional<AlarmReadModel> alarmReadModel = alarmReadModelRepository.findById(userId);
+        return alarmReadModel.map(readModel -> parseAlarmReadDocument(readModel.getDocument(), userId)).orElse(null);
+    }
 
+    private AlarmReadDocument parseAlarmReadDocument(String document, Long id) {
+        if (document == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(document, AlarmReadDocument.class);
+        } catch (JsonProcessingException e) {
+            log.error("알람 조회용 데이터 변환 오류 id {} : {}", id, e.getMessage());
+            return null;
+        }
+    }
 
-            List<AlarmLocation> alarmLocationList = alarmLocationRespository.findByAlarmAlarmIdOrderByAlarmLocationId(alarmId);
-            List<AlarmLocationDetailResponse> alarmLocationDetailResponseList = new ArrayList<>();
+    // 사용자 알람 전체를 조회용 테이블에 저장 (알람 변경 트랜잭션 안에서 호출하여 함께 커밋)
+    private AlarmReadDocument refreshAlarmReadModel(Long userId) {
+        if (!readModelEnabled || userId == null) {
+            return null;
+        }
+        return refreshAlarmReadModelList(List.of(userId)).get(userId);
+    }
 
-            // 주소 목록
-            if (alarmLocationList != null && alarmLocationList.size() > 0) {
-                for (AlarmLocation alarmLocation : alarmLocationList) {
+    // 사용자 수와 관계없이 알람, 요일, 지역/시간 조회 3회와 저장 1회
+    private Map<Long, AlarmReadDocument> refreshAlarmReadModelList(List<Long> userIdList) {
+        Map<Long, AlarmReadDocument> alarmReadDocumentMap = loadAlarmReadDocumentMap(alarmRepository.findByUserUserIdIn(userIdList));
 
-                    Long alarmLocationId = alarmLocation.getAlarmLocationId();
-                    String cityDo = alarmLocation.getLocation().getCityDo();
-                    String guGun = alarmLocation.getLocation().getGuGun();
-                    String eupMyun = alarmLocation.getLocation().getEupMyun();
-                    String regionCd = alarmLocation.getLocation().getRegionCd();
+        List<AlarmReadModel> alarmReadModelList = new ArrayList<>();
+        for (Long userId : userIdList) {
+            // 알람이 없는 사용자도 빈 목록으로 저장
+            AlarmReadDocument alarmReadDocument = alarmReadDocumentMap.computeIfAbsent(userId,
+                    key -> new AlarmReadDocument(new ArrayList<>(), new ArrayList<>()));
+            alarmReadModelList.add(buildAlarmReadModel(userId, alarmReadDocument));
+        }
+        alarmCustomRepository.upsertAlarmReadModelList(alarmReadModelList);
+        return alarmReadDocumentMap;
+    }
 
-                    // 지역 시간 조회
-                    List<AlarmLocationTime> alarmLocationTimeList = alarmLocationTimeRespository.findByAlarmLocationAlarmLocationIdOrderByLocationTime(alarmLocationId);
-                    List<AlarmLocationTimeDetailResponse> alarmLocationTimeDetailResponseList = new ArrayList<>();
-                    for (AlarmLocationTime alarmLocationTime : alarmLocationTimeList) {
-                        AlarmLocationTimeDetailResponse alarmLocationTimeDetailResponse = new AlarmLocationTimeDetailResponse();
-                        alarmLocationTimeDetailResponse.setAlarmLocationTimeId(alarmLocationTime.getAlarmLocationTimeId());
-                        alarmLocationTimeDetailResponse.setLocationTime(alarmLocationTime.getLocationTime());
-                        alarmLocationTimeDetailResponseList.add(alarmLocationTimeDetailResponse);
-                    }
+    private AlarmReadModel buildAlarmReadModel(Long userId, AlarmReadDocument alarmReadDocument) {
+        try {
+            String document = objectMapper.writeValueAsString(alarmReadDocument);
+            return AlarmReadModel.builder()
+                    .userId(userId)
+                    .document(document)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new CommonException("알람 조회용 데이터 생성 오류입니다.", "500");
+        }
+    }
 
-                    AlarmLocationDetailResponse alarmLocationResponse = AlarmLocationDetailResponse.builder()
-                            .cityDo(cityDo)
-                            .guGun(guGun)
-                            .eupMyun(eupMyun)
-                            .regionCd(regionCd)
-                            .alarmLocationId(alarmLocation.getAlarmLocationId())
-                            .alarmLocationTimeDetail(alarmLocationTimeDetailResponseList)
-                            .build();
+    // 알람 테이블에서 조회용 테이블 전체 재생성 (사용자 chunkSize 명 단위로 병렬 처리)
+    public int rebuildAlarmReadModel() {
+        if (!readModelEnabled) {
+            return 0;
+        }
+        long startMillis = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(readModelRebuildThreads);
+        List<Future<Integer>> futureList = new ArrayList<>();
+        int rebuilt = 0;
+        try {
+            Long lastUserId = 0L;
+            while (true) {
+                List<Long> userIdList = alarmCustomRepository.selectAlarmUserIdList(lastUserId, readModelChunkSize);
+                if (userIdList.isEmpty()) {
+                    break;
+                }
+                futureList.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    refreshAlarmReadModelList(userIdList);
+                    return userIdList.size();
+                })));
+                lastUserId = userIdList.get(userIdList.size() - 1);
+                if (userIdList.size() < readModelChunkSize) {
+                    break;
+                }
+            }
 
-                    alarmLocationDetailResponseList.add(alarmLocationResponse);
+            for (Future<Integer> future : futureList) {
+                try {
+                    rebuilt += future.get();
+                } catch (Exception e) {
+                    log.error("알람 조회용 데이터 재생성 실패 : {}", e.getMessage());
                 }
             }
+        } finally {
+            executor.shutdown();
+        }
 
-            alarmDetailResponse.setAlarmLocation(alarmLocationDetailResponseList);
-            alarmDetailResponse.setAlarmWeek(alarmWeekResponseList);
+        int deleted = alarmCustomRepository.deleteAlarmReadModelWithoutAlarm();
+        log.info("rebuildAlarmReadModel users {}, chunks {}, deleted {}, elapsed {}ms",
+                rebuilt, futureList.size(), deleted, System.currentTimeMillis() - startMillis);
+        return rebuilt;
+    }
 
-        } else {
+    // 알람 하나의 상세 (목록과 같은 방식으로 쿼리 3회)
+    private AlarmDetailResponse loadAlarmDetail(Long alarmId) {
+        if (alarmId == null) {
             throw new CommonException("알람정보가 올바르지 않습니다.", "444");
         }
+        Alarm alarm = alarmRepository.findById(alarmId).orElseThrow(() -> new CommonException("알람정보가 올바르지 않습니다.", "443"));
+        return loadAlarmReadDocumentMap(List.of(alarm)).get(alarm.getUser().getUserId()).getAlarmDetailList().get(0);
+    }
 
-        return alarmDetailResponse;
+    public AlarmCacheStatsResponse selectAlarmCacheStats() {
+        return AlarmCacheStatsResponse.builder()
+                .cacheHit(alarmCache.getHitCount())
+                .cacheMiss(alarmCache.getMissCount())
+                .cacheHitRatio(alarmCache.getHitRatio())
+                .cacheEviction(alarmCache.getEvictionCount())
+                .cacheExpired(alarmCache.getExpiredCount())
+                .cacheSize(alarmCache.getSize())
+                .build();
     }
 
     public List<AlarmSoundResponse> selectAlarmSoundList() {
@@ -928,6 +1196,15 @@ public class AlarmService {
     public void updateAlarmUserId(Long asisUserId, Long tobeUserId) {
         List<Alarm> alarmList = alarmRepository.findByUserUserId(asisUserId);
         alarmList.stream().forEach(alarm -> alarm.setUser(User.builder().userId(tobeUserId).build()));
+        TransactionUtils.afterCommit(() -> {
+            alarmNotiStore.invalidateUser(asisUserId);
+            alarmNotiStore.invalidateUser(tobeUserId);
+        });
+        alarmCache.invalidateUser(asisUserId);
+        alarmCache.invalidateUser(tobeUserId);
+        if (readModelEnabled) {
+            refreshAlarmReadModelList(List.of(asisUserId, tobeUserId));
+        }
     }
 
     public List<String> selectAlarmLocationTimeList(String alarmTime) {
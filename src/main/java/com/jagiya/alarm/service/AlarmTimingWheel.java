@@ -0,0 +1,385 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.dto.AlarmScheduleRow;
+import com.jagiya.alarm.entity.Alarm;
+import com.jagiya.alarm.repository.AlarmCustomRepository;
+import com.jagiya.common.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 한 주를 분 단위 슬롯(7 * 1440)으로 나눈 타이밍 휠
+// 알람은 울리는 요일 수만큼 슬롯에 등록되고, 매 분 해당 슬롯의 알람만 실행한다
+@Component
+@Slf4j
+public class AlarmTimingWheel {
+
+    private static final int MINUTES_OF_DAY = 24 * 60;
+
+    private static final int SLOT_COUNT = 7 * MINUTES_OF_DAY;
+
+    private final AlarmCustomRepository alarmCustomRepository;
+
+    private final AlarmFireAction fireAction;
+
+    private final boolean enabled;
+
+    private final int loadPageSize;
+
+    private final int maxCatchUpMinutes;
+
+    private final int syncOverlapSeconds;
+
+    private volatile WheelState state = new WheelState();
+
+    // 마지막 전체 적재 또는 변경분 동기화 시작 시각
+    private Date lastSyncDate;
+
+    private long syncedCount;
+
+    private long droppedCount;
+
+    // 전체 적재 중 변경된 알람 (적재 완료시 현재 값으로 덮어씀)
+    private Set<Long> changedDuringLoad;
+
+    private LocalDateTime lastTickMinute;
+
+    private long firedCount;
+
+    private long lastTickFired;
+
+    private long lastTickMillis;
+
+    private long maxTickMillis;
+
+    public AlarmTimingWheel(AlarmCustomRepository alarmCustomRepository,
+                            List<AlarmFireAction> fireActionList,
+                            @Value("${alarm.dispatch.enabled:true}") boolean enabled,
+                            @Value("${alarm.dispatch.action:log}") String actionName,
+                            @Value("${alarm.dispatch.loadPageSize:5000}") int loadPageSize,
+                            @Value("${alarm.dispatch.maxCatchUpMinutes:5}") int maxCatchUpMinutes,
+                            @Value("${alarm.dispatch.syncOverlapSeconds:120}") int syncOverlapSeconds) {
+        this.alarmCustomRepository = alarmCustomRepository;
+        this.enabled = enabled;
+        this.loadPageSize = loadPageSize;
+        this.maxCatchUpMinutes = maxCatchUpMinutes;
+        this.syncOverlapSeconds = syncOverlapSeconds;
+
+        AlarmFireAction selectedAction = null;
+        AlarmFireAction defaultAction = null;
+        for (AlarmFireAction action : fireActionList) {
+            if (action.getName().equals(actionName)) {
+                selectedAction = action;
+            }
+            if (action instanceof LoggingAlarmFireAction) {
+                defaultAction = action;
+            }
+        }
+        if (selectedAction == null) {
+            log.warn("알람 실행 작업 {} 이 없어 기본 작업을 사용합니다.", actionName);
+            selectedAction = defaultAction;
+        }
+        this.fireAction = selectedAction;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 활성 알람 전체를 새 휠에 적재한 뒤 교체
+    public int load() {
+        if (!enabled) {
+            return 0;
+        }
+        long startMillis = System.currentTimeMillis();
+        Date loadDate = new Date(startMillis);
+        synchronized (this) {
+            changedDuringLoad = ConcurrentHashMap.newKeySet();
+        }
+
+        WheelState loadState = new WheelState();
+        Long lastAlarmId = 0L;
+        while (true) {
+            List<AlarmScheduleRow> alarmList = alarmCustomRepository.selectEnabledAlarmScheduleRowList(lastAlarmId, loadPageSize);
+            if (alarmList.isEmpty()) {
+                break;
+            }
+            for (AlarmScheduleRow alarmScheduleRow : alarmList) {
+                loadState.add(alarmScheduleRow.getAlarmId(), getSlots(alarmScheduleRow.getAlarmMinute(), alarmScheduleRow.getWeekMask()));
+            }
+            lastAlarmId = alarmList.get(alarmList.size() - 1).getAlarmId();
+            if (alarmList.size() < loadPageSize) {
+                break;
+            }
+        }
+
+        synchronized (this) {
+            WheelState liveState = state;
+            for (Long alarmId : changedDuringLoad) {
+                loadState.remove(alarmId);
+                int[] slots = liveState.alarmSlots.get(alarmId);
+                if (slots != null) {
+                    loadState.add(alarmId, slots);
+                }
+            }
+            changedDuringLoad = null;
+            state = loadState;
+            lastSyncDate = loadDate;
+        }
+        log.info("alarm timing wheel load alarms {}, elapsed {}ms", loadState.alarmSlots.size(), System.currentTimeMillis() - startMillis);
+        return loadState.alarmSlots.size();
+    }
+
+    // 마지막 동기화 이후 등록, 수정된 알람을 DB 에서 읽어 반영 (다른 서버에서 변경된 알람 포함)
+    // 수정일은 각 서버 시계로 기록되고 커밋이 늦을 수 있으므로 syncOverlapSeconds 만큼 겹쳐서 조회
+    public int syncChanges() {
+        if (!enabled) {
+            return 0;
+        }
+        Date syncDate = new Date();
+        Date since;
+        synchronized (this) {
+            if (lastSyncDate == null) {
+                return 0;
+            }
+            since = new Date(lastSyncDate.getTime() - syncOverlapSeconds * 1000L);
+        }
+
+        int count = 0;
+        Long lastAlarmId = 0L;
+        while (true) {
+            List<AlarmScheduleRow> alarmList = alarmCustomRepository.selectChangedAlarmScheduleRowList(since, lastAlarmId, loadPageSize);
+            if (alarmList.isEmpty()) {
+                break;
+            }
+            synchronized (this) {
+                for (AlarmScheduleRow alarmScheduleRow : alarmList) {
+                    Long alarmId = alarmScheduleRow.getAlarmId();
+                    state.remove(alarmId);
+                    if (alarmScheduleRow.getEnabled() == null || alarmScheduleRow.getEnabled() == 1) {
+                        state.add(alarmId, getSlots(alarmScheduleRow.getAlarmMinute(), alarmScheduleRow.getWeekMask()));
+                    }
+                    markChanged(alarmId);
+                }
+            }
+            count += alarmList.size();
+            lastAlarmId = alarmList.get(alarmList.size() - 1).getAlarmId();
+            if (alarmList.size() < loadPageSize) {
+                break;
+            }
+        }
+
+        synchronized (this) {
+            if (lastSyncDate != null && syncDate.after(lastSyncDate)) {
+                lastSyncDate = syncDate;
+            }
+            syncedCount += count;
+        }
+        return count;
+    }
+
+    // 트랜잭션 커밋 후 반영 (롤백된 변경이 휠에 남지 않도록)
+    public void schedule(Long alarmId, Integer alarmMinute, Integer weekMask) {
+        if (!enabled || alarmId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            int[] slots = getSlots(alarmMinute, weekMask);
+            synchronized (this) {
+                state.remove(alarmId);
+                state.add(alarmId, slots);
+                markChanged(alarmId);
+            }
+        });
+    }
+
+    public void unschedule(Long alarmId) {
+        if (!enabled || alarmId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            synchronized (this) {
+                state.remove(alarmId);
+                markChanged(alarmId);
+            }
+        });
+    }
+
+    // 이전 tick 이후 지난 분의 슬롯을 차례로 실행 (최대 maxCatchUpMinutes 분까지 보충)
+    public int tick(LocalDateTime now) {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime fromMinute;
+        synchronized (this) {
+            if (lastTickMinute != null && !minute.isAfter(lastTickMinute)) {
+                return 0;
+            }
+            fromMinute = lastTickMinute == null ? minute : lastTickMinute.plusMinutes(1);
+            LocalDateTime catchUpMinute = minute.minusMinutes(Math.max(maxCatchUpMinutes - 1, 0));
+            if (fromMinute.isBefore(catchUpMinute)) {
+                log.warn("alarm timing wheel skipped {} ~ {}", fromMinute, catchUpMinute.minusMinutes(1));
+                fromMinute = catchUpMinute;
+            }
+            lastTickMinute = minute;
+        }
+
+        long startNanos = System.nanoTime();
+        int fired = 0;
+        WheelState tickState = state;
+        for (LocalDateTime fireMinute = fromMinute; !fireMinute.isAfter(minute); fireMinute = fireMinute.plusMinutes(1)) {
+            for (Long alarmId : selectFireAlarmIds(tickState.slots.get(getSlot(fireMinute)))) {
+                try {
+                    fireAction.fire(alarmId, fireMinute);
+                    fired++;
+                } catch (Exception e) {
+                    log.error("알람 실행 실패 alarmId {} : {}", alarmId, e.getMessage());
+                }
+            }
+        }
+        long tickMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        synchronized (this) {
+            firedCount += fired;
+            lastTickFired = fired;
+            lastTickMillis = tickMillis;
+            maxTickMillis = Math.max(maxTickMillis, tickMillis);
+        }
+        return fired;
+    }
+
+    // 다른 서버에서 삭제, 비활성화된 알람은 변경분 동기화로 알 수 없으므로 울리기 전에 한번 더 확인
+    // 확인에 실패하면 휠 기준으로 실행
+    private Collection<Long> selectFireAlarmIds(Set<Long> slotAlarmIds) {
+        if (slotAlarmIds.isEmpty()) {
+            return slotAlarmIds;
+        }
+        List<Long> alarmIds = new ArrayList<>(slotAlarmIds);
+        Set<Long> enabledAlarmIds;
+        try {
+            enabledAlarmIds = new HashSet<>(alarmCustomRepository.selectEnabledAlarmIdList(alarmIds));
+        } catch (Exception e) {
+            log.error("알람 실행 대상 확인 실패 : {}", e.getMessage());
+            return alarmIds;
+        }
+        if (enabledAlarmIds.size() < alarmIds.size()) {
+            synchronized (this) {
+                for (Long alarmId : alarmIds) {
+                    if (!enabledAlarmIds.contains(alarmId)) {
+                        state.remove(alarmId);
+                        markChanged(alarmId);
+                        droppedCount++;
+                    }
+                }
+            }
+        }
+        return enabledAlarmIds;
+    }
+
+    // 다른 서버가 실행한 분은 건너뜀 (임대를 다시 받았을 때 중복 실행하지 않도록)
+    public synchronized void skip(LocalDateTime now) {
+        LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+        if (lastTickMinute == null || minute.isAfter(lastTickMinute)) {
+            lastTickMinute = minute;
+        }
+    }
+
+    private void markChanged(Long alarmId) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(alarmId);
+        }
+    }
+
+    static int[] getSlots(Integer alarmMinute, Integer weekMask) {
+        if (alarmMinute == null || alarmMinute < 0 || alarmMinute >= MINUTES_OF_DAY) {
+            log.warn("알람 시간이 올바르지 않아 휠에 등록하지 않습니다. {}", alarmMinute);
+            return new int[0];
+        }
+        int mask = weekMask == null || weekMask == 0 ? Alarm.ALL_WEEK_MASK : weekMask;
+        int[] slots = new int[Integer.bitCount(mask & Alarm.ALL_WEEK_MASK)];
+        int count = 0;
+        for (int i = 0; i < 7; i++) {
+            if ((mask & (1 << i)) != 0) {
+                slots[count++] = i * MINUTES_OF_DAY + alarmMinute;
+            }
+        }
+        return slots;
+    }
+
+    static int getSlot(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_OF_DAY + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    public int getScheduledCount() {
+        return state.alarmSlots.size();
+    }
+
+    public synchronized long getFiredCount() {
+        return firedCount;
+    }
+
+    public synchronized long getLastTickFired() {
+        return lastTickFired;
+    }
+
+    public synchronized long getLastTickMillis() {
+        return lastTickMillis;
+    }
+
+    public synchronized long getMaxTickMillis() {
+        return maxTickMillis;
+    }
+
+    public synchronized long getSyncedCount() {
+        return syncedCount;
+    }
+
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private static class WheelState {
+
+        private final List<Set<Long>> slots;
+
+        private final Map<Long, int[]> alarmSlots = new ConcurrentHashMap<>();
+
+        private WheelState() {
+            slots = new ArrayList<>(SLOT_COUNT);
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                slots.add(ConcurrentHashMap.newKeySet());
+            }
+        }
+
+        private void add(Long alarmId, int[] alarmSlotArray) {
+            if (alarmSlotArray.length == 0) {
+                return;
+            }
+            alarmSlots.put(alarmId, alarmSlotArray);
+            for (int slot : alarmSlotArray) {
+                slots.get(slot).add(alarmId);
+            }
+        }
+
+        private void remove(Long alarmId) {
+            int[] alarmSlotArray = alarmSlots.remove(alarmId);
+            if (alarmSlotArray != null) {
+                for (int slot : alarmSlotArray) {
+                    slots.get(slot).remove(alarmId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.jagiya.alarm.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 기본 작업 (로그만 남김)
+@Component
+@Slf4j
+public class LoggingAlarmFireAction implements AlarmFireAction {
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void fire(Long alarmId, LocalDateTime fireDateTime) {
+        log.debug("alarm fire alarmId {}, fireDateTime {}", alarmId, fireDateTime);
+    }
+}
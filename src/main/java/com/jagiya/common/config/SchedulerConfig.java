@@ -0,0 +1,33 @@
+package com.jagiya.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Slf4j
+@Configuration
+public class SchedulerConfig implements SchedulingConfigurer {
+
+    @Value("${scheduler.poolSize:4}")
+    private int poolSize;
+
+    // 기본 스케줄러는 스레드 1개라 한 작업이 늦어지면 다른 작업의 실행도 밀림
+    // 스케줄러 스레드는 실행 시점만 맞추고 실제 작업은 ScheduledJobRunner 의 작업별 스레드에서 실행
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduler-");
+        taskScheduler.setErrorHandler(t -> log.error("스케줄 실행 실패 : {}", t.getMessage()));
+        return taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler());
+    }
+}
@@ -0,0 +1,35 @@
+package com.jagiya.common.controller;
+
+import com.jagiya.common.response.JobStatusResponse;
+import com.jagiya.common.service.ScheduledJobRunner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("job")
+@Tag(name = "Job", description = "예약 작업 API")
+public class JobController {
+
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @GetMapping("/getJobStatus")
+    @Operation(summary = "예약 작업 상태", description = "작업별 실행중 여부, 실행/건너뜀/실패 수와 최근 실행 기록을 조회 모니터링용")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+        }
+    )
+    public List<JobStatusResponse> getJobStatus() {
+        return scheduledJobRunner.getJobStatusList();
+    }
+}
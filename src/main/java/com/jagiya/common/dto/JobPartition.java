@@ -0,0 +1,35 @@
+package com.jagiya.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 임대받은 작업 구간 (count 개로 나눈 작업 중 index 번째)
+@Getter
+@ToString
+@AllArgsConstructor
+public class JobPartition {
+
+    private final String jobName;
+
+    private final int index;
+
+    private final int count;
+
+    // 임대 받을 때마다 증가하는 값 (null 이면 임대 미사용)
+    private final Long fencingToken;
+
+    // 나누지 않은 전체 작업
+    public static JobPartition all(String jobName) {
+        return new JobPartition(jobName, 0, 1, null);
+    }
+
+    // 같은 키는 항상 같은 구간에 속함
+    public boolean contains(Long key) {
+        if (count <= 1) {
+            return true;
+        }
+        long hash = key == null ? 0 : key * 0x9E3779B97F4A7C15L;
+        return Math.floorMod(hash ^ (hash >>> 32), (long) count) == index;
+    }
+}
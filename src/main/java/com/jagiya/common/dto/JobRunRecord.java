@@ -0,0 +1,31 @@
+package com.jagiya.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 예약 작업 1회 실행 기록
+@Getter
+@AllArgsConstructor
+public class JobRunRecord {
+
+    public static final String SUCCESS = "SUCCESS";
+
+    public static final String FAILED = "FAILED";
+
+    // 이전 실행이 끝나지 않아 건너뜀
+    public static final String SKIPPED = "SKIPPED";
+
+    // 스케줄러가 실행을 요청한 시각
+    private final LocalDateTime scheduledDateTime;
+
+    // 작업 스레드에서 실행을 시작하기까지 대기한 시간
+    private final long delayMillis;
+
+    private final long elapsedMillis;
+
+    private final String status;
+
+    private final String message;
+}
@@ -0,0 +1,112 @@
+package com.jagiya.common.http;
+
+import com.jagiya.common.exception.CommonException;
+import com.jagiya.common.utils.CircuitBreaker;
+import com.jagiya.common.utils.RetryPolicy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 외부 연동별 HTTP 클라이언트 (커넥션풀, 타임아웃, 동시호출 제한)
+@Slf4j
+public class OutboundHttpClient {
+
+    @Getter
+    private final String name;
+
+    private final HttpClient httpClient;
+
+    private final ExecutorService executor;
+
+    private final Duration requestTimeout;
+
+    private final Semaphore bulkhead;
+
+    private final long bulkheadWaitMillis;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+
+    @Getter
+    private final RetryPolicy retryPolicy;
+
+    public OutboundHttpClient(String name, long connectTimeoutMillis, long requestTimeoutMillis, int maxConcurrent, long bulkheadWaitMillis,
+                              CircuitBreaker circuitBreaker, RetryPolicy retryPolicy) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.name = name;
+        this.executor = Executors.newFixedThreadPool(Math.max(2, maxConcurrent / 2), runnable -> {
+            Thread thread = new Thread(runnable, "http-" + name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // HttpClient 인스턴스마다 커넥션풀을 가지므로 연동별로 분리된다.
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+        this.circuitBreaker = circuitBreaker;
+        this.retryPolicy = retryPolicy;
+    }
+
+    public <T> HttpResponse<T> send(HttpRequest.Builder requestBuilder, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        acquire();
+        try {
+            return httpClient.send(requestBuilder.timeout(requestTimeout).build(), bodyHandler);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest.Builder requestBuilder, HttpResponse.BodyHandler<T> bodyHandler) {
+        try {
+            acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (CommonException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(requestBuilder.timeout(requestTimeout).build(), bodyHandler)
+                .whenComplete((response, throwable) -> bulkhead.release());
+    }
+
+    public int getAvailableCount() {
+        return bulkhead.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void acquire() throws InterruptedException {
+        if (!bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS)) {
+            rejectedCount.incrementAndGet();
+            log.error("{} 동시 호출 제한 초과", name);
+            throw new CommonException(name + " 연동 호출이 많습니다. 잠시 후 다시 시도해주세요.", "503");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jagiya.common.http;
+
+import com.jagiya.common.utils.CircuitBreaker;
+import com.jagiya.common.utils.RetryPolicy;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 외부 연동(기상청, 도로명주소, Tmap 지오코딩, 애플)별 HTTP 클라이언트, 서킷브레이커는 연동별로 따로 동작
+@Component
+@Getter
+public class OutboundHttpClients implements DisposableBean {
+
+    private final OutboundHttpClient kma;
+
+    private final OutboundHttpClient juso;
+
+    private final OutboundHttpClient geocoding;
+
+    private final OutboundHttpClient apple;
+
+    public OutboundHttpClients(@Value("${http.kma.connectTimeoutMillis:3000}") long kmaConnectTimeout,
+                               @Value("${http.kma.requestTimeoutMillis:10000}") long kmaRequestTimeout,
+                               @Value("${http.kma.maxConcurrent:16}") int kmaMaxConcurrent,
+                               @Value("${http.juso.connectTimeoutMillis:2000}") long jusoConnectTimeout,
+                               @Value("${http.juso.requestTimeoutMillis:5000}") long jusoRequestTimeout,
+                               @Value("${http.juso.maxConcurrent:20}") int jusoMaxConcurrent,
+                               @Value("${http.geocoding.connectTimeoutMillis:2000}") long geocodingConnectTimeout,
+                               @Value("${http.geocoding.requestTimeoutMillis:5000}") long geocodingRequestTimeout,
+                               @Value("${http.geocoding.maxConcurrent:10}") int geocodingMaxConcurrent,
+                               @Value("${http.apple.connectTimeoutMillis:2000}") long appleConnectTimeout,
+                               @Value("${http.apple.requestTimeoutMillis:5000}") long appleRequestTimeout,
+                               @Value("${http.apple.maxConcurrent:10}") int appleMaxConcurrent,
+                               @Value("${http.bulkheadWaitMillis:1000}") long bulkheadWaitMillis,
+                               @Value("${http.circuit.failureThreshold:5}") int failureThreshold,
+                               @Value("${http.circuit.openMillis:30000}") long openMillis,
+                               @Value("${http.retry.maxAttempts:4}") int maxAttempts,
+                               @Value("${http.retry.baseDelayMillis:200}") long baseDelayMillis,
+                               @Value("${http.retry.maxDelayMillis:5000}") long maxDelayMillis) {
+        RetryPolicy retryPolicy = new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis);
+        this.kma = new OutboundHttpClient("kma", kmaConnectTimeout, kmaRequestTimeout, kmaMaxConcurrent, bulkheadWaitMillis,
+                new CircuitBreaker("kma", failureThreshold, openMillis), retryPolicy);
+        this.juso = new OutboundHttpClient("juso", jusoConnectTimeout, jusoRequestTimeout, jusoMaxConcurrent, bulkheadWaitMillis,
+                new CircuitBreaker("juso", failureThreshold, openMillis), retryPolicy);
+        this.geocoding = new OutboundHttpClient("geocoding", geocodingConnectTimeout, geocodingRequestTimeout, geocodingMaxConcurrent, bulkheadWaitMillis,
+                new CircuitBreaker("geocoding", failureThreshold, openMillis), retryPolicy);
+        this.apple = new OutboundHttpClient("apple", appleConnectTimeout, appleRequestTimeout, appleMaxConcurrent, bulkheadWaitMillis,
+                new CircuitBreaker("apple", failureThreshold, openMillis), retryPolicy);
+    }
+
+    @Override
+    public void destroy() {
+        kma.shutdown();
+        juso.shutdown();
+        geocoding.shutdown();
+        apple.shutdown();
+    }
+}
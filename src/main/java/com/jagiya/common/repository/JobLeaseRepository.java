@@ -0,0 +1,81 @@
+package com.jagiya.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 스케줄 작업 임대(JobLease), 실행중인 서버(JobInstance) 조회/갱신 (시간은 모두 DB 시각 기준)
+@RequiredArgsConstructor
+@Repository
+public class JobLeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 만료되었거나 내가 가진 임대만 가져오며, 가져올 때마다 fencingToken 증가
+    // (ON DUPLICATE KEY UPDATE 는 앞에서부터 차례로 반영되므로 leaseUntil 을 마지막에 갱신)
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO JobLease (jobName, ownerId, fencingToken, leaseUntil, modifyDate) " +
+            "VALUES (?, ?, 1, DATE_ADD(NOW(3), INTERVAL ? SECOND), NOW(3)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "fencingToken = IF(leaseUntil < NOW(3) OR ownerId = VALUES(ownerId), fencingToken + 1, fencingToken), " +
+            "modifyDate = IF(leaseUntil < NOW(3) OR ownerId = VALUES(ownerId), NOW(3), modifyDate), " +
+            "ownerId = IF(leaseUntil < NOW(3) OR ownerId = VALUES(ownerId), VALUES(ownerId), ownerId), " +
+            "leaseUntil = IF(leaseUntil < NOW(3) OR ownerId = VALUES(ownerId), VALUES(leaseUntil), leaseUntil)";
+
+    private static final String SELECT_OWNER_SQL =
+            "SELECT fencingToken FROM JobLease WHERE jobName = ? AND ownerId = ? AND leaseUntil > NOW(3)";
+
+    private static final String EXTEND_SQL =
+            "UPDATE JobLease SET leaseUntil = DATE_ADD(NOW(3), INTERVAL ? SECOND) " +
+            "WHERE jobName = ? AND ownerId = ? AND fencingToken = ? AND leaseUntil > NOW(3)";
+
+    private static final String RELEASE_SQL =
+            "UPDATE JobLease SET leaseUntil = NOW(3) WHERE jobName = ? AND ownerId = ? AND fencingToken = ?";
+
+    private static final String HEARTBEAT_SQL =
+            "INSERT INTO JobInstance (instanceId, heartbeatDate) VALUES (?, NOW(3)) " +
+            "ON DUPLICATE KEY UPDATE heartbeatDate = NOW(3)";
+
+    private static final String SELECT_LIVE_INSTANCE_SQL =
+            "SELECT instanceId FROM JobInstance WHERE heartbeatDate > DATE_SUB(NOW(3), INTERVAL ? SECOND) ORDER BY instanceId";
+
+    private static final String DELETE_INSTANCE_SQL =
+            "DELETE FROM JobInstance WHERE instanceId = ?";
+
+    private static final String DELETE_DEAD_INSTANCE_SQL =
+            "DELETE FROM JobInstance WHERE heartbeatDate < DATE_SUB(NOW(3), INTERVAL ? SECOND)";
+
+    // 임대 성공시 fencingToken, 실패시 null
+    public Long tryAcquire(String jobName, String ownerId, int leaseSeconds) {
+        jdbcTemplate.update(ACQUIRE_SQL, jobName, ownerId, leaseSeconds);
+        List<Long> tokenList = jdbcTemplate.queryForList(SELECT_OWNER_SQL, Long.class, jobName, ownerId);
+        return tokenList.isEmpty() ? null : tokenList.get(0);
+    }
+
+    // 아직 내 임대(같은 fencingToken)인 경우만 연장
+    public boolean extend(String jobName, String ownerId, long fencingToken, int leaseSeconds) {
+        return jdbcTemplate.update(EXTEND_SQL, leaseSeconds, jobName, ownerId, fencingToken) > 0;
+    }
+
+    public void release(String jobName, String ownerId, long fencingToken) {
+        jdbcTemplate.update(RELEASE_SQL, jobName, ownerId, fencingToken);
+    }
+
+    public void heartbeat(String instanceId) {
+        jdbcTemplate.update(HEARTBEAT_SQL, instanceId);
+    }
+
+    public List<String> selectLiveInstanceIdList(int aliveSeconds) {
+        return jdbcTemplate.queryForList(SELECT_LIVE_INSTANCE_SQL, String.class, aliveSeconds);
+    }
+
+    public void deleteInstance(String instanceId) {
+        jdbcTemplate.update(DELETE_INSTANCE_SQL, instanceId);
+    }
+
+    public int deleteDeadInstance(int deadSeconds) {
+        return jdbcTemplate.update(DELETE_DEAD_INSTANCE_SQL, deadSeconds);
+    }
+}
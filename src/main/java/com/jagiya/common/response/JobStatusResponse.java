@@ -0,0 +1,34 @@
+package com.jagiya.common.response;
+
+import com.jagiya.common.dto.JobRunRecord;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class JobStatusResponse {
+
+    @Schema(description = "작업명", example = "alarmRefreshWeather", name = "jobName")
+    private String jobName;
+
+    @Schema(description = "실행중 여부", example = "false", name = "running")
+    private boolean running;
+
+    @Schema(description = "실행 수", example = "24", name = "runCount")
+    private long runCount;
+
+    @Schema(description = "이전 실행이 끝나지 않아 건너뛴 수", example = "0", name = "skipCount")
+    private long skipCount;
+
+    @Schema(description = "실패 수", example = "1", name = "failCount")
+    private long failCount;
+
+    @Schema(description = "최대 실행시간(ms)", example = "540000", name = "maxElapsedMillis")
+    private long maxElapsedMillis;
+
+    @Schema(description = "최근 실행 기록 (최신순)", name = "historyList")
+    private List<JobRunRecord> historyList;
+}
@@ -0,0 +1,35 @@
+package com.jagiya.common.schedule;
+
+import com.jagiya.common.service.JobLeaseManager;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobInstanceScheduledTask {
+
+    private final JobLeaseManager jobLeaseManager;
+
+    // 작업 분할을 위해 실행중인 서버 등록
+    @Scheduled(fixedDelayString = "${job.lease.heartbeatMillis:10000}")
+    public void heartbeat() {
+        try {
+            jobLeaseManager.heartbeat();
+        } catch (Exception e) {
+            log.error("서버 상태 갱신 실패 {} : {}", jobLeaseManager.getInstanceId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            jobLeaseManager.leave();
+        } catch (Exception e) {
+            log.warn("서버 등록 해제 실패 {} : {}", jobLeaseManager.getInstanceId(), e.getMessage());
+        }
+    }
+}
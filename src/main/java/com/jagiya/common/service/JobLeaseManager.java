@@ -0,0 +1,156 @@
+package com.jagiya.common.service;
+
+import com.jagiya.common.dto.JobPartition;
+import com.jagiya.common.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// DB 임대로 여러 서버 중 한 곳에서만 스케줄 작업 실행 (job.lease.enabled=false 이면 모든 서버에서 실행)
+// 작업이 끝나도 임대는 만료시까지 유지하여 시계가 조금 늦은 다른 서버가 같은 주기에 다시 실행하지 않도록 한다
+@Component
+@Slf4j
+public class JobLeaseManager {
+
+    private final JobLeaseRepository jobLeaseRepository;
+
+    private final boolean enabled;
+
+    private final int aliveSeconds;
+
+    private final String instanceId;
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository,
+                           @Value("${job.lease.enabled:false}") boolean enabled,
+                           @Value("${job.lease.aliveSeconds:30}") int aliveSeconds,
+                           @Value("${job.lease.instanceId:}") String instanceId) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.enabled = enabled;
+        this.aliveSeconds = aliveSeconds;
+        this.instanceId = StringUtils.isNotBlank(instanceId) ? instanceId : createInstanceId();
+    }
+
+    private String createInstanceId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            hostName = "unknown";
+        }
+        return StringUtils.left(hostName, 80) + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    // 임대를 받은 경우만 실행, 실패시 임대를 반납하여 다른 서버가 다시 시도할 수 있도록 한다
+    public boolean runOnce(String jobName, int leaseSeconds, Consumer<JobPartition> task) {
+        if (!enabled) {
+            task.accept(JobPartition.all(jobName));
+            return true;
+        }
+        JobPartition partition = tryAcquire(jobName, 0, 1, leaseSeconds);
+        if (partition == null) {
+            log.debug("{} 다른 서버에서 실행중입니다.", jobName);
+            return false;
+        }
+        run(jobName, partition, task);
+        return true;
+    }
+
+    // 살아있는 서버 수로 작업을 나누고 내 구간부터 임대 받아 실행
+    // 내 구간을 끝낸 뒤 아직 아무도 가져가지 않은 구간(종료된 서버 몫)도 실행
+    public int runPartitioned(String jobName, int leaseSeconds, Consumer<JobPartition> task) {
+        if (!enabled) {
+            task.accept(JobPartition.all(jobName));
+            return 1;
+        }
+        List<String> liveInstanceIdList = new ArrayList<>(jobLeaseRepository.selectLiveInstanceIdList(aliveSeconds));
+        if (!liveInstanceIdList.contains(instanceId)) {
+            liveInstanceIdList.add(instanceId);
+            liveInstanceIdList.sort(null);
+        }
+        int count = liveInstanceIdList.size();
+        int myIndex = liveInstanceIdList.indexOf(instanceId);
+
+        int ran = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (myIndex + i) % count;
+            JobPartition partition = tryAcquire(jobName, index, count, leaseSeconds);
+            if (partition == null) {
+                continue;
+            }
+            try {
+                run(jobName, partition, task);
+                ran++;
+            } catch (RuntimeException e) {
+                log.error("{} 실행 실패 : {}", partition, e.getMessage());
+            }
+        }
+        log.info("{} partitions {}, ran {}", jobName, count, ran);
+        return ran;
+    }
+
+    // 긴 작업은 중간중간 연장하고, 연장에 실패(다른 서버가 가져감)하면 중단한다
+    public boolean extend(JobPartition partition, int leaseSeconds) {
+        if (!enabled || partition.getFencingToken() == null) {
+            return true;
+        }
+        return jobLeaseRepository.extend(getLeaseName(partition.getJobName(), partition.getIndex(), partition.getCount()), instanceId, partition.getFencingToken(), leaseSeconds);
+    }
+
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        jobLeaseRepository.heartbeat(instanceId);
+        jobLeaseRepository.deleteDeadInstance(aliveSeconds * 10);
+    }
+
+    public void leave() {
+        if (!enabled) {
+            return;
+        }
+        jobLeaseRepository.deleteInstance(instanceId);
+    }
+
+    private JobPartition tryAcquire(String jobName, int index, int count, int leaseSeconds) {
+        String leaseName = getLeaseName(jobName, index, count);
+        try {
+            Long fencingToken = jobLeaseRepository.tryAcquire(leaseName, instanceId, leaseSeconds);
+            return fencingToken == null ? null : new JobPartition(jobName, index, count, fencingToken);
+        } catch (Exception e) {
+            log.error("{} 임대 조회 실패 : {}", leaseName, e.getMessage());
+            return null;
+        }
+    }
+
+    private void run(String jobName, JobPartition partition, Consumer<JobPartition> task) {
+        try {
+            task.accept(partition);
+        } catch (RuntimeException e) {
+            jobLeaseRepository.release(getLeaseName(jobName, partition.getIndex(), partition.getCount()), instanceId, partition.getFencingToken());
+            throw e;
+        }
+    }
+
+    // 서버 수가 바뀌면 다른 임대가 되도록 구간 수를 이름에 포함
+    private String getLeaseName(String jobName, int index, int count) {
+        if (count <= 1) {
+            return jobName;
+        }
+        return jobName + ":" + count + ":" + index;
+    }
+}
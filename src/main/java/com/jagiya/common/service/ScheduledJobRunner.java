@@ -0,0 +1,160 @@
+package com.jagiya.common.service;
+
+import com.jagiya.common.dto.JobRunRecord;
+import com.jagiya.common.response.JobStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 예약 작업을 작업별 전용 스레드에서 실행 (느린 작업이 다른 작업을 밀지 않도록)
+// 이전 실행이 끝나지 않았으면 이번 실행은 건너뛰고, 작업별 최근 실행 기록을 남김
+@Component
+@Slf4j
+public class ScheduledJobRunner {
+
+    private final int historySize;
+
+    private final Map<String, JobState> jobStateMap = new ConcurrentHashMap<>();
+
+    public ScheduledJobRunner(@Value("${scheduler.historySize:20}") int historySize) {
+        this.historySize = historySize;
+    }
+
+    // 실행을 넘겼으면 true, 이전 실행중이라 건너뛰었으면 false
+    public boolean submit(String jobName, Runnable task) {
+        JobState jobState = jobStateMap.computeIfAbsent(jobName, JobState::new);
+        LocalDateTime scheduledDateTime = LocalDateTime.now();
+        if (!jobState.running.compareAndSet(false, true)) {
+            log.warn("이전 실행이 끝나지 않아 건너뜁니다. {}", jobName);
+            jobState.record(new JobRunRecord(scheduledDateTime, 0, 0, JobRunRecord.SKIPPED, null), historySize);
+            return false;
+        }
+
+        long scheduledNanos = System.nanoTime();
+        try {
+            jobState.executor.execute(() -> run(jobState, task, scheduledDateTime, scheduledNanos));
+        } catch (RejectedExecutionException e) {
+            jobState.running.set(false);
+            log.warn("종료중이라 실행하지 않습니다. {}", jobName);
+            return false;
+        }
+        return true;
+    }
+
+    private void run(JobState jobState, Runnable task, LocalDateTime scheduledDateTime, long scheduledNanos) {
+        long startNanos = System.nanoTime();
+        String status = JobRunRecord.SUCCESS;
+        String message = null;
+        try {
+            task.run();
+        } catch (Exception e) {
+            status = JobRunRecord.FAILED;
+            message = e.getMessage();
+            log.error("예약 작업 실패 {} : {}", jobState.jobName, e.getMessage(), e);
+        } finally {
+            long delayMillis = (startNanos - scheduledNanos) / 1_000_000;
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            jobState.record(new JobRunRecord(scheduledDateTime, delayMillis, elapsedMillis, status, message), historySize);
+            jobState.running.set(false);
+        }
+    }
+
+    public List<JobStatusResponse> getJobStatusList() {
+        List<JobStatusResponse> jobStatusList = new ArrayList<>();
+        for (JobState jobState : jobStateMap.values()) {
+            jobStatusList.add(jobState.toResponse());
+        }
+        jobStatusList.sort(Comparator.comparing(JobStatusResponse::getJobName));
+        return jobStatusList;
+    }
+
+    // 간격을 두고 나누어 실행하는 작업이 대기중이면 바로 중단되도록 인터럽트
+    @PreDestroy
+    public void shutdown() {
+        for (JobState jobState : jobStateMap.values()) {
+            jobState.executor.shutdownNow();
+        }
+        for (JobState jobState : jobStateMap.values()) {
+            try {
+                if (!jobState.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("예약 작업이 종료되지 않았습니다. {}", jobState.jobName);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static class JobState {
+
+        private final String jobName;
+
+        private final ExecutorService executor;
+
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        // 최신 기록이 앞
+        private final Deque<JobRunRecord> historyList = new ArrayDeque<>();
+
+        private long runCount;
+
+        private long skipCount;
+
+        private long failCount;
+
+        private long maxElapsedMillis;
+
+        private JobState(String jobName) {
+            this.jobName = jobName;
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "job-" + jobName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private synchronized void record(JobRunRecord jobRunRecord, int historySize) {
+            if (JobRunRecord.SKIPPED.equals(jobRunRecord.getStatus())) {
+                skipCount++;
+            } else {
+                runCount++;
+                if (JobRunRecord.FAILED.equals(jobRunRecord.getStatus())) {
+                    failCount++;
+                }
+                maxElapsedMillis = Math.max(maxElapsedMillis, jobRunRecord.getElapsedMillis());
+            }
+            historyList.addFirst(jobRunRecord);
+            while (historyList.size() > historySize) {
+                historyList.removeLast();
+            }
+        }
+
+        private synchronized JobStatusResponse toResponse() {
+            return JobStatusResponse.builder()
+                    .jobName(jobName)
+                    .running(running.get())
+                    .runCount(runCount)
+                    .skipCount(skipCount)
+                    .failCount(failCount)
+                    .maxElapsedMillis(maxElapsedMillis)
+                    .historyList(new ArrayList<>(historyList))
+                    .build();
+        }
+    }
+}
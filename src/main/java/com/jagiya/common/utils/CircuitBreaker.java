@@ -0,0 +1,85 @@
+package com.jagiya.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 연속 실패가 임계치를 넘으면 일정시간 호출을 차단하고, 이후 한건만 시험 호출 후 복구
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+
+    private final int failureThreshold;
+
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long openedAtMillis;
+
+    private boolean trialInFlight;
+
+    private long trialStartedMillis;
+
+    private long rejectedCount;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+            log.info("{} circuit HALF_OPEN", name);
+        }
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+        // 시험 호출 결과가 보고되지 않은 경우에도 다시 시험할 수 있도록 함
+        if (state == State.HALF_OPEN && (!trialInFlight || System.currentTimeMillis() - trialStartedMillis >= openMillis)) {
+            trialInFlight = true;
+            trialStartedMillis = System.currentTimeMillis();
+            return true;
+        }
+        rejectedCount++;
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("{} circuit CLOSED", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("{} circuit OPEN, 연속 실패 {}", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtMillis = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+}
@@ -0,0 +1,126 @@
+package com.jagiya.common.utils;
+
+// 기상청 동네예보 격자 변환 (Lambert Conformal Conic)
+// 투영 상수는 생성시 한번만 계산하고 이후 변경하지 않으므로 여러 스레드에서 같이 사용 가능
+public final class GridProjection {
+
+    // 기상청 동네예보 격자 (격자 5km, 기준점 126E 38N = (43, 136))
+    public static final GridProjection KMA_DFS = new GridProjection(6371.00877, 5.0, 30.0, 60.0, 126.0, 38.0, 43, 136);
+
+    private static final double DEGRAD = Math.PI / 180.0;
+
+    private static final double RADDEG = 180.0 / Math.PI;
+
+    private final double xo;
+
+    private final double yo;
+
+    private final double olon;
+
+    private final double sn;
+
+    // re * sf (격자 반경 계산용)
+    private final double reSf;
+
+    private final double ro;
+
+    public GridProjection(double earthRadius, double grid, double slat1Degree, double slat2Degree,
+                          double olonDegree, double olatDegree, double xo, double yo) {
+        double re = earthRadius / grid;
+        double slat1 = slat1Degree * DEGRAD;
+        double slat2 = slat2Degree * DEGRAD;
+        double olat = olatDegree * DEGRAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
+        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
+        ro = re * sf / Math.pow(ro, sn);
+
+        this.xo = xo;
+        this.yo = yo;
+        this.olon = olonDegree * DEGRAD;
+        this.sn = sn;
+        this.reSf = re * sf;
+        this.ro = ro;
+    }
+
+    // 위경도 -> 격자, x 는 상위 32비트, y 는 하위 32비트 (gridX, gridY 로 꺼냄)
+    public long toGrid(double lat, double lon) {
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5);
+        ra = reSf / Math.pow(ra, sn);
+        double theta = lon * DEGRAD - olon;
+        if (theta > Math.PI) theta -= 2.0 * Math.PI;
+        if (theta < -Math.PI) theta += 2.0 * Math.PI;
+        theta *= sn;
+        int x = (int) Math.floor(ra * Math.sin(theta) + xo + 0.5);
+        int y = (int) Math.floor(ro - ra * Math.cos(theta) + yo + 0.5);
+        return pack(x, y);
+    }
+
+    // 위경도 목록 -> 격자 목록 (같은 위치의 x, y 에 저장)
+    public void toGrid(double[] lats, double[] lons, int[] xs, int[] ys) {
+        int length = lats.length;
+        if (lons.length != length || xs.length < length || ys.length < length) {
+            throw new IllegalArgumentException("위경도와 격자 배열의 길이가 맞지 않습니다.");
+        }
+        for (int i = 0; i < length; i++) {
+            long grid = toGrid(lats[i], lons[i]);
+            xs[i] = gridX(grid);
+            ys[i] = gridY(grid);
+        }
+    }
+
+    // 격자 -> 격자 중심의 위도
+    public double toLat(int x, int y) {
+        double xn = x - xo;
+        double yn = ro - y + yo;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (sn < 0.0) {
+            ra = -ra;
+        }
+        double alat = Math.pow((reSf / ra), (1.0 / sn));
+        alat = 2.0 * Math.atan(alat) - Math.PI * 0.5;
+        return alat * RADDEG;
+    }
+
+    // 격자 -> 격자 중심의 경도
+    public double toLon(int x, int y) {
+        double xn = x - xo;
+        double yn = ro - y + yo;
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = xn < 0.0 ? -Math.PI * 0.5 : Math.PI * 0.5;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        return (theta / sn + olon) * RADDEG;
+    }
+
+    // 격자 목록 -> 위경도 목록
+    public void toLatLon(int[] xs, int[] ys, double[] lats, double[] lons) {
+        int length = xs.length;
+        if (ys.length != length || lats.length < length || lons.length < length) {
+            throw new IllegalArgumentException("격자와 위경도 배열의 길이가 맞지 않습니다.");
+        }
+        for (int i = 0; i < length; i++) {
+            lats[i] = toLat(xs[i], ys[i]);
+            lons[i] = toLon(xs[i], ys[i]);
+        }
+    }
+
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int gridX(long grid) {
+        return (int) (grid >> 32);
+    }
+
+    public static int gridY(long grid) {
+        return (int) grid;
+    }
+}
@@ -0,0 +1,37 @@
+package com.jagiya.common.utils;
+
+import lombok.Getter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 호출마다 시도 횟수를 따로 가지는 재시도 정책 (지수 백오프 + full jitter)
+public class RetryPolicy {
+
+    @Getter
+    private final int maxAttempts;
+
+    private final long baseDelayMillis;
+
+    private final long maxDelayMillis;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    // attempt 번째 실패 이후 대기시간 : 0 ~ min(max, base * 2^(attempt-1)) 사이 임의값
+    public long getBackoffMillis(int attempt) {
+        long exponential = baseDelayMillis << Math.min(attempt - 1, 20);
+        long ceiling = Math.min(maxDelayMillis, exponential);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public void backoff(int attempt) throws InterruptedException {
+        Thread.sleep(getBackoffMillis(attempt));
+    }
+}
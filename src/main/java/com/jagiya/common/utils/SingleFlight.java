@@ -0,0 +1,65 @@
+package com.jagiya.common.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 동일 키의 동시 요청은 한번만 실행하고 나머지는 같은 결과를 기다린다.
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong executedCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalescedCount.incrementAndGet();
+            return await(running);
+        }
+
+        executedCount.incrementAndGet();
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error 도 전달해야 대기 중인 요청이 join() 에서 멈추지 않음
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -1,6 +1,8 @@
 package com.jagiya.location.controller;
 
 import com.jagiya.location.response.LocationResponse;
+import com.jagiya.location.response.LocationSearchStatsResponse;
+import com.jagiya.location.response.NearestLocationResponse;
 import com.jagiya.location.service.LocationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -32,4 +34,24 @@ public class LocationController {
     public List<LocationResponse> getLocation(@Schema(description = "주소명", example = "상동", name = "keyword") String keyword) throws Exception {
         return locationService.selectLocation(keyword);
     }
+
+    @Operation(summary = "현재 위치 주소 조회", description = "단말 위경도에서 가장 가까운 등록된 지역을 조회 (외부 API 호출 없음, 주변에 등록된 지역이 없으면 null)")
+    @GetMapping("/getNearestLocation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+        }
+    )
+    public NearestLocationResponse getNearestLocation(@Schema(description = "위도", example = "37.5036", name = "lat") Double lat, @Schema(description = "경도", example = "126.7660", name = "lon") Double lon) {
+        return locationService.selectNearestLocation(lat, lon);
+    }
+
+    @Operation(summary = "주소 검색 통계", description = "주소 검색 캐시 적중률과 최근 검색 응답시간(p50, p99)을 조회 모니터링용")
+    @GetMapping("/getLocationSearchStats")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+        }
+    )
+    public LocationSearchStatsResponse getLocationSearchStats() {
+        return locationService.selectLocationSearchStats();
+    }
 }
@@ -0,0 +1,18 @@
+package com.jagiya.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지역 등록시 지오코딩 결과 (위경도, 격자)
+@Getter
+@AllArgsConstructor
+public class LocationCoordinate {
+
+    private final String lat;
+
+    private final String lon;
+
+    private final String latX;
+
+    private final String lonY;
+}
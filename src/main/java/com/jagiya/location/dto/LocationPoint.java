@@ -0,0 +1,30 @@
+package com.jagiya.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지역 + 지역의 격자 (위치 색인 적재용)
+@Getter
+@AllArgsConstructor
+public class LocationPoint {
+
+    private final Long locationId;
+
+    private final String regionCd;
+
+    private final String cityDo;
+
+    private final String guGun;
+
+    private final String eupMyun;
+
+    private final String lat;
+
+    private final String lon;
+
+    private final Long locationGroupId;
+
+    private final String latX;
+
+    private final String lonY;
+}
@@ -11,7 +11,9 @@ import java.util.Date;
 
 @Data
 @Entity(name = "Location")
-@Table(name = "Location")
+@Table(name = "Location", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_location_region_cd", columnNames = {"regionCd"})
+})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties()
 @DynamicInsert
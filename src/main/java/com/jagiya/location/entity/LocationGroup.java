@@ -12,7 +12,9 @@ import java.util.Date;
 
 @Data
 @Entity(name = "LocationGroup")
-@Table(name = "LocationGroup")
+@Table(name = "LocationGroup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_location_group_grid", columnNames = {"latX", "lonY"})
+})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties()
 @DynamicInsert
@@ -1,5 +1,6 @@
 package com.jagiya.location.repository;
 
+import com.jagiya.location.dto.LocationPoint;
 import com.jagiya.location.entity.LocationGroup;
 
 import java.util.List;
@@ -7,4 +8,10 @@ import java.util.List;
 public interface LocationCustomRepository {
 
     public List<LocationGroup> selectLocationGroupByCityDo(List<String> cityDos);
+
+    public List<LocationPoint> selectLocationPointList(Long lastLocationId, int limit);
+
+    public Long upsertLocationGroup(String latX, String lonY);
+
+    public Long upsertLocation(String regionCd, String cityDo, String guGun, String eupMyun, String lat, String lon, Long locationGroupId);
 }
@@ -1,10 +1,16 @@
 package com.jagiya.location.repository;
 
+import com.jagiya.location.dto.LocationPoint;
 import com.jagiya.location.entity.*;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -12,6 +18,17 @@ import java.util.List;
 public class LocationCustomRepositoryImpl implements LocationCustomRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이미 있으면 변경 없이 기존 ID 를 LAST_INSERT_ID 로 돌려받음
+    private static final String UPSERT_LOCATION_GROUP_SQL =
+            "INSERT INTO LocationGroup (latX, lonY, regDate) VALUES (?, ?, NOW()) "
+                    + "ON DUPLICATE KEY UPDATE locationGroupId = LAST_INSERT_ID(locationGroupId)";
+
+    private static final String UPSERT_LOCATION_SQL =
+            "INSERT INTO Location (regionCd, cityDo, guGun, eupMyun, lat, lon, locationGroupId, regDate) VALUES (?, ?, ?, ?, ?, ?, ?, NOW()) "
+                    + "ON DUPLICATE KEY UPDATE locationId = LAST_INSERT_ID(locationId)";
+
     @Override
     public List<LocationGroup> selectLocationGroupByCityDo(List<String> cityDos) {
         List<Long> locationGroupIdList = jpaQueryFactory.select(QLocation.location.locationGroup.locationGroupId)
@@ -24,4 +41,56 @@ public class LocationCustomRepositoryImpl implements LocationCustomRepository {
                 .where(QLocationGroup.locationGroup.locationGroupId.in(locationGroupIdList))
                 .fetch();
     }
+
+    // 위치 색인 적재용, locationId 순으로 나누어 조회
+    @Override
+    public List<LocationPoint> selectLocationPointList(Long lastLocationId, int limit) {
+        QLocation location = QLocation.location;
+        QLocationGroup locationGroup = QLocationGroup.locationGroup;
+        return jpaQueryFactory.select(Projections.constructor(LocationPoint.class,
+                        location.locationId,
+                        location.regionCd,
+                        location.cityDo,
+                        location.guGun,
+                        location.eupMyun,
+                        location.lat,
+                        location.lon,
+                        locationGroup.locationGroupId,
+                        locationGroup.latX,
+                        locationGroup.lonY))
+                .from(location)
+                .join(location.locationGroup, locationGroup)
+                .where(location.locationId.gt(lastLocationId))
+                .orderBy(location.locationId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // (latX, lonY) 유니크 키 기준 등록, 동시에 등록해도 격자는 한 행
+    @Override
+    public Long upsertLocationGroup(String latX, String lonY) {
+        return upsertReturningId(UPSERT_LOCATION_GROUP_SQL, latX, lonY);
+    }
+
+    // regionCd 유니크 키 기준 등록, 이미 있으면 기존 지역 ID
+    @Override
+    public Long upsertLocation(String regionCd, String cityDo, String guGun, String eupMyun, String lat, String lon, Long locationGroupId) {
+        return upsertReturningId(UPSERT_LOCATION_SQL, regionCd, cityDo, guGun, eupMyun, lat, lon, locationGroupId);
+    }
+
+    // LAST_INSERT_ID 는 커넥션별 값이므로 같은 커넥션에서 조회
+    private Long upsertReturningId(String sql, Object... args) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+                 ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : null;
+            }
+        });
+    }
 }
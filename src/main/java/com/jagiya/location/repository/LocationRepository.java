@@ -1,7 +1,9 @@
 package com.jagiya.location.repository;
 
 import com.jagiya.location.entity.Location;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +14,8 @@ public interface LocationRepository extends JpaRepository<Location, Long> {
 
     List<Location> findByCityDoIn(List<String> cityDos);
 
+    // 다른 트랜잭션에서 먼저 등록된 지역도 조회되도록 잠금 조회 (등록 직후 조회용)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Location> findWithLockByLocationId(Long locationId);
+
 }
@@ -0,0 +1,52 @@
+package com.jagiya.location.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LocationSearchStatsResponse {
+
+    @Schema(description = "검색 캐시 적중 수", example = "1200", name = "cacheHit")
+    private long cacheHit;
+
+    @Schema(description = "결과 없음 캐시 적중 수", example = "30", name = "cacheNegativeHit")
+    private long cacheNegativeHit;
+
+    @Schema(description = "검색 캐시 미적중 수", example = "80", name = "cacheMiss")
+    private long cacheMiss;
+
+    @Schema(description = "검색 캐시 적중률 (결과 없음 포함)", example = "0.93", name = "cacheHitRatio")
+    private double cacheHitRatio;
+
+    @Schema(description = "최대 개수 초과로 제거된 수", example = "0", name = "cacheEviction")
+    private long cacheEviction;
+
+    @Schema(description = "현재 캐시된 검색어 수", example = "500", name = "cacheSize")
+    private int cacheSize;
+
+    @Schema(description = "최근 검색 응답시간 중앙값(us)", example = "15", name = "latencyP50Micros")
+    private long latencyP50Micros;
+
+    @Schema(description = "최근 검색 응답시간 p99(us)", example = "180000", name = "latencyP99Micros")
+    private long latencyP99Micros;
+
+    @Schema(description = "응답시간 계산에 사용한 최근 검색 수", example = "1024", name = "latencySampleCount")
+    private int latencySampleCount;
+
+    @Schema(description = "주소 색인 적재 여부", example = "true", name = "indexLoaded")
+    private boolean indexLoaded;
+
+    @Schema(description = "도로명주소 연동 남은 동시 호출 수", example = "20", name = "jusoBulkheadAvailable")
+    private int jusoBulkheadAvailable;
+
+    @Schema(description = "동시 호출 제한 초과로 거절된 도로명주소 호출 수", example = "0", name = "jusoBulkheadRejected")
+    private long jusoBulkheadRejected;
+
+    @Schema(description = "지오코딩 연동 남은 동시 호출 수", example = "10", name = "geocodingBulkheadAvailable")
+    private int geocodingBulkheadAvailable;
+
+    @Schema(description = "동시 호출 제한 초과로 거절된 지오코딩 호출 수", example = "0", name = "geocodingBulkheadRejected")
+    private long geocodingBulkheadRejected;
+}
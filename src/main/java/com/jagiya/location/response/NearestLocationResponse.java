@@ -0,0 +1,34 @@
+package com.jagiya.location.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NearestLocationResponse {
+
+    @Schema(description = "시도명", example = "경기도", name = "cityDo")
+    private String cityDo;
+
+    @Schema(description = "시군구명", example = "부천시", name = "guGun")
+    private String guGun;
+
+    @Schema(description = "읍면동명", example = "상동", name = "eupMyun")
+    private String eupMyun;
+
+    @Schema(description = "행정구역코드", example = "4119010900", name = "regionCd")
+    private String regionCd;
+
+    @Schema(description = "지역그룹ID", example = "12", name = "locationGroupId")
+    private Long locationGroupId;
+
+    @Schema(description = "X좌표", example = "57", name = "latX")
+    private String latX;
+
+    @Schema(description = "Y좌표", example = "125", name = "lonY")
+    private String lonY;
+
+    @Schema(description = "요청 위치와의 거리(km)", example = "1.2", name = "distanceKm")
+    private double distanceKm;
+}
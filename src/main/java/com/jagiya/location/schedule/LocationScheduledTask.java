@@ -0,0 +1,40 @@
+package com.jagiya.location.schedule;
+
+import com.jagiya.common.service.ScheduledJobRunner;
+import com.jagiya.location.service.LocationGridIndex;
+import com.jagiya.location.service.LocationSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocationScheduledTask {
+
+    private final LocationGridIndex locationGridIndex;
+
+    private final LocationSearchIndex locationSearchIndex;
+
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadGridIndex() {
+        scheduledJobRunner.submit("locationGridIndexReload", locationGridIndex::load);
+    }
+
+    // 다른 서버에서 등록된 지역 반영을 위해 매일 전체 재적재
+    @Scheduled(cron = "${location.nearest.reloadCron:0 40 4 * * ?}")
+    public void reloadGridIndex() {
+        scheduledJobRunner.submit("locationGridIndexReload", locationGridIndex::load);
+    }
+
+    // 법정동코드 파일 변경 반영 (다시 적재되면 이전 검색 결과 캐시는 사용하지 않음)
+    @Scheduled(cron = "${location.index.reloadCron:0 50 4 * * ?}")
+    public void reloadSearchIndex() {
+        scheduledJobRunner.submit("locationSearchIndexReload", locationSearchIndex::load);
+    }
+}
@@ -0,0 +1,235 @@
+package com.jagiya.location.service;
+
+import com.jagiya.common.utils.GridProjection;
+import com.jagiya.common.utils.TransactionUtils;
+import com.jagiya.location.dto.LocationPoint;
+import com.jagiya.location.entity.Location;
+import com.jagiya.location.repository.LocationCustomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 등록된 지역을 기상청 격자(5km) 단위로 나누어 둔 위치 색인
+// 단말 위경도를 격자로 바꾼 뒤 주변 격자부터 차례로 살펴 가장 가까운 지역을 찾는다 (외부 지오코딩 없음)
+@Component
+@Slf4j
+public class LocationGridIndex {
+
+    private static final double GRID_KM = 5.0;
+
+    private static final double EARTH_RADIUS_KM = 6371.00877;
+
+    private static final double DEGRAD = Math.PI / 180.0;
+
+    private final LocationCustomRepository locationCustomRepository;
+
+    private final int loadPageSize;
+
+    private final double maxDistanceKm;
+
+    private final int maxRadius;
+
+    // 격자(x, y) -> 격자에 속한 지역
+    private volatile Map<Long, IndexedPoint[]> cellMap = new ConcurrentHashMap<>();
+
+    // 전체 적재 중 추가된 지역 (적재 완료시 새 색인에 다시 추가)
+    private List<IndexedPoint> addedDuringLoad;
+
+    public LocationGridIndex(LocationCustomRepository locationCustomRepository,
+                             @Value("${location.nearest.loadPageSize:5000}") int loadPageSize,
+                             @Value("${location.nearest.maxDistanceKm:20}") double maxDistanceKm) {
+        this.locationCustomRepository = locationCustomRepository;
+        this.loadPageSize = loadPageSize;
+        this.maxDistanceKm = maxDistanceKm;
+        this.maxRadius = (int) Math.ceil(maxDistanceKm / GRID_KM) + 1;
+    }
+
+    // 등록된 지역 전체를 새 색인에 적재한 뒤 교체
+    public int load() {
+        long startMillis = System.currentTimeMillis();
+        synchronized (this) {
+            addedDuringLoad = new ArrayList<>();
+        }
+
+        Map<Long, IndexedPoint[]> loadMap = new ConcurrentHashMap<>();
+        int count = 0;
+        Long lastLocationId = 0L;
+        while (true) {
+            List<LocationPoint> locationPointList = locationCustomRepository.selectLocationPointList(lastLocationId, loadPageSize);
+            if (locationPointList.isEmpty()) {
+                break;
+            }
+            for (LocationPoint locationPoint : locationPointList) {
+                IndexedPoint indexedPoint = toIndexedPoint(locationPoint);
+                if (indexedPoint != null) {
+                    addTo(loadMap, indexedPoint);
+                    count++;
+                }
+            }
+            lastLocationId = locationPointList.get(locationPointList.size() - 1).getLocationId();
+            if (locationPointList.size() < loadPageSize) {
+                break;
+            }
+        }
+
+        synchronized (this) {
+            for (IndexedPoint indexedPoint : addedDuringLoad) {
+                addTo(loadMap, indexedPoint);
+            }
+            addedDuringLoad = null;
+            cellMap = loadMap;
+        }
+        log.info("location grid index load locations {}, cells {}, elapsed {}ms", count, loadMap.size(), System.currentTimeMillis() - startMillis);
+        return count;
+    }
+
+    // 새로 등록된 지역은 커밋 후 색인에 추가
+    public void add(Location location) {
+        if (location.getLocationGroup() == null) {
+            return;
+        }
+        LocationPoint locationPoint = new LocationPoint(location.getLocationId(), location.getRegionCd(), location.getCityDo(),
+                location.getGuGun(), location.getEupMyun(), location.getLat(), location.getLon(),
+                location.getLocationGroup().getLocationGroupId(), location.getLocationGroup().getLatX(), location.getLocationGroup().getLonY());
+        TransactionUtils.afterCommit(() -> {
+            IndexedPoint indexedPoint = toIndexedPoint(locationPoint);
+            if (indexedPoint == null) {
+                return;
+            }
+            synchronized (this) {
+                addTo(cellMap, indexedPoint);
+                if (addedDuringLoad != null) {
+                    addedDuringLoad.add(indexedPoint);
+                }
+            }
+        });
+    }
+
+    // maxDistanceKm 안에서 가장 가까운 지역, 없으면 null
+    public LocationPoint findNearest(double lat, double lon) {
+        long grid = GridProjection.KMA_DFS.toGrid(lat, lon);
+        int centerX = GridProjection.gridX(grid);
+        int centerY = GridProjection.gridY(grid);
+        Map<Long, IndexedPoint[]> searchMap = cellMap;
+
+        IndexedPoint nearest = null;
+        double nearestKm = Double.MAX_VALUE;
+        for (int radius = 0; radius <= maxRadius; radius++) {
+            // 이번 둘레의 격자는 가장 가까워도 (radius - 1) 격자 이상 떨어져 있음
+            if (nearest != null && (radius - 1) * GRID_KM > nearestKm) {
+                break;
+            }
+            for (int dx = -radius; dx <= radius; dx++) {
+                int step = Math.abs(dx) == radius ? 1 : Math.max(radius * 2, 1);
+                for (int dy = -radius; dy <= radius; dy += step) {
+                    IndexedPoint[] points = searchMap.get(GridProjection.pack(centerX + dx, centerY + dy));
+                    if (points == null) {
+                        continue;
+                    }
+                    for (IndexedPoint point : points) {
+                        double km = distanceKm(lat, lon, point.lat, point.lon);
+                        if (km < nearestKm) {
+                            nearestKm = km;
+                            nearest = point;
+                        }
+                    }
+                }
+            }
+        }
+        if (nearest == null || nearestKm > maxDistanceKm) {
+            return null;
+        }
+        return nearest.locationPoint;
+    }
+
+    public double distanceKm(LocationPoint locationPoint, double lat, double lon) {
+        IndexedPoint indexedPoint = toIndexedPoint(locationPoint);
+        return indexedPoint == null ? -1 : distanceKm(lat, lon, indexedPoint.lat, indexedPoint.lon);
+    }
+
+    public int getSize() {
+        int size = 0;
+        for (IndexedPoint[] points : cellMap.values()) {
+            size += points.length;
+        }
+        return size;
+    }
+
+    // 수 km 이내 비교용 근사 거리 (equirectangular)
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double x = (lon2 - lon1) * DEGRAD * Math.cos((lat1 + lat2) * 0.5 * DEGRAD);
+        double y = (lat2 - lat1) * DEGRAD;
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_KM;
+    }
+
+    // 같은 격자 안의 지역은 복사 후 교체 (조회중인 배열은 변경하지 않음)
+    private static void addTo(Map<Long, IndexedPoint[]> map, IndexedPoint indexedPoint) {
+        map.compute(indexedPoint.cell, (cell, points) -> {
+            if (points == null) {
+                return new IndexedPoint[]{indexedPoint};
+            }
+            for (int i = 0; i < points.length; i++) {
+                if (points[i].locationPoint.getLocationId().equals(indexedPoint.locationPoint.getLocationId())) {
+                    IndexedPoint[] replaced = points.clone();
+                    replaced[i] = indexedPoint;
+                    return replaced;
+                }
+            }
+            IndexedPoint[] added = Arrays.copyOf(points, points.length + 1);
+            added[points.length] = indexedPoint;
+            return added;
+        });
+    }
+
+    // 지역 위경도가 없으면 격자 중심 좌표 사용, 격자도 없으면 색인하지 않음
+    private static IndexedPoint toIndexedPoint(LocationPoint locationPoint) {
+        int x;
+        int y;
+        try {
+            x = Integer.parseInt(locationPoint.getLatX());
+            y = Integer.parseInt(locationPoint.getLonY());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        double lat;
+        double lon;
+        if (StringUtils.isNotBlank(locationPoint.getLat()) && StringUtils.isNotBlank(locationPoint.getLon())) {
+            try {
+                lat = Double.parseDouble(locationPoint.getLat());
+                lon = Double.parseDouble(locationPoint.getLon());
+            } catch (NumberFormatException e) {
+                lat = GridProjection.KMA_DFS.toLat(x, y);
+                lon = GridProjection.KMA_DFS.toLon(x, y);
+            }
+        } else {
+            lat = GridProjection.KMA_DFS.toLat(x, y);
+            lon = GridProjection.KMA_DFS.toLon(x, y);
+        }
+        return new IndexedPoint(GridProjection.pack(x, y), lat, lon, locationPoint);
+    }
+
+    private static class IndexedPoint {
+
+        private final long cell;
+
+        private final double lat;
+
+        private final double lon;
+
+        private final LocationPoint locationPoint;
+
+        private IndexedPoint(long cell, double lat, double lon, LocationPoint locationPoint) {
+            this.cell = cell;
+            this.lat = lat;
+            this.lon = lon;
+            this.locationPoint = locationPoint;
+        }
+    }
+}
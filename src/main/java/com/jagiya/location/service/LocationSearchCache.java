@@ -0,0 +1,159 @@
+package com.jagiya.location.service;
+
+import com.jagiya.location.response.LocationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 주소 검색어 -> 검색 결과 캐시 (최대 개수 초과시 LRU 제거)
+// 결과가 없는 검색어도 짧게 저장하고, 주소 색인이 다시 적재되면 이전 색인 기준 결과는 사용하지 않음
+@Component
+@Slf4j
+public class LocationSearchCache {
+
+    private final int maxSize;
+
+    private final long ttlMillis;
+
+    private final long negativeTtlMillis;
+
+    // 접근 순서 (가장 오래 사용하지 않은 검색어가 앞)
+    private final LinkedHashMap<String, CacheEntry> cache;
+
+    // 최근 검색 응답시간(ns) 순환 기록
+    private final long[] latencySamples;
+
+    private int latencyIndex;
+
+    private int latencyCount;
+
+    private long hitCount;
+
+    private long negativeHitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    public LocationSearchCache(@Value("${location.searchCache.maxSize:5000}") int maxSize,
+                               @Value("${location.searchCache.ttlMinutes:1440}") long ttlMinutes,
+                               @Value("${location.searchCache.negativeTtlMinutes:10}") long negativeTtlMinutes,
+                               @Value("${location.searchCache.latencySamples:1024}") int latencySamples) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMinutes * 60 * 1000;
+        this.negativeTtlMillis = negativeTtlMinutes * 60 * 1000;
+        this.latencySamples = new long[latencySamples];
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > LocationSearchCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 앞뒤 공백 제거, 연속 공백은 하나로, 영문은 소문자
+    public static String normalize(String keyword) {
+        return StringUtils.normalizeSpace(keyword).toLowerCase(Locale.ROOT);
+    }
+
+    // 없거나 만료, 다른 색인 기준이면 null (결과 없음이 저장된 경우 빈 목록)
+    public synchronized List<LocationResponse> get(String key, long indexVersion) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (entry.indexVersion != indexVersion || entry.expireMillis < System.currentTimeMillis()) {
+            cache.remove(key);
+            missCount++;
+            return null;
+        }
+        if (entry.locationResponseList.isEmpty()) {
+            negativeHitCount++;
+        } else {
+            hitCount++;
+        }
+        return entry.locationResponseList;
+    }
+
+    public synchronized void put(String key, List<LocationResponse> locationResponseList, long indexVersion) {
+        long ttl = locationResponseList.isEmpty() ? negativeTtlMillis : ttlMillis;
+        cache.put(key, new CacheEntry(Collections.unmodifiableList(locationResponseList), indexVersion, System.currentTimeMillis() + ttl));
+    }
+
+    public synchronized void recordLatency(long elapsedNanos) {
+        latencySamples[latencyIndex] = elapsedNanos;
+        latencyIndex = (latencyIndex + 1) % latencySamples.length;
+        latencyCount = Math.min(latencyCount + 1, latencySamples.length);
+    }
+
+    // 최근 기록 기준 백분위 응답시간(us)
+    public long getLatencyPercentileMicros(double percentile) {
+        long[] samples;
+        synchronized (this) {
+            if (latencyCount == 0) {
+                return 0;
+            }
+            samples = Arrays.copyOf(latencySamples, latencyCount);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile / 100.0 * samples.length) - 1;
+        return samples[Math.max(index, 0)] / 1000;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getNegativeHitCount() {
+        return negativeHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized double getHitRatio() {
+        long total = hitCount + negativeHitCount + missCount;
+        return total == 0 ? 0 : (double) (hitCount + negativeHitCount) / total;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    public synchronized int getLatencySampleCount() {
+        return latencyCount;
+    }
+
+    private static class CacheEntry {
+
+        private final List<LocationResponse> locationResponseList;
+
+        private final long indexVersion;
+
+        private final long expireMillis;
+
+        private CacheEntry(List<LocationResponse> locationResponseList, long indexVersion, long expireMillis) {
+            this.locationResponseList = locationResponseList;
+            this.indexVersion = indexVersion;
+            this.expireMillis = expireMillis;
+        }
+    }
+}
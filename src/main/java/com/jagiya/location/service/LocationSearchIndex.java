@@ -0,0 +1,341 @@
+package com.jagiya.location.service;
+
+import com.jagiya.location.enums.LocationShortName;
+import com.jagiya.location.response.LocationResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 법정동코드 전체자료로 만든 주소 검색 색인 (읍면동 단위)
+// 지역명은 사전(문자열 -> 번호)으로 한번만 저장하고, 지역명의 단어를 정렬하여 앞부분 일치, 초성 검색을 지원
+@Component
+@Slf4j
+public class LocationSearchIndex {
+
+    private static final char[] CHOSEONG = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private final Resource indexResource;
+
+    private final Charset charset;
+
+    private final int maxResults;
+
+    private volatile IndexState state;
+
+    // 적재할 때마다 증가 (검색 결과 캐시 무효화용)
+    private volatile long version;
+
+    public LocationSearchIndex(@Value("${location.index.path:classpath:location/legal_dong_code.txt}") Resource indexResource,
+                               @Value("${location.index.charset:UTF-8}") String charset,
+                               @Value("${location.index.maxResults:500}") int maxResults) {
+        this.indexResource = indexResource;
+        this.charset = Charset.forName(charset);
+        this.maxResults = maxResults;
+    }
+
+    // 파일이 없으면 색인 없이 주소 API 만 사용
+    @PostConstruct
+    public synchronized void load() {
+        if (!indexResource.exists()) {
+            log.warn("주소 색인 파일이 없어 주소 API 를 사용합니다. {}", indexResource.getDescription());
+            return;
+        }
+        long startMillis = System.currentTimeMillis();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexResource.getInputStream(), charset))) {
+            IndexBuilder builder = new IndexBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                builder.add(line);
+            }
+            state = builder.build();
+            version++;
+            log.info("location search index load entries {}, names {}, elapsed {}ms",
+                    state.regionCds.length, state.names.length, System.currentTimeMillis() - startMillis);
+        } catch (Exception e) {
+            log.error("주소 색인 적재 실패 : {}", e.getMessage());
+        }
+    }
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // 공백으로 나눈 검색어가 모두 지역명 단어의 앞부분과 일치하는 읍면동 (초성만 입력한 단어는 초성으로 비교)
+    public List<LocationResponse> search(String keyword) {
+        IndexState searchState = state;
+        List<LocationResponse> locationResponseList = new ArrayList<>();
+        if (searchState == null || StringUtils.isBlank(keyword)) {
+            return locationResponseList;
+        }
+
+        int[] entries = null;
+        for (String term : StringUtils.split(keyword.trim())) {
+            int[] termEntries = isChoseong(term)
+                    ? searchState.findEntries(searchState.choseongKeys, searchState.choseongTokens, term)
+                    : searchState.findEntries(searchState.nameKeys, searchState.nameTokens, term);
+            entries = entries == null ? termEntries : intersect(entries, termEntries);
+            if (entries.length == 0) {
+                return locationResponseList;
+            }
+        }
+
+        int count = Math.min(entries.length, maxResults);
+        for (int i = 0; i < count; i++) {
+            locationResponseList.add(searchState.toResponse(entries[i]));
+        }
+        return locationResponseList;
+    }
+
+    static boolean isChoseong(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String toChoseong(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            sb.append(c >= 0xAC00 && c <= 0xD7A3 ? CHOSEONG[(c - 0xAC00) / 588] : c);
+        }
+        return sb.toString();
+    }
+
+    // 정렬된 두 목록의 교집합
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static class IndexState {
+
+        // 지역명 사전
+        private final String[] names;
+
+        // 읍면동별 코드와 지역명 번호
+        private final String[] regionCds;
+
+        private final int[] cityDoIds;
+
+        private final int[] guGunIds;
+
+        private final int[] eupMyunIds;
+
+        // 정렬된 검색 단어와 단어별 읍면동 목록 번호
+        private final String[] nameKeys;
+
+        private final int[] nameTokens;
+
+        private final String[] choseongKeys;
+
+        private final int[] choseongTokens;
+
+        // 단어별 읍면동 목록 (정렬됨)
+        private final int[][] postings;
+
+        private IndexState(String[] names, String[] regionCds, int[] cityDoIds, int[] guGunIds, int[] eupMyunIds,
+                           String[] nameKeys, int[] nameTokens, String[] choseongKeys, int[] choseongTokens, int[][] postings) {
+            this.names = names;
+            this.regionCds = regionCds;
+            this.cityDoIds = cityDoIds;
+            this.guGunIds = guGunIds;
+            this.eupMyunIds = eupMyunIds;
+            this.nameKeys = nameKeys;
+            this.nameTokens = nameTokens;
+            this.choseongKeys = choseongKeys;
+            this.choseongTokens = choseongTokens;
+            this.postings = postings;
+        }
+
+        // term 으로 시작하는 단어들의 읍면동 목록을 합침
+        private int[] findEntries(String[] keys, int[] tokens, String term) {
+            int from = lowerBound(keys, term);
+            boolean[] matched = null;
+            int matchedCount = 0;
+            for (int i = from; i < keys.length && keys[i].startsWith(term); i++) {
+                if (matched == null) {
+                    matched = new boolean[regionCds.length];
+                }
+                for (int entry : postings[tokens[i]]) {
+                    if (!matched[entry]) {
+                        matched[entry] = true;
+                        matchedCount++;
+                    }
+                }
+            }
+            int[] entries = new int[matchedCount];
+            if (matched != null) {
+                int count = 0;
+                for (int entry = 0; entry < matched.length && count < matchedCount; entry++) {
+                    if (matched[entry]) {
+                        entries[count++] = entry;
+                    }
+                }
+            }
+            return entries;
+        }
+
+        private static int lowerBound(String[] keys, String term) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(term) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private LocationResponse toResponse(int entry) {
+            LocationResponse locationResponse = new LocationResponse();
+            locationResponse.setRegionCd(regionCds[entry]);
+            locationResponse.setCityDo(names[cityDoIds[entry]]);
+            locationResponse.setGuGun(names[guGunIds[entry]]);
+            locationResponse.setEupMyun(names[eupMyunIds[entry]]);
+            return locationResponse;
+        }
+    }
+
+    // 법정동코드 전체자료 (법정동코드 \t 법정동명 \t 폐지여부) 한 줄씩 적재
+    private static class IndexBuilder {
+
+        private final Map<String, Integer> nameIdMap = new HashMap<>();
+
+        private final List<String> names = new ArrayList<>();
+
+        private final List<String> regionCds = new ArrayList<>();
+
+        private final List<int[]> nameIdList = new ArrayList<>();
+
+        // 검색 단어 -> 읍면동 목록
+        private final Map<String, List<Integer>> tokenEntryMap = new HashMap<>();
+
+        private void add(String line) {
+            String[] columns = line.split("\t");
+            if (columns.length < 2 || columns[0].length() != 10 || !StringUtils.isNumeric(columns[0])) {
+                return;
+            }
+            if (columns.length > 2 && columns[2].contains("폐지")) {
+                return;
+            }
+            // 리 단위(끝 2자리)는 제외, 시도/시군구 단위는 읍면동명이 없어 제외
+            String regionCd = columns[0];
+            if (!regionCd.endsWith("00") || regionCd.substring(5, 8).equals("000")) {
+                return;
+            }
+            String[] words = StringUtils.split(columns[1].trim());
+            if (words.length < 2) {
+                return;
+            }
+
+            String sidoName = words[0];
+            String guGun = String.join(" ", Arrays.copyOfRange(words, 1, words.length - 1));
+            String eupMyun = words[words.length - 1];
+
+            int entry = regionCds.size();
+            regionCds.add(regionCd);
+            nameIdList.add(new int[]{getNameId(LocationService.getSidoShortName(sidoName)), getNameId(guGun), getNameId(eupMyun)});
+
+            for (String word : words) {
+                addToken(word, entry);
+            }
+            String shortName = LocationShortName.getShortName(sidoName);
+            if (!shortName.equals(sidoName)) {
+                addToken(shortName, entry);
+            }
+        }
+
+        private int getNameId(String name) {
+            return nameIdMap.computeIfAbsent(name, key -> {
+                names.add(key);
+                return names.size() - 1;
+            });
+        }
+
+        private void addToken(String token, int entry) {
+            List<Integer> entries = tokenEntryMap.computeIfAbsent(token, key -> new ArrayList<>());
+            if (entries.isEmpty() || entries.get(entries.size() - 1) != entry) {
+                entries.add(entry);
+            }
+        }
+
+        private IndexState build() {
+            int size = regionCds.size();
+            int[] cityDoIds = new int[size];
+            int[] guGunIds = new int[size];
+            int[] eupMyunIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                int[] nameIds = nameIdList.get(i);
+                cityDoIds[i] = nameIds[0];
+                guGunIds[i] = nameIds[1];
+                eupMyunIds[i] = nameIds[2];
+            }
+
+            String[] tokens = tokenEntryMap.keySet().toArray(new String[0]);
+            Arrays.sort(tokens);
+            int[][] postings = new int[tokens.length][];
+            for (int i = 0; i < tokens.length; i++) {
+                postings[i] = tokenEntryMap.get(tokens[i]).stream().mapToInt(Integer::intValue).toArray();
+            }
+            int[] nameTokens = new int[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                nameTokens[i] = i;
+            }
+
+            // 초성 단어는 같은 초성이 여러 단어에 대응하므로 (초성, 단어번호) 쌍으로 정렬
+            Integer[] choseongOrder = new Integer[tokens.length];
+            String[] choseongs = new String[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                choseongOrder[i] = i;
+                choseongs[i] = toChoseong(tokens[i]);
+            }
+            Arrays.sort(choseongOrder, (a, b) -> choseongs[a].compareTo(choseongs[b]));
+            String[] choseongKeys = new String[tokens.length];
+            int[] choseongTokens = new int[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                choseongKeys[i] = choseongs[choseongOrder[i]];
+                choseongTokens[i] = choseongOrder[i];
+            }
+
+            return new IndexState(names.toArray(new String[0]), regionCds.toArray(new String[0]), cityDoIds, guGunIds, eupMyunIds,
+                    tokens, nameTokens, choseongKeys, choseongTokens, postings);
+        }
+    }
+}
@@ -2,32 +2,40 @@ package com.jagiya.location.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jagiya.common.exception.CommonException;
+import com.jagiya.common.http.OutboundHttpClient;
+import com.jagiya.common.http.OutboundHttpClients;
+import com.jagiya.common.utils.CircuitBreaker;
+import com.jagiya.common.utils.GridProjection;
+import com.jagiya.common.utils.RetryPolicy;
+import com.jagiya.common.utils.SingleFlight;
+import com.jagiya.location.dto.LocationCoordinate;
+import com.jagiya.location.dto.LocationPoint;
 import com.jagiya.location.entity.Location;
-import com.jagiya.location.entity.LocationGroup;
 import com.jagiya.location.enums.LocationResponseCode;
-import com.jagiya.location.repository.LocationGroupRepository;
+import com.jagiya.location.repository.LocationCustomRepository;
 import com.jagiya.location.repository.LocationRepository;
-import com.jagiya.location.request.GpsTransfer;
 import com.jagiya.location.request.LocationRequest;
 import com.jagiya.location.response.*;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
@@ -48,16 +56,27 @@ public class LocationService {
     private String geocodingAppKey;
 
 
-    private int retryCnt = 0;
+    private final OutboundHttpClients outboundHttpClients;
 
-    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
 
     private final LocationRepository locationRepository;
 
-    private final LocationGroupRepository locationGroupRepository;
+    private final LocationSearchIndex locationSearchIndex;
+
+    private final LocationGridIndex locationGridIndex;
+
+    private final LocationCustomRepository locationCustomRepository;
+
+    private final LocationSearchCache locationSearchCache;
+
+    private final SingleFlight<String, LocationCoordinate> geocodingSingleFlight = new SingleFlight<>();
+
+    // 검색어 사용 불가 문자, SQL 예약어 (대소문자 무시, 한번만 컴파일)
+    private static final Pattern BLOCKED_KEYWORD_PATTERN = Pattern.compile(
+            "[%=><]|OR|SELECT|INSERT|DELETE|UPDATE|CREATE|DROP|EXEC|UNION|FETCH|DECLARE|TRUNCATE", Pattern.CASE_INSENSITIVE);
 
     public List<LocationResponse> selectLocation(String keyword) throws Exception {
-        retryCnt = 0;
         if (StringUtils.isBlank(keyword)) {
             throw new CommonException("검색어를 입력해주세요 {}", "887");
         }
@@ -74,9 +93,54 @@ public class LocationService {
             throw new CommonException("특수문자 또는 사용할수 없는 특정 문자가 들어갔습니다.", "888");
         }
 
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+        // 같은 검색어는 캐시 결과 사용 (결과 없음도 저장), 주소 색인이 다시 적재되면 새로 검색
+        long startNanos = System.nanoTime();
+        String cacheKey = LocationSearchCache.normalize(keyword);
+        long indexVersion = locationSearchIndex.getVersion();
+        List<LocationResponse> locationResponseList = locationSearchCache.get(cacheKey, indexVersion);
+        if (locationResponseList == null) {
+            locationResponseList = searchLocation(cacheKey);
+            // API 호출 실패는 저장하지 않음
+            if (locationResponseList != null) {
+                locationSearchCache.put(cacheKey, locationResponseList, indexVersion);
+            }
+        }
+        locationSearchCache.recordLatency(System.nanoTime() - startNanos);
+
+        if (locationResponseList == null || locationResponseList.isEmpty()) {
+            return null;
+        }
+        return locationResponseList;
+    }
+
+    public LocationSearchStatsResponse selectLocationSearchStats() {
+        return LocationSearchStatsResponse.builder()
+                .cacheHit(locationSearchCache.getHitCount())
+                .cacheNegativeHit(locationSearchCache.getNegativeHitCount())
+                .cacheMiss(locationSearchCache.getMissCount())
+                .cacheHitRatio(locationSearchCache.getHitRatio())
+                .cacheEviction(locationSearchCache.getEvictionCount())
+                .cacheSize(locationSearchCache.getSize())
+                .latencyP50Micros(locationSearchCache.getLatencyPercentileMicros(50))
+                .latencyP99Micros(locationSearchCache.getLatencyPercentileMicros(99))
+                .latencySampleCount(locationSearchCache.getLatencySampleCount())
+                .indexLoaded(locationSearchIndex.isLoaded())
+                .jusoBulkheadAvailable(outboundHttpClients.getJuso().getAvailableCount())
+                .jusoBulkheadRejected(outboundHttpClients.getJuso().getRejectedCount())
+                .geocodingBulkheadAvailable(outboundHttpClients.getGeocoding().getAvailableCount())
+                .geocodingBulkheadRejected(outboundHttpClients.getGeocoding().getRejectedCount())
+                .build();
+    }
+
+    // 주소 색인에서 먼저 찾고, 없는 경우만 주소 API 호출 (API 호출 실패시 null)
+    private List<LocationResponse> searchLocation(String keyword) throws Exception {
+        List<LocationResponse> indexedLocationList = locationSearchIndex.search(keyword);
+        if (!indexedLocationList.isEmpty()) {
+            return indexedLocationList;
+        }
+        if (locationSearchIndex.isLoaded()) {
+            log.info("주소 색인 결과 없음, 주소 API 호출 {}", keyword);
+        }
 
         String decodedConfmKey = URLEncoder.encode(confmKey, "UTF-8");
 
@@ -94,18 +158,20 @@ public class LocationService {
         URI apiUrl = uri.toUri();
         log.info("uri : " +  apiUrl);
 
-        HttpEntity<String> entity = new HttpEntity<>(httpHeaders);
-        LocationApiResponse response = callApi(apiUrl, entity);
+        HttpRequest.Builder request = HttpRequest.newBuilder(apiUrl)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .GET();
+        LocationApiResponse response = callApi(request);
 
         if (response != null) {
             List<LocationData> locationDataList = response.getResults().getJuso();
-            List<LocationResponse> locationResponseList = groupDataByLocation(locationDataList);
+            List<LocationResponse> locationResponseList = locationDataList == null ? new ArrayList<>() : groupDataByLocation(locationDataList);
 
-            if (locationResponseList.size() > 0) {
-                return locationResponseList;
-            } else {
+            if (locationResponseList.isEmpty()) {
                 log.info("Call API 값이 없습니다.");
             }
+            return locationResponseList;
         } else {
             log.info("Call API NULL");
         }
@@ -113,17 +179,28 @@ public class LocationService {
         return null;
     }
 
-    private LocationApiResponse callApi(URI apiUrl, HttpEntity<String> entity) {
-        try {
-            ResponseEntity<String> responseAsString = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, String.class);
+    // 통신 오류, 5xx 만 재시도하고 주소 API 오류코드는 재시도하지 않음
+    private LocationApiResponse callApi(HttpRequest.Builder request) {
+        OutboundHttpClient jusoClient = outboundHttpClients.getJuso();
+        CircuitBreaker circuitBreaker = jusoClient.getCircuitBreaker();
+        RetryPolicy retryPolicy = jusoClient.getRetryPolicy();
 
-            if (responseAsString == null) {
-                log.info("API 결과 NULL");
-            } else {
-                if (responseAsString.getStatusCode() == HttpStatus.OK) {
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.allowRequest()) {
+                log.warn("주소 API 서킷 OPEN, 호출 생략");
+                return null;
+            }
+
+            try {
+                HttpResponse<String> responseAsString = jusoClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+                if (responseAsString == null) {
+                    log.info("API 결과 NULL");
+                    circuitBreaker.onFailure();
+                } else if (responseAsString.statusCode() == HttpStatus.OK.value()) {
+                    circuitBreaker.onSuccess();
                     try {
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        LocationApiResponse response = objectMapper.readValue(responseAsString.getBody(), LocationApiResponse.class);
+                        LocationApiResponse response = objectMapper.readValue(responseAsString.body(), LocationApiResponse.class);
                         String resultCode = response.getResults().getCommon().getErrorCode();
 
                         if (resultCode.equals(LocationResponseCode.NORMAL.getCode())) {
@@ -137,47 +214,42 @@ public class LocationService {
                     } catch (Exception e) {
                         log.error("callApi 실패 error returnReasonCode : {} ", e.getMessage());
                     }
+                    return null;
                 } else {
-                    log.error("API 통신 결과 실패 HttpStatus : {} ", responseAsString.getStatusCode());
+                    log.error("API 통신 결과 실패 HttpStatus : {} ", responseAsString.statusCode());
+                    if (responseAsString.statusCode() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                        return null;
+                    }
+                    circuitBreaker.onFailure();
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("callApi 중단");
+                return null;
+            } catch (CommonException e) {
+                // 동시 호출 제한 초과
+                log.error("callApi 실패 error : {}", e.getMessage());
+                return null;
+            } catch (Exception e) {
+                log.error("callApi 실패 error : {}", e.getMessage());
+                circuitBreaker.onFailure();
             }
-        } catch (Exception e) {
-            log.error("callApi 실패 error : {}", e.getMessage());
-        }
-        return null;
-    }
 
-    private boolean checkSearchedWord(String keyword) {
-        Pattern pattern = Pattern.compile("[%=><]");
-        Matcher matcher = pattern.matcher(keyword);
-
-        if (matcher.find()) {
-            return false;
-        }
-
-        List<String> sqlArray = new ArrayList<>();
-        sqlArray.add("OR");
-        sqlArray.add("SELECT");
-        sqlArray.add("INSERT");
-        sqlArray.add("DELETE");
-        sqlArray.add("UPDATE");
-        sqlArray.add("CREATE");
-        sqlArray.add("DROP");
-        sqlArray.add("EXEC");
-        sqlArray.add("UNION");
-        sqlArray.add("FETCH");
-        sqlArray.add("DECLARE");
-        sqlArray.add("TRUNCATE");
-
-        for (String sqlText : sqlArray) {
-            Pattern patternSql = Pattern.compile(sqlText, Pattern.CASE_INSENSITIVE);
-            Matcher matcherSql = patternSql.matcher(keyword);
-            if (matcherSql.find()) {
-                return false;
+            if (!retryPolicy.canRetry(attempt)) {
+                return null;
+            }
+            try {
+                log.info("retryApi : " + attempt);
+                retryPolicy.backoff(attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
             }
         }
+    }
 
-        return true;
+    private boolean checkSearchedWord(String keyword) {
+        return !BLOCKED_KEYWORD_PATTERN.matcher(keyword).find();
     }
 
     private List<LocationResponse> groupDataByLocation(List<LocationData> locationDataList) {
@@ -215,70 +287,81 @@ public class LocationService {
         }
     }
 
+    // 같은 지역 동시 등록은 지오코딩을 한번만 호출하고, 행은 유니크 키 기준 upsert 로 한번만 등록
     public Location insertLocation (LocationRequest locationRequest) {
         String cityDo = locationRequest.getCityDo();
         String guGun = locationRequest.getGuGun();
         String eupMyun = locationRequest.getEupMyun();
         String regionCd = locationRequest.getRegionCd();
 
-        GeocodingApiData apiData = selectGeocoding(cityDo, guGun, eupMyun);
+        LocationCoordinate coordinate = geocodingSingleFlight.execute(regionCd, () -> selectLocationCoordinate(locationRequest));
+        locationRequest.setLat(coordinate.getLat());
+        locationRequest.setLon(coordinate.getLon());
+        locationRequest.setLatX(coordinate.getLatX());
+        locationRequest.setLonY(coordinate.getLonY());
 
+        Long locationGroupId = locationCustomRepository.upsertLocationGroup(coordinate.getLatX(), coordinate.getLonY());
+        Long locationId = locationCustomRepository.upsertLocation(regionCd, cityDo, guGun, eupMyun, coordinate.getLat(), coordinate.getLon(), locationGroupId);
+
+        Location location = locationRepository.findWithLockByLocationId(locationId).orElseThrow(() -> new CommonException("지역 등록에 실패했습니다.", "885"));
+        locationGridIndex.add(location);
+
+        return location;
+    }
+
+    // 지오코딩 결과 위경도를 격자로 변환, 실패시 요청에 있던 값 사용
+    private LocationCoordinate selectLocationCoordinate(LocationRequest locationRequest) {
+        String lat = locationRequest.getLat();
+        String lon = locationRequest.getLon();
+        String latX = locationRequest.getLatX();
+        String lonY = locationRequest.getLonY();
+
+        GeocodingApiData apiData = selectGeocoding(locationRequest.getCityDo(), locationRequest.getGuGun(), locationRequest.getEupMyun());
         if (apiData != null) {
-            String lat = apiData.getLat();
-            String lon = apiData.getLon();
+            String apiLat = apiData.getLat();
+            String apiLon = apiData.getLon();
             try {
-                if (StringUtils.isNotBlank(lat) && StringUtils.isNotBlank(lon)) {
-                    GpsTransfer gpsTransfer = new GpsTransfer(Double.parseDouble(lat), Double.parseDouble(lon));
-                    gpsTransfer.transfer(gpsTransfer, 0);
-                    String latX = String.valueOf(gpsTransfer.getxLat());
-                    String lonY = String.valueOf(gpsTransfer.getyLon());
-
-                    locationRequest.setLat(lat);
-                    locationRequest.setLon(lon);
-                    locationRequest.setLatX(latX);
-                    locationRequest.setLonY(lonY);
+                if (StringUtils.isNotBlank(apiLat) && StringUtils.isNotBlank(apiLon)) {
+                    long grid = GridProjection.KMA_DFS.toGrid(Double.parseDouble(apiLat), Double.parseDouble(apiLon));
+                    lat = apiLat;
+                    lon = apiLon;
+                    latX = String.valueOf(GridProjection.gridX(grid));
+                    lonY = String.valueOf(GridProjection.gridY(grid));
                 } else {
-                    log.error("위경도 null : {} {}", lat, lon);
+                    log.error("위경도 null : {} {}", apiLat, apiLon);
                 }
             } catch (Exception e) {
-                log.error("위경도 좌표 변환 실패 : {} {}", lat, lon);
+                log.error("위경도 좌표 변환 실패 : {} {}", apiLat, apiLon);
             }
         }
-        String lat = locationRequest.getLat();
-        String lon = locationRequest.getLon();
-        String latX = locationRequest.getLatX();
-        String lonY = locationRequest.getLonY();
-
-        Optional<LocationGroup> LocationGroupInfo = locationGroupRepository.findByLatXAndLonY(latX, lonY);
+        return new LocationCoordinate(lat, lon, latX, lonY);
+    }
 
-        LocationGroup locationGroup;
-        if (LocationGroupInfo.isPresent()) {
-            locationGroup = LocationGroupInfo.get();
-        } else {
-            locationGroup = LocationGroup.builder()
-                    .latX(latX)
-                    .lonY(lonY)
-                    .regDate(new Date())
-                    .build();
-            locationGroupRepository.save(locationGroup);
+    // 단말 위경도에서 가장 가까운 등록 지역 (외부 API 호출 없이 위치 색인에서 조회), 없으면 null
+    public NearestLocationResponse selectNearestLocation(Double lat, Double lon) {
+        if (lat == null || lon == null || lat < 30 || lat > 45 || lon < 120 || lon > 135) {
+            throw new CommonException("위경도가 올바르지 않습니다.", "886");
         }
 
-        Location location = Location.builder()
-                .regionCd(regionCd)
-                .cityDo(cityDo)
-                .guGun(guGun)
-                .eupMyun(eupMyun)
-                .lat(lat)
-                .lon(lon)
-                .locationGroup(locationGroup)
-                .regDate(new Date())
+        LocationPoint locationPoint = locationGridIndex.findNearest(lat, lon);
+        if (locationPoint == null) {
+            log.info("주변에 등록된 지역이 없습니다. {}, {}", lat, lon);
+            return null;
+        }
+        return NearestLocationResponse.builder()
+                .cityDo(locationPoint.getCityDo())
+                .guGun(locationPoint.getGuGun())
+                .eupMyun(locationPoint.getEupMyun())
+                .regionCd(locationPoint.getRegionCd())
+                .locationGroupId(locationPoint.getLocationGroupId())
+                .latX(locationPoint.getLatX())
+                .lonY(locationPoint.getLonY())
+                .distanceKm(Math.round(locationGridIndex.distanceKm(locationPoint, lat, lon) * 100) / 100.0)
                 .build();
-
-        locationRepository.save(location);
-
-        return location;
     }
 
+    // 호출한 트랜잭션에 참여 (등록 직후 잠금 조회가 트랜잭션 안에서 실행되도록)
+    @Transactional
     public Location selectInsertLocation(LocationRequest locationRequest) {
         String regionCd = locationRequest.getRegionCd();
         Location location = selectLocationByRegionCd(regionCd);
@@ -291,12 +374,6 @@ public class LocationService {
 
     private GeocodingApiData selectGeocoding(String cityDo, String guGun, String dong) {
 
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
-        httpHeaders.add("appKey", geocodingAppKey);
-        HttpEntity<String> entity = new HttpEntity<>(httpHeaders);
-
         try {
             String decodedCityDo = URLEncoder.encode(cityDo, "UTF-8");
             String decodedGuGun = URLEncoder.encode(guGun, "UTF-8");
@@ -313,33 +390,44 @@ public class LocationService {
             URI apiUrl = uri.toUri();
             log.info("uri : " +  apiUrl);
 
-            ResponseEntity<GeocodingApiResponse> response = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, GeocodingApiResponse.class);
+            HttpRequest.Builder request = HttpRequest.newBuilder(apiUrl)
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header("appKey", geocodingAppKey)
+                    .GET();
+            HttpResponse<String> response = outboundHttpClients.getGeocoding().send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response == null) {
                 log.info("API 결과 NULL");
             } else {
-                if (response.getStatusCode() == HttpStatus.OK) {
-                    GeocodingApiData apiData = response.getBody().getCoordinateInfo();
+                GeocodingApiResponse geocodingApiResponse = objectMapper.readValue(response.body(), GeocodingApiResponse.class);
+                if (response.statusCode() == HttpStatus.OK.value()) {
+                    GeocodingApiData apiData = geocodingApiResponse.getCoordinateInfo();
                     return apiData;
                 } else {
-                    log.error("API 통신 결과 실패 HttpStatus : {} ", response.getStatusCode());
-                    log.error("API 통신 결과 실패 error : {} ", response.getBody().getError());
+                    log.error("API 통신 결과 실패 HttpStatus : {} ", response.statusCode());
+                    log.error("API 통신 결과 실패 error : {} ", geocodingApiResponse.getError());
                 }
             }
         } catch (UnsupportedEncodingException e) {
             log.info("Geocoding 주소 인코딩 실패 {}, {}, {}", cityDo, guGun, dong);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Geocoding API 중단 {}, {}, {}", cityDo, guGun, dong);
+        } catch (IOException e) {
+            log.error("Geocoding API 호출 실패 {}, {}, {} : {}", cityDo, guGun, dong, e.getMessage());
         }
 
         return null;
     }
 
-    private String getSidoShortName(String sidoName) {
+    static String getSidoShortName(String sidoName) {
         String [] shortList = {"특별자치", "광역", "특별"};
         if (StringUtils.equals(sidoName, "전북특별자치도")) {
             sidoName = "전라북도";
         } else {
             for (String shortName : shortList) {
-                sidoName = sidoName.replaceAll(shortName, "");
+                sidoName = sidoName.replace(shortName, "");
             }
         }
         return sidoName;
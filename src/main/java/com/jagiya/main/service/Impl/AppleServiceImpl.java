@@ -1,6 +1,7 @@
 package com.jagiya.main.service.Impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jagiya.common.http.OutboundHttpClients;
 import com.jagiya.common.repository.TokenRepository;
 import com.jagiya.main.dto.login.AppleDTO;
 import com.jagiya.main.dto.login.MsgEntity;
@@ -21,23 +22,24 @@ import net.minidev.json.parser.JSONParser;
 import org.bouncycastle.util.io.pem.PemObject;
 import org.bouncycastle.util.io.pem.PemReader;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import javax.management.openmbean.InvalidKeyException;
 import java.beans.Transient;
 import java.io.*;
+import java.net.URI;
 import java.net.URL;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.interfaces.ECPrivateKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 
 @RequiredArgsConstructor
@@ -62,6 +64,8 @@ public class AppleServiceImpl implements AppleService {
 
     private final UsersRepository usersRepository;
 
+    private final OutboundHttpClients outboundHttpClients;
+
     private final static String APPLE_AUTH_URL = "https://appleid.apple.com";
 
     @Override
@@ -86,28 +90,25 @@ public class AppleServiceImpl implements AppleService {
         String accessToken = "";
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Content-type", "application/x-www-form-urlencoded");
-
-            MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-            params.add("grant_type"   , "authorization_code");
-            params.add("client_id"    , APPLE_CLIENT_ID);
-            params.add("client_secret", clientSecret);
-            params.add("code"         , code);
-            params.add("redirect_uri" , APPLE_REDIRECT_URL);
-
-            RestTemplate restTemplate = new RestTemplate();
-            HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(params, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    APPLE_AUTH_URL + "/auth/token",
-                    HttpMethod.POST,
-                    httpEntity,
-                    String.class
-            );
+            Map<String, String> params = new LinkedHashMap<>();
+            params.put("grant_type"   , "authorization_code");
+            params.put("client_id"    , APPLE_CLIENT_ID);
+            params.put("client_secret", clientSecret);
+            params.put("code"         , code);
+            params.put("redirect_uri" , APPLE_REDIRECT_URL);
+
+            String formBody = params.entrySet().stream()
+                    .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                    .collect(Collectors.joining("&"));
+
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(APPLE_AUTH_URL + "/auth/token"))
+                    .header("Content-type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(formBody));
+
+            HttpResponse<String> response = outboundHttpClients.getApple().send(request, HttpResponse.BodyHandlers.ofString());
 
             JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObj = (JSONObject) jsonParser.parse(response.getBody());
+            JSONObject jsonObj = (JSONObject) jsonParser.parse(response.body());
 
             accessToken = String.valueOf(jsonObj.get("access_token"));
 
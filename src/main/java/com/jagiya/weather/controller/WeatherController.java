@@ -3,6 +3,8 @@ package com.jagiya.weather.controller;
 import com.jagiya.common.response.CommonResponse;
 import com.jagiya.weather.entity.Weather;
 import com.jagiya.weather.request.WeatherTestRequest;
+import com.jagiya.weather.response.NearestWeatherResponse;
+import com.jagiya.weather.response.WeatherStatsResponse;
 import com.jagiya.weather.response.WeatherTestResponse;
 import com.jagiya.weather.service.WeatherService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,4 +52,24 @@ public class WeatherController {
         return weatherService.refreshLocationForWeather(regionCd, refreshType);
     }
 
+    @GetMapping("/getNearestWeather")
+    @Operation(summary = "현재 위치 날씨", description = "단말 위경도에서 가장 가까운 등록된 지역의 예보를 조회 (외부 지오코딩 없음, 기준날짜가 없으면 오늘)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+        }
+    )
+    public NearestWeatherResponse getNearestWeather(@Schema(description = "위도", example = "37.5036", name = "lat") Double lat, @Schema(description = "경도", example = "126.7660", name = "lon") Double lon, @Schema(description = "기준날짜", example = "20230914", name = "fcstDate") String fcstDate) {
+        return weatherService.selectNearestWeather(lat, lon, fcstDate);
+    }
+
+    @GetMapping("/getWeatherStats")
+    @Operation(summary = "날씨 갱신 통계", description = "날씨 API 갱신 실행수와 동시요청 합류수를 조회 모니터링용")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+        }
+    )
+    public WeatherStatsResponse getWeatherStats() {
+        return weatherService.selectWeatherStats();
+    }
+
 }
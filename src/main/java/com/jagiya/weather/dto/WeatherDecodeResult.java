@@ -0,0 +1,18 @@
+package com.jagiya.weather.dto;
+
+import com.jagiya.weather.entity.Weather;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class WeatherDecodeResult {
+
+    // 결과코드 (XML 오류 응답인 경우 returnReasonCode)
+    private final String resultCode;
+
+    // 예보일시 별로 묶인 예보 목록
+    private final List<Weather> weatherList;
+}
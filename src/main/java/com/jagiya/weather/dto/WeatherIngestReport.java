@@ -0,0 +1,55 @@
+package com.jagiya.weather.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Getter
+@ToString(exclude = "failures")
+public class WeatherIngestReport {
+
+    private final int total;
+
+    private final long startMillis = System.currentTimeMillis();
+
+    private int completed;
+
+    private int success;
+
+    private int failed;
+
+    private int inserted;
+
+    private int updated;
+
+    private int unchanged;
+
+    private long elapsedMillis;
+
+    // 실패 격자(locationGroupId) 별 사유
+    private final Map<Long, String> failures = new ConcurrentHashMap<>();
+
+    public WeatherIngestReport(int total) {
+        this.total = total;
+    }
+
+    public synchronized int addSuccess(WeatherUpsertResult result) {
+        success++;
+        inserted += result.getInserted();
+        updated += result.getUpdated();
+        unchanged += result.getUnchanged();
+        return ++completed;
+    }
+
+    public synchronized int addFailure(Long locationGroupId, String reason) {
+        failed++;
+        failures.put(locationGroupId, reason);
+        return ++completed;
+    }
+
+    public synchronized void finish() {
+        elapsedMillis = System.currentTimeMillis() - startMillis;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jagiya.weather.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@ToString
+public class WeatherPurgeReport {
+
+    // 삭제 기준 (baseDate 이하 삭제)
+    private final String baseDate;
+
+    private final long startMillis = System.currentTimeMillis();
+
+    private int chunks;
+
+    private long deleted;
+
+    // 삭제한 파티션
+    private final List<String> droppedPartitions = new ArrayList<>();
+
+    // 다음 실행시 이어서 처리할 weatherId (완료시 null)
+    private Long resumeWeatherId;
+
+    private long elapsedMillis;
+
+    public WeatherPurgeReport(String baseDate) {
+        this.baseDate = baseDate;
+    }
+
+    public void addChunk(int deletedRows) {
+        chunks++;
+        deleted += deletedRows;
+    }
+
+    public void addDroppedPartition(String partitionName) {
+        droppedPartitions.add(partitionName);
+    }
+
+    public void finish(Long resumeWeatherId) {
+        this.resumeWeatherId = resumeWeatherId;
+        this.elapsedMillis = System.currentTimeMillis() - startMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? deleted : deleted * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,23 @@
+package com.jagiya.weather.dto;
+
+import com.jagiya.weather.entity.Weather;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WeatherReadResult {
+
+    private final Weather weather;
+
+    // 이전 발표 기준 예보 여부 (백그라운드 갱신 요청됨)
+    private final boolean stale;
+
+    public static WeatherReadResult fresh(Weather weather) {
+        return new WeatherReadResult(weather, false);
+    }
+
+    public static WeatherReadResult stale(Weather weather) {
+        return new WeatherReadResult(weather, true);
+    }
+}
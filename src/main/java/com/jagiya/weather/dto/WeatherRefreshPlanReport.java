@@ -0,0 +1,28 @@
+package com.jagiya.weather.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class WeatherRefreshPlanReport {
+
+    // 요청된 (격자, 예보시간) 수 (기존 방식의 refreshWeather 호출 수)
+    private final int requested;
+
+    // 중복 제거된 (격자, 예보시간) 수
+    private final int distinct;
+
+    // 이미 최신이라 갱신이 필요없는 수
+    private final int fresh;
+
+    // 실제 실행한 (격자, 갱신타입, 발표시각) API 호출 수
+    private final int fetched;
+
+    // 절약한 API 호출 수
+    public int getAvoided() {
+        return requested - fetched;
+    }
+}
@@ -0,0 +1,14 @@
+package com.jagiya.weather.dto;
+
+import com.jagiya.location.entity.LocationGroup;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WeatherRefreshTarget {
+
+    private final LocationGroup locationGroup;
+
+    private final String fcstTime;
+}
@@ -0,0 +1,17 @@
+package com.jagiya.weather.dto;
+
+import com.jagiya.weather.entity.Weather;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 격자의 예보가 새 발표로 등록/수정되었을 때 발행
+@Getter
+@AllArgsConstructor
+public class WeatherRefreshedEvent {
+
+    private final Long locationGroupId;
+
+    private final List<Weather> weatherList;
+}
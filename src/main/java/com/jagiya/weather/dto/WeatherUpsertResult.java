@@ -0,0 +1,66 @@
+package com.jagiya.weather.dto;
+
+import com.jagiya.weather.entity.Weather;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@ToString(exclude = "weatherList")
+public class WeatherUpsertResult {
+
+    // 신규 등록 건수
+    private int inserted;
+
+    // 값이 변경되어 수정된 건수
+    private int updated;
+
+    // 기존 값과 동일하여 쓰기를 생략한 건수
+    private int unchanged;
+
+    // API 호출 실패 여부
+    private boolean failed;
+
+    // 반영 이후 예보 목록 (DB 재조회 없이 사용)
+    private final List<Weather> weatherList = new ArrayList<>();
+
+    public static WeatherUpsertResult empty() {
+        return new WeatherUpsertResult();
+    }
+
+    public static WeatherUpsertResult apiFailed() {
+        WeatherUpsertResult result = new WeatherUpsertResult();
+        result.failed = true;
+        return result;
+    }
+
+    public void addInserted(Weather weather) {
+        inserted++;
+        weatherList.add(weather);
+    }
+
+    public void addUpdated(Weather weather) {
+        updated++;
+        weatherList.add(weather);
+    }
+
+    public void addUnchanged(Weather weather) {
+        unchanged++;
+        weatherList.add(weather);
+    }
+
+    public int getWritten() {
+        return inserted + updated;
+    }
+
+    public Weather findWeather(String fcstDate, String fcstTime) {
+        for (Weather weather : weatherList) {
+            if (fcstDate.equals(weather.getFcstDate()) && fcstTime.equals(weather.getFcstTime())) {
+                return weather;
+            }
+        }
+        return null;
+    }
+}
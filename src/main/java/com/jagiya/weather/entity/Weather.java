@@ -8,13 +8,16 @@ import com.jagiya.weather.enums.WeatherCategory;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
+import org.apache.commons.lang3.StringUtils;
 import org.hibernate.annotations.DynamicInsert;
 
 import java.util.Date;
 
 @Data
 @Entity(name = "Weather")
-@Table(name = "Weather")
+@Table(name = "Weather", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_weather_group_fcst", columnNames = {"locationGroupId", "fcstDate", "fcstTime"})
+})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties()
 @DynamicInsert
@@ -103,7 +106,7 @@ public class Weather {
 
     public WeatherEditor.WeatherEditorBuilder toEditor() {
         return WeatherEditor.builder()
-                .pcp(pcp)
+                .pop(pop)
                 .pty(pty)
                 .tmx(tmx)
                 .tmp(tmp)
@@ -125,4 +128,20 @@ public class Weather {
         this.baseDate = weatherEditor.getBaseDate();
         this.baseTime = weatherEditor.getBaseTime();
     }
+
+    // 비오는 기준 PTY 강수형태
+    // (초단기)없음(0), 비(1), 비/눈(2), 눈(3), 빗방울(5), 빗방울눈날림(6), 눈날림(7)
+    // (단기)없음(0), 비(1), 비/눈(2), 눈(3), 소나기(4)
+    // 1 부터 6까지 비
+    public boolean hasRain() {
+        if (StringUtils.isBlank(pty)) {
+            return false;
+        }
+        try {
+            int ptyCode = Integer.parseInt(pty);
+            return ptyCode > 0 && ptyCode < 7;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 }
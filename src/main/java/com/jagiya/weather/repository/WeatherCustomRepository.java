@@ -0,0 +1,25 @@
+package com.jagiya.weather.repository;
+
+import com.jagiya.location.entity.LocationGroup;
+import com.jagiya.weather.dto.WeatherUpsertResult;
+import com.jagiya.weather.entity.Weather;
+
+import java.util.List;
+import java.util.Map;
+
+public interface WeatherCustomRepository {
+
+    public WeatherUpsertResult upsertWeatherList(LocationGroup locationGroup, List<Weather> weatherList, String refreshType);
+
+    public Long selectMinWeatherId();
+
+    public Long selectMaxWeatherId();
+
+    public int deleteWeatherByIdRange(long fromWeatherId, long toWeatherId, String baseDate);
+
+    public Map<String, String> selectWeatherPartitions();
+
+    public void dropWeatherPartition(String partitionName);
+
+    public void addWeatherPartition(String partitionName, String lessThanFcstDate);
+}
@@ -0,0 +1,235 @@
+package com.jagiya.weather.repository;
+
+import com.jagiya.location.entity.LocationGroup;
+import com.jagiya.weather.dto.WeatherUpsertResult;
+import com.jagiya.weather.entity.Weather;
+import com.jagiya.weather.entity.WeatherEditor;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+@RequiredArgsConstructor
+@Repository
+public class WeatherCustomRepositoryImpl implements WeatherCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SELECT_SQL =
+            "SELECT weatherId, baseDate, baseTime, fcstDate, fcstTime, pop, pty, pcp, sky, tmp, tmn, tmx " +
+            "FROM Weather WHERE locationGroupId = ? AND fcstDate BETWEEN ? AND ?";
+
+    // 단기예보(1) : 전체 항목 갱신
+    private static final String UPSERT_SRT_SQL =
+            "INSERT INTO Weather (locationGroupId, baseDate, baseTime, fcstDate, fcstTime, pop, pty, pcp, sky, tmp, tmn, tmx, regDate) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "pop = COALESCE(VALUES(pop), pop), " +
+            "pty = COALESCE(VALUES(pty), pty), " +
+            "pcp = COALESCE(VALUES(pcp), pcp), " +
+            "sky = COALESCE(VALUES(sky), sky), " +
+            "tmp = COALESCE(VALUES(tmp), tmp), " +
+            "tmn = COALESCE(VALUES(tmn), tmn), " +
+            "tmx = COALESCE(VALUES(tmx), tmx), " +
+            "baseDate = COALESCE(VALUES(baseDate), baseDate), " +
+            "baseTime = COALESCE(VALUES(baseTime), baseTime), " +
+            "modifyDate = NOW()";
+
+    // 초단기예보(0) : 강수확률, 최저/최고기온은 초단기에 없으므로 유지
+    private static final String UPSERT_ULTRA_SRT_SQL =
+            "INSERT INTO Weather (locationGroupId, baseDate, baseTime, fcstDate, fcstTime, pop, pty, pcp, sky, tmp, tmn, tmx, regDate) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "pty = COALESCE(VALUES(pty), pty), " +
+            "pcp = COALESCE(VALUES(pcp), pcp), " +
+            "sky = COALESCE(VALUES(sky), sky), " +
+            "tmp = COALESCE(VALUES(tmp), tmp), " +
+            "baseDate = COALESCE(VALUES(baseDate), baseDate), " +
+            "baseTime = COALESCE(VALUES(baseTime), baseTime), " +
+            "modifyDate = NOW()";
+
+    private static final String DELETE_BY_ID_RANGE_SQL =
+            "DELETE FROM Weather WHERE weatherId BETWEEN ? AND ? AND baseDate <= ?";
+
+    // fcstDate RANGE COLUMNS 파티션 목록 (파티션 미적용시 빈 목록)
+    private static final String SELECT_PARTITION_SQL =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Weather' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("p\\d{8}");
+
+    @Override
+    public WeatherUpsertResult upsertWeatherList(LocationGroup locationGroup, List<Weather> weatherList, String refreshType) {
+        WeatherUpsertResult result = WeatherUpsertResult.empty();
+        if (weatherList == null || weatherList.isEmpty()) {
+            return result;
+        }
+
+        Long locationGroupId = locationGroup.getLocationGroupId();
+
+        // 기존 예보를 한번에 조회하여 등록/수정/변경없음 구분
+        String minFcstDate = null;
+        String maxFcstDate = null;
+        for (Weather weather : weatherList) {
+            String fcstDate = weather.getFcstDate();
+            if (minFcstDate == null || fcstDate.compareTo(minFcstDate) < 0) {
+                minFcstDate = fcstDate;
+            }
+            if (maxFcstDate == null || fcstDate.compareTo(maxFcstDate) > 0) {
+                maxFcstDate = fcstDate;
+            }
+        }
+
+        Map<String, Weather> existingMap = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            Weather existing = Weather.builder()
+                    .weatherId(rs.getLong("weatherId"))
+                    .baseDate(rs.getString("baseDate"))
+                    .baseTime(rs.getString("baseTime"))
+                    .fcstDate(rs.getString("fcstDate"))
+                    .fcstTime(rs.getString("fcstTime"))
+                    .pop(rs.getString("pop"))
+                    .pty(rs.getString("pty"))
+                    .pcp(rs.getString("pcp"))
+                    .sky(rs.getString("sky"))
+                    .tmp(rs.getString("tmp"))
+                    .tmn(rs.getString("tmn"))
+                    .tmx(rs.getString("tmx"))
+                    .locationGroup(locationGroup)
+                    .build();
+            existingMap.put(existing.getFcstDate() + existing.getFcstTime(), existing);
+        }, locationGroupId, minFcstDate, maxFcstDate);
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Weather weather : weatherList) {
+            Weather existing = existingMap.get(weather.getFcstDate() + weather.getFcstTime());
+            if (existing == null) {
+                weather.setLocationGroup(locationGroup);
+                result.addInserted(weather);
+            } else {
+                Weather merged = merge(existing, weather, refreshType);
+                if (isSameValue(existing, merged)) {
+                    result.addUnchanged(existing);
+                    continue;
+                }
+                result.addUpdated(merged);
+            }
+            batchArgs.add(new Object[]{
+                    locationGroupId,
+                    weather.getBaseDate(),
+                    weather.getBaseTime(),
+                    weather.getFcstDate(),
+                    weather.getFcstTime(),
+                    weather.getPop(),
+                    weather.getPty(),
+                    weather.getPcp(),
+                    weather.getSky(),
+                    weather.getTmp(),
+                    weather.getTmn(),
+                    weather.getTmx()
+            });
+        }
+
+        if (!batchArgs.isEmpty()) {
+            String sql = StringUtils.equals(refreshType, "1") ? UPSERT_SRT_SQL : UPSERT_ULTRA_SRT_SQL;
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        }
+        return result;
+    }
+
+    private Weather merge(Weather existing, Weather weather, String refreshType) {
+        WeatherEditor.WeatherEditorBuilder editorBuilder = existing.toEditor();
+        WeatherEditor weatherEditor;
+        if (StringUtils.equals(refreshType, "1")) {
+            weatherEditor = editorBuilder.pop(weather.getPop())
+                    .pty(weather.getPty())
+                    .tmx(weather.getTmx())
+                    .tmn(weather.getTmn())
+                    .tmp(weather.getTmp())
+                    .pcp(weather.getPcp())
+                    .sky(weather.getSky())
+                    .baseDate(weather.getBaseDate())
+                    .baseTime(weather.getBaseTime())
+                    .build();
+        } else {
+            weatherEditor = editorBuilder.pcp(weather.getPcp())
+                    .tmp(weather.getTmp())
+                    .sky(weather.getSky())
+                    .pty(weather.getPty())
+                    .baseDate(weather.getBaseDate())
+                    .baseTime(weather.getBaseTime())
+                    .build();
+        }
+
+        Weather merged = Weather.builder()
+                .weatherId(existing.getWeatherId())
+                .fcstDate(existing.getFcstDate())
+                .fcstTime(existing.getFcstTime())
+                .locationGroup(existing.getLocationGroup())
+                .build();
+        merged.edit(weatherEditor);
+        return merged;
+    }
+
+    private boolean isSameValue(Weather a, Weather b) {
+        return Objects.equals(a.getPop(), b.getPop())
+                && Objects.equals(a.getPty(), b.getPty())
+                && Objects.equals(a.getPcp(), b.getPcp())
+                && Objects.equals(a.getSky(), b.getSky())
+                && Objects.equals(a.getTmp(), b.getTmp())
+                && Objects.equals(a.getTmn(), b.getTmn())
+                && Objects.equals(a.getTmx(), b.getTmx())
+                && Objects.equals(a.getBaseDate(), b.getBaseDate())
+                && Objects.equals(a.getBaseTime(), b.getBaseTime());
+    }
+
+    @Override
+    public Long selectMinWeatherId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(weatherId) FROM Weather", Long.class);
+    }
+
+    @Override
+    public Long selectMaxWeatherId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(weatherId) FROM Weather", Long.class);
+    }
+
+    @Override
+    public int deleteWeatherByIdRange(long fromWeatherId, long toWeatherId, String baseDate) {
+        return jdbcTemplate.update(DELETE_BY_ID_RANGE_SQL, fromWeatherId, toWeatherId, baseDate);
+    }
+
+    @Override
+    public Map<String, String> selectWeatherPartitions() {
+        Map<String, String> partitionMap = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_PARTITION_SQL, rs -> {
+            partitionMap.put(rs.getString("PARTITION_NAME"), StringUtils.remove(rs.getString("PARTITION_DESCRIPTION"), "'"));
+        });
+        return partitionMap;
+    }
+
+    @Override
+    public void dropWeatherPartition(String partitionName) {
+        checkPartitionName(partitionName);
+        jdbcTemplate.execute("ALTER TABLE Weather DROP PARTITION " + partitionName);
+    }
+
+    @Override
+    public void addWeatherPartition(String partitionName, String lessThanFcstDate) {
+        checkPartitionName(partitionName);
+        checkPartitionName("p" + lessThanFcstDate);
+        jdbcTemplate.execute("ALTER TABLE Weather REORGANIZE PARTITION pmax INTO (" +
+                "PARTITION " + partitionName + " VALUES LESS THAN ('" + lessThanFcstDate + "'), " +
+                "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    // DDL 은 바인딩이 안되므로 이름 형식 검증
+    private void checkPartitionName(String partitionName) {
+        if (!PARTITION_NAME_PATTERN.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("파티션명이 올바르지 않습니다. " + partitionName);
+        }
+    }
+}
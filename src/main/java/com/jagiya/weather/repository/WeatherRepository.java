@@ -3,6 +3,7 @@ package com.jagiya.weather.repository;
 import com.jagiya.weather.entity.Weather;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface WeatherRepository extends JpaRepository<Weather, Long> {
@@ -11,5 +12,5 @@ public interface WeatherRepository extends JpaRepository<Weather, Long> {
 
     Weather findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime(Long locationoGroupId, String fcstDate, String fcstTime);
 
-    List<Weather> findByBaseDateLessThanEqual(String baseDate);
+    List<Weather> findByLocationGroupLocationGroupIdInAndFcstDate(Collection<Long> locationGroupIds, String fcstDate);
 }
@@ -0,0 +1,19 @@
+package com.jagiya.weather.response;
+
+import com.jagiya.location.response.NearestLocationResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class NearestWeatherResponse {
+
+    @Schema(description = "가장 가까운 등록 지역", name = "location")
+    private NearestLocationResponse location;
+
+    @Schema(description = "예보 목록", name = "weatherList")
+    private List<WeatherTestResponse> weatherList;
+}
@@ -0,0 +1,49 @@
+package com.jagiya.weather.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class WeatherStatsResponse {
+
+    @Schema(description = "실제 실행된 날씨 갱신 API 호출 수", example = "10", name = "refreshExecuted")
+    private long refreshExecuted;
+
+    @Schema(description = "진행중인 호출에 합류한 요청 수", example = "250", name = "refreshCoalesced")
+    private long refreshCoalesced;
+
+    @Schema(description = "현재 진행중인 날씨 갱신 수", example = "1", name = "refreshInFlight")
+    private int refreshInFlight;
+
+    @Schema(description = "예보 캐시 적중 수", example = "1200", name = "cacheHit")
+    private long cacheHit;
+
+    @Schema(description = "예보 캐시 미적중 수", example = "80", name = "cacheMiss")
+    private long cacheMiss;
+
+    @Schema(description = "최대 크기 초과로 제거된 캐시 수", example = "0", name = "cacheEviction")
+    private long cacheEviction;
+
+    @Schema(description = "발표시각 경과로 만료된 캐시 수", example = "40", name = "cacheExpired")
+    private long cacheExpired;
+
+    @Schema(description = "현재 캐시 항목 수", example = "500", name = "cacheSize")
+    private int cacheSize;
+
+    @Schema(description = "백그라운드 갱신 요청 수", example = "30", name = "revalidateSubmitted")
+    private long revalidateSubmitted;
+
+    @Schema(description = "대기열 초과로 버려진 백그라운드 갱신 수", example = "0", name = "revalidateRejected")
+    private long revalidateRejected;
+
+    @Schema(description = "대기중인 백그라운드 갱신 수", example = "2", name = "revalidatePending")
+    private int revalidatePending;
+
+    @Schema(description = "기상청 연동 남은 동시 호출 수", example = "16", name = "kmaBulkheadAvailable")
+    private int kmaBulkheadAvailable;
+
+    @Schema(description = "동시 호출 제한 초과로 거절된 기상청 호출 수", example = "0", name = "kmaBulkheadRejected")
+    private long kmaBulkheadRejected;
+}
@@ -1,5 +1,8 @@
 package com.jagiya.weather.schedule;
 
+import com.jagiya.common.service.JobLeaseManager;
+import com.jagiya.common.service.ScheduledJobRunner;
+import com.jagiya.weather.dto.WeatherPurgeReport;
 import com.jagiya.weather.service.WeatherService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,10 +16,19 @@ public class WeatherScheduledTask {
 
     private final WeatherService weatherService;
 
+    private final JobLeaseManager jobLeaseManager;
+
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    private static final int PURGE_LEASE_SECONDS = 30 * 60;
+
+    // 한 서버에서만 삭제, 청크마다 임대를 연장하고 연장에 실패하면 중단
     @Scheduled(cron = "0 00 6 * * ?")
-    public void runTask() throws Exception {
-        log.info("weather Scheduled start");
-        weatherService.deleteBeforeWeather();
-        log.info("weather Scheduled end");
+    public void runTask() {
+        scheduledJobRunner.submit("weatherPurge", () -> jobLeaseManager.runOnce("weatherPurge", PURGE_LEASE_SECONDS, partition -> {
+            log.info("weather Scheduled start");
+            WeatherPurgeReport report = weatherService.deleteBeforeWeather(() -> jobLeaseManager.extend(partition, PURGE_LEASE_SECONDS));
+            log.info("weather Scheduled end deleted {}, rowsPerSecond {}", report.getDeleted(), report.getRowsPerSecond());
+        }));
     }
 }
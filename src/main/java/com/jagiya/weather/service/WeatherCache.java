@@ -0,0 +1,155 @@
+package com.jagiya.weather.service;
+
+import com.jagiya.weather.entity.Weather;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 격자, 예보일시 별 예보 캐시 (다음 발표시각에 만료, 최대 크기 초과시 LRU 제거)
+@Component
+@Slf4j
+public class WeatherCache {
+
+    private final int maxSize;
+
+    private final LinkedHashMap<String, CacheEntry> cache;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private long expiredCount;
+
+    public WeatherCache(@Value("${weather.cache.maxSize:20000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > WeatherCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Weather get(Long locationGroupId, String fcstDate, String fcstTime) {
+        String key = getKey(locationGroupId, fcstDate, fcstTime);
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (LocalDateTime.now().isAfter(entry.expireDateTime)) {
+            cache.remove(key);
+            expiredCount++;
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.weather;
+    }
+
+    public synchronized void put(Long locationGroupId, Weather weather) {
+        LocalDateTime now = LocalDateTime.now();
+        cache.put(getKey(locationGroupId, weather.getFcstDate(), weather.getFcstTime()), newEntry(weather, now));
+    }
+
+    // 수시 갱신 결과는 곧 조회되므로 전체 등록
+    // 단, 지금 다른 갱신타입으로 조회해야 하는 예보시간은 제외 (단기예보 값이 초단기 갱신을 막지 않도록)
+    public synchronized void putAll(Long locationGroupId, List<Weather> weatherList, String refreshType) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Weather weather : weatherList) {
+            if (isRefreshType(weather, refreshType, now)) {
+                cache.put(getKey(locationGroupId, weather.getFcstDate(), weather.getFcstTime()), newEntry(weather, now));
+            }
+        }
+    }
+
+    // 전국 일괄 적재는 캐시에 있는 항목만 갱신하여 자주 쓰는 항목이 밀려나지 않도록 한다
+    public synchronized void refreshIfPresent(Long locationGroupId, List<Weather> weatherList, String refreshType) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Weather weather : weatherList) {
+            String key = getKey(locationGroupId, weather.getFcstDate(), weather.getFcstTime());
+            if (!cache.containsKey(key)) {
+                continue;
+            }
+            if (isRefreshType(weather, refreshType, now)) {
+                cache.put(key, newEntry(weather, now));
+            } else {
+                // 다른 갱신타입 기준 값은 더 이상 최신이 아니므로 제거
+                cache.remove(key);
+            }
+        }
+    }
+
+    private boolean isRefreshType(Weather weather, String refreshType, LocalDateTime now) {
+        return refreshType.equals(WeatherReleaseSchedule.getRefreshType(weather.getFcstTime(), now.toLocalTime()));
+    }
+
+    private CacheEntry newEntry(Weather weather, LocalDateTime now) {
+        return new CacheEntry(copyOf(weather), WeatherReleaseSchedule.getExpireDateTime(weather.getFcstTime(), now));
+    }
+
+    // 영속성 컨텍스트와 분리된 값만 보관
+    private Weather copyOf(Weather weather) {
+        return Weather.builder()
+                .weatherId(weather.getWeatherId())
+                .baseDate(weather.getBaseDate())
+                .baseTime(weather.getBaseTime())
+                .fcstDate(weather.getFcstDate())
+                .fcstTime(weather.getFcstTime())
+                .pop(weather.getPop())
+                .pty(weather.getPty())
+                .pcp(weather.getPcp())
+                .sky(weather.getSky())
+                .tmp(weather.getTmp())
+                .tmn(weather.getTmn())
+                .tmx(weather.getTmx())
+                .build();
+    }
+
+    private String getKey(Long locationGroupId, String fcstDate, String fcstTime) {
+        return locationGroupId + ":" + fcstDate + fcstTime;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getExpiredCount() {
+        return expiredCount;
+    }
+
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    private static class CacheEntry {
+
+        private final Weather weather;
+
+        private final LocalDateTime expireDateTime;
+
+        private CacheEntry(Weather weather, LocalDateTime expireDateTime) {
+            this.weather = weather;
+            this.expireDateTime = expireDateTime;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.jagiya.weather.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// 기상청 API(data.go.kr) 호출량 제한 토큰버킷
+@Component
+@Slf4j
+public class WeatherRateLimiter {
+
+    private static final long MAX_BACKOFF_MILLIS = 60_000L;
+
+    private final long intervalNanos;
+
+    private final double maxBurst;
+
+    private final long backoffMillis;
+
+    private double storedPermits;
+
+    private long nextFreeNanos;
+
+    private long currentBackoffMillis;
+
+    public WeatherRateLimiter(@Value("${weather.rateLimit.permitsPerSecond:10}") double permitsPerSecond,
+                              @Value("${weather.rateLimit.burst:10}") double maxBurst,
+                              @Value("${weather.rateLimit.backoffMillis:1000}") long backoffMillis) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.maxBurst = maxBurst;
+        this.backoffMillis = backoffMillis;
+        this.storedPermits = maxBurst;
+        this.nextFreeNanos = System.nanoTime();
+        this.currentBackoffMillis = backoffMillis;
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 호출 순번을 예약하고 대기해야 하는 시간(ns)을 돌려줌 (비동기 호출은 직접 대기하지 않고 지연 실행)
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        if (now > nextFreeNanos) {
+            storedPermits = Math.min(maxBurst, storedPermits + (double) (now - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = now;
+        }
+        long waitUntil = nextFreeNanos;
+        if (storedPermits >= 1) {
+            storedPermits -= 1;
+        } else {
+            nextFreeNanos += intervalNanos;
+        }
+        return waitUntil - now;
+    }
+
+    // 요청제한횟수 초과(22) 응답시 전체 호출을 일정시간 중지, 연속 발생시 2배씩 증가
+    public synchronized void backoff() {
+        long now = System.nanoTime();
+        nextFreeNanos = Math.max(nextFreeNanos, now + TimeUnit.MILLISECONDS.toNanos(currentBackoffMillis));
+        storedPermits = 0;
+        log.warn("weather rate limit backoff {}ms", currentBackoffMillis);
+        currentBackoffMillis = Math.min(currentBackoffMillis * 2, MAX_BACKOFF_MILLIS);
+    }
+
+    public synchronized void onSuccess() {
+        currentBackoffMillis = backoffMillis;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jagiya.weather.service;
+
+import com.jagiya.common.exception.CommonException;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 기상청 예보 발표시각 계산 (0:초단기예보 매시 45분, 1:단기예보 02:10 부터 3시간 간격)
+public final class WeatherReleaseSchedule {
+
+    private static final List<LocalTime> ULTRA_SRT_RELEASE_TIMES;
+
+    private static final List<LocalTime> SRT_RELEASE_TIMES;
+
+    static {
+        List<LocalTime> ultraSrtTimes = new ArrayList<>();
+        for (int i = 0; i <= 23; i++) {
+            ultraSrtTimes.add(LocalTime.of(i, 45));
+        }
+        ULTRA_SRT_RELEASE_TIMES = Collections.unmodifiableList(ultraSrtTimes);
+
+        List<LocalTime> srtTimes = new ArrayList<>();
+        for (int i = 2; i <= 23; i += 3) {
+            srtTimes.add(LocalTime.of(i, 10));
+        }
+        SRT_RELEASE_TIMES = Collections.unmodifiableList(srtTimes);
+    }
+
+    private WeatherReleaseSchedule() {
+    }
+
+    private static List<LocalTime> getReleaseTimes(String refreshType) {
+        return refreshType.equals("0") ? ULTRA_SRT_RELEASE_TIMES : SRT_RELEASE_TIMES;
+    }
+
+    // 현재 시각 기준 가장 최근 발표의 기준일시(base_date, base_time)
+    public static LocalDateTime getBaseDateTime(String refreshType, LocalDateTime localDateTime) {
+        int minusMinute = refreshType.equals("0") ? 15 : 10;
+        List<LocalTime> targetTimes = getReleaseTimes(refreshType);
+
+        LocalTime currentTime = localDateTime.toLocalTime();
+
+        LocalTime closestTime = null;
+        for (LocalTime targetTime : targetTimes) {
+            if (currentTime.isAfter(targetTime)) {
+                closestTime = targetTime;
+            }
+        }
+
+        if (closestTime == null) {
+            localDateTime = localDateTime.minusDays(1);
+            closestTime = targetTimes.get(targetTimes.size() - 1);
+        }
+
+        closestTime = closestTime.minusMinutes(minusMinute);
+        return localDateTime.withHour(closestTime.getHour()).withMinute(closestTime.getMinute()).withSecond(0).withNano(0);
+    }
+
+    // 다음 발표시각
+    public static LocalDateTime getNextReleaseDateTime(String refreshType, LocalDateTime localDateTime) {
+        List<LocalTime> targetTimes = getReleaseTimes(refreshType);
+        LocalTime currentTime = localDateTime.toLocalTime();
+        for (LocalTime targetTime : targetTimes) {
+            if (!currentTime.isAfter(targetTime)) {
+                return localDateTime.toLocalDate().atTime(targetTime);
+            }
+        }
+        return localDateTime.toLocalDate().plusDays(1).atTime(targetTimes.get(0));
+    }
+
+    // 예보시간이 현재 시간 기준 6시간 이내면 초단기(0), 이후면 단기(1)
+    public static String getRefreshType(String fcstTime, LocalTime currentLocalTime) {
+        if (fcstTime.length() != 4) {
+            throw new CommonException("시간형식이 올바르지 않습니다.", "666");
+        }
+        int fcstHour = Integer.parseInt(fcstTime.substring(0, 2));
+
+        int currentHour = currentLocalTime.getHour();
+        int currentMinute = currentLocalTime.getMinute();
+
+        if (currentMinute > 45) {
+            currentHour = currentHour + 1;
+        }
+
+        int hout = Math.abs(fcstHour - currentHour);
+
+        if (hout < 6) {
+            return "0";
+        } else {
+            return "1";
+        }
+    }
+
+    // 해당 예보시간의 데이터가 다시 갱신되어야 하는 시각
+    // 다음 발표시각 또는 갱신타입이 바뀌는 시각(매시 46분) 중 빠른 시각
+    public static LocalDateTime getExpireDateTime(String fcstTime, LocalDateTime localDateTime) {
+        String refreshType = getRefreshType(fcstTime, localDateTime.toLocalTime());
+        LocalDateTime expireDateTime = getNextReleaseDateTime(refreshType, localDateTime);
+
+        LocalDateTime candidate = localDateTime.withMinute(46).withSecond(0).withNano(0);
+        if (!candidate.isAfter(localDateTime)) {
+            candidate = candidate.plusHours(1);
+        }
+        while (candidate.isBefore(expireDateTime)) {
+            if (!refreshType.equals(getRefreshType(fcstTime, candidate.toLocalTime()))) {
+                return candidate;
+            }
+            candidate = candidate.plusHours(1);
+        }
+        return expireDateTime;
+    }
+}
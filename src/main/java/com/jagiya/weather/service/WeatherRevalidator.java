@@ -0,0 +1,82 @@
+package com.jagiya.weather.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 오래된 예보를 먼저 응답하고 백그라운드에서 갱신 (같은 키는 대기중인 작업이 있으면 추가하지 않음)
+@Component
+@Slf4j
+public class WeatherRevalidator implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong submittedCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public WeatherRevalidator(@Value("${weather.swr.workers:2}") int workers,
+                              @Value("${weather.swr.queueSize:1000}") int queueSize) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "weather-revalidate-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public boolean submit(String key, Runnable task) {
+        if (!pendingKeys.add(key)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("예보 백그라운드 갱신 실패 {} : {}", key, e.getMessage());
+                } finally {
+                    pendingKeys.remove(key);
+                }
+            });
+            submittedCount.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingKeys.remove(key);
+            rejectedCount.incrementAndGet();
+            log.warn("예보 백그라운드 갱신 대기열 초과 {}", key);
+            return false;
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingKeys.size();
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
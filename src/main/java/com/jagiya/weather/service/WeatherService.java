@@ -1,41 +1,62 @@
 package com.jagiya.weather.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jagiya.common.exception.CommonException;
+import com.jagiya.common.http.OutboundHttpClient;
+import com.jagiya.common.http.OutboundHttpClients;
+import com.jagiya.common.utils.CircuitBreaker;
+import com.jagiya.common.utils.RetryPolicy;
+import com.jagiya.common.utils.SingleFlight;
 import com.jagiya.location.entity.Location;
 import com.jagiya.location.entity.LocationGroup;
 import com.jagiya.location.repository.LocationCustomRepository;
 import com.jagiya.location.repository.LocationRepository;
+import com.jagiya.location.response.NearestLocationResponse;
+import com.jagiya.location.service.LocationService;
 import com.jagiya.weather.entity.Weather;
-import com.jagiya.weather.entity.WeatherEditor;
-import com.jagiya.weather.enums.WeatherCategory;
+import com.jagiya.weather.dto.WeatherDecodeResult;
+import com.jagiya.weather.dto.WeatherIngestReport;
+import com.jagiya.weather.dto.WeatherPurgeReport;
+import com.jagiya.weather.dto.WeatherReadResult;
+import com.jagiya.weather.dto.WeatherRefreshPlanReport;
+import com.jagiya.weather.dto.WeatherRefreshTarget;
+import com.jagiya.weather.dto.WeatherRefreshedEvent;
+import com.jagiya.weather.dto.WeatherUpsertResult;
 import com.jagiya.weather.enums.WeatherResponseCode;
+import com.jagiya.weather.repository.WeatherCustomRepository;
 import com.jagiya.weather.repository.WeatherRepository;
-import com.jagiya.weather.response.WeatherApiResponse;
-import com.jagiya.weather.response.WeatherErrorResponse;
-import com.jagiya.weather.response.WeatherItem;
+import com.jagiya.weather.response.NearestWeatherResponse;
+import com.jagiya.weather.response.WeatherStatsResponse;
 import com.jagiya.weather.response.WeatherTestResponse;
 import jakarta.transaction.Transactional;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.StringReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 @Service
@@ -46,11 +67,54 @@ public class WeatherService {
 
     private final LocationRepository locationRepository;
 
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
 
     private final LocationCustomRepository locationCustomRepository;
 
-    private int retryCnt = 0;
+    private final WeatherCustomRepository weatherCustomRepository;
+
+    private final WeatherRateLimiter weatherRateLimiter;
+
+    private final WeatherCache weatherCache;
+
+    private final WeatherStreamDecoder weatherStreamDecoder;
+
+    private final WeatherRevalidator weatherRevalidator;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final LocationService locationService;
+
+    private final SingleFlight<String, WeatherUpsertResult> refreshSingleFlight = new SingleFlight<>();
+
+    @Value("${weather.swr.enabled:true}")
+    private boolean staleWhileRevalidate;
+
+    @Value("${weather.swr.maxStaleMinutes:180}")
+    private long swrMaxStaleMinutes;
+
+    @Value("${weather.purge.chunkSize:5000}")
+    private long purgeChunkSize;
+
+    @Value("${weather.purge.pauseMillis:50}")
+    private long purgePauseMillis;
+
+    @Value("${weather.purge.maxRunMillis:600000}")
+    private long purgeMaxRunMillis;
+
+    @Value("${weather.purge.partition.enabled:false}")
+    private boolean purgePartitionEnabled;
+
+    @Value("${weather.purge.partition.aheadDays:3}")
+    private int purgePartitionAheadDays;
+
+    // 삭제 진행 위치
+    private volatile String purgeBaseDate;
+
+    private volatile long purgeCursorWeatherId;
+
+    @Value("${weather.ingest.workers:8}")
+    private int ingestWorkers;
 
     @Value("${weather.srtUrl}")
     private String weatherSrtUrl;
@@ -61,32 +125,73 @@ public class WeatherService {
     @Value("${weather.serviceKey}")
     private String serviceKey;
 
-    @Transactional
-    public void insertWeather() throws Exception {
+    public WeatherIngestReport insertWeather() throws Exception {
         List<String> cityDos = new ArrayList<>();
         cityDos.add("서울특별시");
         cityDos.add("경기도");
         List<LocationGroup> locationGroupList = locationCustomRepository.selectLocationGroupByCityDo(cityDos);
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        log.info("시작 : {}", LocalDateTime.now().format(formatter));
-        for (LocationGroup locationGroup : locationGroupList) {
-            String baseDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            insertWeather(weatherSrtUrl, serviceKey, baseDate, "0500", locationGroup, "1");
+        log.info("시작 : {}, 격자 수 {}, 작업자 수 {}", LocalDateTime.now().format(formatter), locationGroupList.size(), ingestWorkers);
+
+        String baseDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        WeatherIngestReport report = new WeatherIngestReport(locationGroupList.size());
+        int progressStep = Math.max(1, locationGroupList.size() / 10);
+
+        // 격자별 API 호출은 비동기로 최대 ingestWorkers 개까지 동시에 진행하고, 응답은 작업자 스레드에서 DB 반영
+        // 실패한 격자는 기록 후 계속 진행
+        ExecutorService executorService = Executors.newFixedThreadPool(ingestWorkers);
+        Semaphore inFlight = new Semaphore(ingestWorkers);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (LocationGroup locationGroup : locationGroupList) {
+                inFlight.acquire();
+                Long locationGroupId = locationGroup.getLocationGroupId();
+                URI apiUrl = getWeatherUri(weatherSrtUrl, serviceKey, baseDate, "0500", locationGroup);
+                futures.add(callApiAsync(apiUrl, 1)
+                        .thenApplyAsync(response -> upsertWeatherResponse(response, locationGroup, "1"), executorService)
+                        .handle((result, throwable) -> {
+                            int completed;
+                            if (throwable != null) {
+                                Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                                log.error("insertWeather 실패 locationGroupId {} : {}", locationGroupId, cause.getMessage());
+                                completed = report.addFailure(locationGroupId, cause.getMessage());
+                            } else if (result.isFailed()) {
+                                completed = report.addFailure(locationGroupId, "API 호출 실패");
+                            } else {
+                                weatherCache.refreshIfPresent(locationGroupId, result.getWeatherList(), "1");
+                                publishWeatherRefreshed(locationGroupId, result);
+                                completed = report.addSuccess(result);
+                            }
+                            if (completed % progressStep == 0) {
+                                log.info("insertWeather 진행 {}/{}", completed, report.getTotal());
+                            }
+                            return (Void) null;
+                        })
+                        .whenComplete((result, throwable) -> inFlight.release()));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            executorService.shutdown();
         }
-        log.info("종료 : {}", LocalDateTime.now().format(formatter));
+
+        report.finish();
+        log.info("종료 : {}, {}", LocalDateTime.now().format(formatter), report);
+        if (report.getFailed() > 0) {
+            log.warn("insertWeather 실패 격자 : {}", report.getFailures());
+        }
+        return report;
     }
 
-    @Transactional
-    private void insertWeather(String weatherUrl, String serviceKey, String baseDate, String baseTime, LocationGroup locationGroup, String refreshType) {
-        retryCnt = 0;
+    private WeatherUpsertResult insertWeather(String weatherUrl, String serviceKey, String baseDate, String baseTime, LocationGroup locationGroup, String refreshType) {
+        URI apiUrl = getWeatherUri(weatherUrl, serviceKey, baseDate, baseTime, locationGroup);
+        return upsertWeatherResponse(callApi(apiUrl), locationGroup, refreshType);
+    }
+
+    private URI getWeatherUri(String weatherUrl, String serviceKey, String baseDate, String baseTime, LocationGroup locationGroup) {
         String nx = locationGroup.getLatX();
         String ny = locationGroup.getLonY();
-        Long jusoGroupId = locationGroup.getLocationGroupId();
 
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
         UriComponents uri = UriComponentsBuilder
                 .fromHttpUrl(weatherUrl)
                 .queryParam("serviceKey", serviceKey)
@@ -101,197 +206,377 @@ public class WeatherService {
 
         URI apiUrl = uri.toUri();
         log.info("uri : " +  apiUrl);
+        return apiUrl;
+    }
 
-        HttpEntity<String> entity = new HttpEntity<>(httpHeaders);
-        WeatherApiResponse response = callApi(apiUrl, entity);
-
+    private WeatherUpsertResult upsertWeatherResponse(WeatherDecodeResult response, LocationGroup locationGroup, String refreshType) {
+        Long jusoGroupId = locationGroup.getLocationGroupId();
         if (response != null) {
-            List<WeatherItem> weatherItemList = response.getResponse().getBody().getItems().getItem();
-            log.info("groupDataByDateAndTime");
-            List<Weather> weathers = groupDataByDateAndTime(weatherItemList);
-            log.info("findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime start");
+            List<Weather> weathers = response.getWeatherList();
             if (weathers.size() > 0) {
-                for (Weather weather : weathers) {
-                    String fcstDate = weather.getFcstDate();
-                    String fcstTime = weather.getFcstTime();
-                    Weather weatherRes = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime(jusoGroupId, fcstDate, fcstTime);
-                    if (weatherRes != null) {
-                        WeatherEditor.WeatherEditorBuilder editorBuilder = weatherRes.toEditor();
-                        WeatherEditor weatherEditor;
-                        if (StringUtils.equals(refreshType, "1")) {
-                            weatherEditor = editorBuilder.pop(weather.getPop())
-                                    .pty(weather.getPty())
-                                    .tmx(weather.getTmx())
-                                    .tmn(weather.getTmn())
-                                    .tmp(weather.getTmp())
-                                    .pcp(weather.getPcp())
-                                    .sky(weather.getSky())
-                                    .baseDate(weather.getBaseDate())
-                                    .baseTime(weather.getBaseTime())
-                                    .build();
-                        } else {
-                            weatherEditor = editorBuilder.pcp(weather.getPcp())
-                                    .tmp(weather.getTmp())
-                                    .sky(weather.getSky())
-                                    .pty(weather.getPty())
-                                    .baseDate(weather.getBaseDate())
-                                    .baseTime(weather.getBaseTime())
-                                    .build();
-                        }
-                        weatherRes.edit(weatherEditor);
-                    } else {
-                        weather.setLocationGroup(locationGroup);
-                        weatherRepository.save(weather);
-                    }
-                }
-                log.info("findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime end");
+                WeatherUpsertResult result = weatherCustomRepository.upsertWeatherList(locationGroup, weathers, refreshType);
+                log.info("upsertWeatherList locationGroupId {}, inserted {}, updated {}, unchanged {}", jusoGroupId, result.getInserted(), result.getUpdated(), result.getUnchanged());
+                return result;
             } else {
                 log.info("Call API 값이 없습니다.");
             }
         } else {
             log.info("Call API NULL");
+            return WeatherUpsertResult.apiFailed();
         }
+        return WeatherUpsertResult.empty();
     }
 
-    private WeatherApiResponse callApi(URI apiUrl, HttpEntity<String> entity) {
-        try {
-            ResponseEntity<String> responseAsString = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, String.class);
+    // 같은 격자, 발표시각의 동시 갱신은 한번만 API 호출
+    private WeatherUpsertResult refreshWeatherOnce(String weatherUrl, String baseDate, String baseTime, LocationGroup locationGroup, String refreshType) {
+        String key = locationGroup.getLocationGroupId() + ":" + refreshType + ":" + baseDate + baseTime;
+        return refreshSingleFlight.execute(key, () -> {
+            WeatherUpsertResult result = insertWeather(weatherUrl, serviceKey, baseDate, baseTime, locationGroup, refreshType);
+            weatherCache.putAll(locationGroup.getLocationGroupId(), result.getWeatherList(), refreshType);
+            publishWeatherRefreshed(locationGroup.getLocationGroupId(), result);
+            return result;
+        });
+    }
 
-            if (responseAsString == null) {
-                log.info("API 결과 NULL");
-                return retryApi(apiUrl, entity);
-            } else {
-                if (responseAsString.getStatusCode() == HttpStatus.OK) {
-                    try {
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        WeatherApiResponse response = objectMapper.readValue(responseAsString.getBody(), WeatherApiResponse.class);
-                        String resultCode = response.getResponse().getHeader().getResultCode();
-                        if (resultCode.equals(WeatherResponseCode.NORMAL_SERVICE.getCode())) {
-                            log.info("API 성공");
-                            return response;
-                        } else {
-                            log.error("API 통신 오류 : {}, {}", resultCode, WeatherResponseCode.getMessageByCode(resultCode));
-                            if (WeatherResponseCode.getRetryCode(resultCode)) {
-                                return retryApi(apiUrl, entity);
-                            } else {
-                                return null;
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.error("JSON 변환 실패 XML 변환 : {}", e.getMessage());
-                        WeatherErrorResponse weatherApiErrorResponse = xmlConvertToVo(responseAsString.getBody(), WeatherErrorResponse.class);
-                        String returnReasonCode = weatherApiErrorResponse.getCmmMsgHeader().getReturnReasonCode();
-                        log.error("callApi 실패 error returnReasonCode : {} {}", returnReasonCode, WeatherResponseCode.getMessageByCode(returnReasonCode));
-                        if (WeatherResponseCode.getRetryCode(returnReasonCode)) {
-                            return retryApi(apiUrl, entity);
-                        } else {
-                            return null;
-                        }
+    // 변경된 예보가 있을때만 발행
+    private void publishWeatherRefreshed(Long locationGroupId, WeatherUpsertResult result) {
+        if (result.getWritten() > 0) {
+            applicationEventPublisher.publishEvent(new WeatherRefreshedEvent(locationGroupId, result.getWeatherList()));
+        }
+    }
+
+    public WeatherStatsResponse selectWeatherStats() {
+        return WeatherStatsResponse.builder()
+                .refreshExecuted(refreshSingleFlight.getExecutedCount())
+                .refreshCoalesced(refreshSingleFlight.getCoalescedCount())
+                .refreshInFlight(refreshSingleFlight.getInFlightCount())
+                .cacheHit(weatherCache.getHitCount())
+                .cacheMiss(weatherCache.getMissCount())
+                .cacheEviction(weatherCache.getEvictionCount())
+                .cacheExpired(weatherCache.getExpiredCount())
+                .cacheSize(weatherCache.getSize())
+                .revalidateSubmitted(weatherRevalidator.getSubmittedCount())
+                .revalidateRejected(weatherRevalidator.getRejectedCount())
+                .revalidatePending(weatherRevalidator.getPendingCount())
+                .kmaBulkheadAvailable(outboundHttpClients.getKma().getAvailableCount())
+                .kmaBulkheadRejected(outboundHttpClients.getKma().getRejectedCount())
+                .build();
+    }
+
+    // 재시도 횟수는 호출마다 따로 관리, 서킷이 열려있으면 바로 실패하여 기존 예보를 사용하도록 함
+    private WeatherDecodeResult callApi(URI apiUrl) {
+        OutboundHttpClient kmaClient = outboundHttpClients.getKma();
+        CircuitBreaker circuitBreaker = kmaClient.getCircuitBreaker();
+        RetryPolicy retryPolicy = kmaClient.getRetryPolicy();
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.allowRequest()) {
+                log.warn("기상청 API 서킷 OPEN, 호출 생략 : {}", apiUrl);
+                return null;
+            }
+
+            try {
+                weatherRateLimiter.acquire();
+                WeatherDecodeResult response = null;
+                HttpRequest.Builder request = HttpRequest.newBuilder(apiUrl)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .GET();
+                HttpResponse<InputStream> httpResponse = kmaClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = httpResponse.body()) {
+                    if (httpResponse.statusCode() == HttpStatus.OK.value()) {
+                        response = weatherStreamDecoder.decode(body);
+                    } else {
+                        log.error("API 통신 결과 실패 HttpStatus : {} ", httpResponse.statusCode());
                     }
-                } else {
-                    log.error("API 통신 결과 실패 HttpStatus : {} ", responseAsString.getStatusCode());
-                    return retryApi(apiUrl, entity);
                 }
+
+                ApiOutcome outcome = checkApiResult(response, circuitBreaker);
+                if (outcome == ApiOutcome.SUCCESS) {
+                    return response;
+                } else if (outcome == ApiOutcome.FAIL) {
+                    return null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("callApi 중단 : {}", apiUrl);
+                return null;
+            } catch (CommonException e) {
+                // 동시 호출 제한 초과
+                log.error("callApi 실패 error : {}", e.getMessage());
+                return null;
+            } catch (Exception e) {
+                log.error("callApi 실패 error : {}", e.getMessage());
+                circuitBreaker.onFailure();
+            }
+
+            if (!retryPolicy.canRetry(attempt)) {
+                log.error("callApi 재시도 초과 : {}", apiUrl);
+                return null;
+            }
+            try {
+                log.info("retryApi : " + attempt);
+                retryPolicy.backoff(attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
             }
-        } catch (Exception e) {
-            log.error("callApi 실패 error : {}", e.getMessage());
-            return retryApi(apiUrl, entity);
         }
     }
 
-    private <T> T xmlConvertToVo(String xml, Class<T> voClass) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(voClass);
-        Unmarshaller unmarshaller = context.createUnmarshaller();
+    // 전국 일괄 적재용 비동기 호출 (호출 스레드를 점유하지 않고, 재시도는 백오프 시간 후 다시 예약)
+    private CompletableFuture<WeatherDecodeResult> callApiAsync(URI apiUrl, int attempt) {
+        OutboundHttpClient kmaClient = outboundHttpClients.getKma();
+        CircuitBreaker circuitBreaker = kmaClient.getCircuitBreaker();
+        RetryPolicy retryPolicy = kmaClient.getRetryPolicy();
+        if (!circuitBreaker.allowRequest()) {
+            log.warn("기상청 API 서킷 OPEN, 호출 생략 : {}", apiUrl);
+            return CompletableFuture.completedFuture(null);
+        }
 
-        StringReader reader = new StringReader(xml);
-        return (T)unmarshaller.unmarshal(reader);
+        HttpRequest.Builder request = HttpRequest.newBuilder(apiUrl)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET();
+        // 호출량 제한 순번이 될 때까지 대기한 뒤 호출, 응답 본문은 모두 받은 뒤 디코딩
+        Executor permitExecutor = CompletableFuture.delayedExecutor(weatherRateLimiter.reserve(), TimeUnit.NANOSECONDS);
+        return CompletableFuture.supplyAsync(() -> request, permitExecutor)
+                .thenCompose(permitted -> kmaClient.sendAsync(permitted, HttpResponse.BodyHandlers.ofByteArray()))
+                .handle((httpResponse, throwable) -> {
+                    ApiOutcome outcome;
+                    WeatherDecodeResult response = null;
+                    if (throwable != null) {
+                        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                        log.error("callApiAsync 실패 error : {}", cause.getMessage());
+                        if (cause instanceof CommonException) {
+                            // 동시 호출 제한 초과
+                            return CompletableFuture.<WeatherDecodeResult>completedFuture(null);
+                        }
+                        circuitBreaker.onFailure();
+                        outcome = ApiOutcome.RETRY;
+                    } else {
+                        if (httpResponse.statusCode() == HttpStatus.OK.value()) {
+                            try {
+                                response = weatherStreamDecoder.decode(new ByteArrayInputStream(httpResponse.body()));
+                            } catch (Exception e) {
+                                log.error("callApiAsync 응답 변환 실패 error : {}", e.getMessage());
+                            }
+                        } else {
+                            log.error("API 통신 결과 실패 HttpStatus : {} ", httpResponse.statusCode());
+                        }
+                        outcome = checkApiResult(response, circuitBreaker);
+                    }
+
+                    if (outcome == ApiOutcome.SUCCESS) {
+                        return CompletableFuture.completedFuture(response);
+                    } else if (outcome == ApiOutcome.FAIL) {
+                        return CompletableFuture.<WeatherDecodeResult>completedFuture(null);
+                    }
+                    if (!retryPolicy.canRetry(attempt)) {
+                        log.error("callApiAsync 재시도 초과 : {}", apiUrl);
+                        return CompletableFuture.<WeatherDecodeResult>completedFuture(null);
+                    }
+                    log.info("retryApi : " + attempt);
+                    Executor backoffExecutor = CompletableFuture.delayedExecutor(retryPolicy.getBackoffMillis(attempt), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, backoffExecutor)
+                            .thenCompose(ignored -> callApiAsync(apiUrl, attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    // 응답 결과코드에 따라 서킷, 호출량 제한에 반영하고 성공/재시도/실패 여부를 돌려줌
+    private ApiOutcome checkApiResult(WeatherDecodeResult response, CircuitBreaker circuitBreaker) {
+        if (response == null) {
+            log.info("API 결과 NULL");
+            circuitBreaker.onFailure();
+            return ApiOutcome.RETRY;
+        }
+
+        String resultCode = response.getResultCode();
+        if (resultCode.equals(WeatherResponseCode.NORMAL_SERVICE.getCode())) {
+            log.info("API 성공");
+            circuitBreaker.onSuccess();
+            weatherRateLimiter.onSuccess();
+            return ApiOutcome.SUCCESS;
+        }
+
+        log.error("API 통신 오류 : {}, {}", resultCode, WeatherResponseCode.getMessageByCode(resultCode));
+        if (resultCode.equals(WeatherResponseCode.LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR.getCode())) {
+            // 호출량 초과는 장애가 아니므로 서킷에 반영하지 않고 호출 속도만 낮춤
+            weatherRateLimiter.backoff();
+            return ApiOutcome.RETRY;
+        } else if (WeatherResponseCode.getRetryCode(resultCode)) {
+            circuitBreaker.onFailure();
+            return ApiOutcome.RETRY;
+        }
+        circuitBreaker.onSuccess();
+        return ApiOutcome.FAIL;
+    }
+
+    private enum ApiOutcome {
+        SUCCESS, RETRY, FAIL
     }
 
-    private WeatherApiResponse retryApi(URI apiUrl, HttpEntity<String> entity) {
-        if (retryCnt <=3) {
-            log.info("retryApi : " + retryCnt);
-            retryCnt++;
-            return callApi(apiUrl, entity);
+    public List<WeatherTestResponse> selectLocationForWeather(String regionCd, String fcstDate) {
+        Optional<Location> jusoOptional = locationRepository.findByRegionCd(regionCd);
+        if (jusoOptional.isPresent()) {
+            Location location = jusoOptional.get();
+            Long jusoGroupId = location.getLocationGroup().getLocationGroupId();
+            return selectLocationGroupForWeather(jusoGroupId, fcstDate);
         } else {
             return null;
         }
     }
 
-    private List<Weather> groupDataByDateAndTime(List<WeatherItem> weatherItemList) {
-        Map<String, Weather> groupedData = new HashMap<>();
-
-        for (WeatherItem dataItem : weatherItemList) {
-            String dateAndTime = dataItem.getFcstDate() + dataItem.getFcstTime();
+    // 단말 위경도에서 가장 가까운 등록 지역의 예보, 주변에 등록된 지역이 없으면 null
+    public NearestWeatherResponse selectNearestWeather(Double lat, Double lon, String fcstDate) {
+        NearestLocationResponse nearestLocation = locationService.selectNearestLocation(lat, lon);
+        if (nearestLocation == null) {
+            return null;
+        }
+        if (StringUtils.isBlank(fcstDate)) {
+            fcstDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        }
+        return NearestWeatherResponse.builder()
+                .location(nearestLocation)
+                .weatherList(selectLocationGroupForWeather(nearestLocation.getLocationGroupId(), fcstDate))
+                .build();
+    }
 
-            Weather weather = groupedData.getOrDefault(dateAndTime, new Weather());
-            String category = dataItem.getCategory();
+    private List<WeatherTestResponse> selectLocationGroupForWeather(Long locationGroupId, String fcstDate) {
+        List<Weather> weatherList = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateOrderByFcstTimeAsc(locationGroupId, fcstDate);
+        List<WeatherTestResponse> weatherTestResponseList = new ArrayList<>();
+        for (Weather weather : weatherList) {
+            WeatherTestResponse weatherTestResponse = WeatherTestResponse.builder()
+                    .pop(weather.getPop())
+                    .pty(weather.getPty())
+                    .pcp(weather.getPcp())
+                    .tmn(weather.getTmn())
+                    .tmp(weather.getTmp())
+                    .tmx(weather.getTmx())
+                    .sky(weather.getSky())
+                    .baseDate(weather.getBaseDate())
+                    .baseTime(weather.getBaseTime())
+                    .fcstDate(weather.getFcstDate())
+                    .fcstTime(weather.getFcstTime())
+                    .build();
+            weatherTestResponseList.add(weatherTestResponse);
+        }
+        return weatherTestResponseList;
+    }
 
-            boolean containsValue = Arrays.asList(WeatherCategory.values()).stream().anyMatch(value -> value.name().equals(category));
+    // 이전 발표 기준 예보가 있으면 바로 응답하고 갱신은 백그라운드로 처리
+    // 데이터가 없거나 허용 시간보다 오래된 경우에만 기존처럼 API 호출을 기다림
+    public WeatherReadResult selectLocationAndTimeForWeatherStale(LocationGroup locationGroup, String fcstDate, String fcstTime) {
+        List<WeatherRefreshTarget> targetList = Collections.singletonList(new WeatherRefreshTarget(locationGroup, fcstTime));
+        return selectLocationAndTimeForWeatherList(fcstDate, targetList).get(locationGroup.getLocationGroupId() + ":" + fcstTime);
+    }
 
-            if (containsValue) {
-                weather.setBaseDate(dataItem.getBaseDate());
-                weather.setBaseTime(dataItem.getBaseTime());
-                weather.setFcstDate(dataItem.getFcstDate());
-                weather.setFcstTime(dataItem.getFcstTime());
-                String value = dataItem.getFcstValue();
-                setValue(weather, category.toLowerCase(), value);
+    // (격자, 예보시간) 목록의 예보를 캐시 → IN 조회 → 필요한 격자만 API 호출 순으로 한번에 조회
+    // 결과 키는 locationGroupId:fcstTime
+    public Map<String, WeatherReadResult> selectLocationAndTimeForWeatherList(String fcstDate, List<WeatherRefreshTarget> targetList) {
+        Map<String, WeatherReadResult> resultMap = new HashMap<>();
+        Map<String, WeatherRefreshTarget> missTargetMap = new LinkedHashMap<>();
+        for (WeatherRefreshTarget target : targetList) {
+            Long locationGroupId = target.getLocationGroup().getLocationGroupId();
+            String key = locationGroupId + ":" + target.getFcstTime();
+            if (resultMap.containsKey(key) || missTargetMap.containsKey(key)) {
+                continue;
+            }
+            Weather cacheWeather = weatherCache.get(locationGroupId, fcstDate, target.getFcstTime());
+            if (cacheWeather != null) {
+                resultMap.put(key, WeatherReadResult.fresh(cacheWeather));
+            } else {
+                missTargetMap.put(key, target);
             }
-            groupedData.put(dateAndTime, weather);
+        }
+        if (missTargetMap.isEmpty()) {
+            return resultMap;
         }
 
-        return new ArrayList<>(groupedData.values());
-    }
+        Set<Long> locationGroupIdSet = new HashSet<>();
+        for (WeatherRefreshTarget target : missTargetMap.values()) {
+            locationGroupIdSet.add(target.getLocationGroup().getLocationGroupId());
+        }
+        Map<String, Weather> weatherMap = new HashMap<>();
+        for (Weather weather : weatherRepository.findByLocationGroupLocationGroupIdInAndFcstDate(locationGroupIdSet, fcstDate)) {
+            weatherMap.put(weather.getLocationGroup().getLocationGroupId() + ":" + weather.getFcstTime(), weather);
+        }
 
-    private void setValue(Object targetObject, String fieldName, String value) {
-        try {
-            if (StringUtils.equals(fieldName, "rn1")) {
-                fieldName = "pcp";
+        // API 호출을 기다려야 하는 대상은 (격자, 갱신타입, 발표시각) 별로 한번만 호출
+        Map<String, List<String>> fetchKeyMap = new LinkedHashMap<>();
+        Map<String, LocationGroup> fetchGroupMap = new HashMap<>();
+        for (Map.Entry<String, WeatherRefreshTarget> entry : missTargetMap.entrySet()) {
+            String key = entry.getKey();
+            LocationGroup locationGroup = entry.getValue().getLocationGroup();
+            Long locationGroupId = locationGroup.getLocationGroupId();
+            String fcstTime = entry.getValue().getFcstTime();
+            Weather weather = weatherMap.get(key);
+
+            String refreshType = getRefreshType(fcstTime);
+            LocalDateTime localDateTime = getSrtWeatherDate(refreshType);
+            if (!isRefreshTarget(weather, fcstDate, fcstTime, localDateTime)) {
+                if (weather != null) {
+                    weatherCache.put(locationGroupId, weather);
+                }
+                resultMap.put(key, WeatherReadResult.fresh(weather));
+                continue;
             }
-            if (StringUtils.equals(fieldName, "t1h")) {
-                fieldName = "tmp";
+
+            String baseDate = localDateTime.toLocalDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            String baseTime = localDateTime.toLocalTime().format(DateTimeFormatter.ofPattern("HHmm"));
+            String fetchKey = locationGroupId + ":" + refreshType + ":" + baseDate + baseTime;
+
+            if (weather != null && staleWhileRevalidate) {
+                LocalDateTime weatherDateTime = LocalDateTime.parse(weather.getBaseDate() + weather.getBaseTime(), DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+                if (!weatherDateTime.plusMinutes(swrMaxStaleMinutes).isBefore(localDateTime)) {
+                    String weatherUrl = refreshType.equals("0") ? weatherUltraSrtUrl : weatherSrtUrl;
+                    weatherRevalidator.submit(fetchKey, () -> refreshWeatherOnce(weatherUrl, baseDate, baseTime, locationGroup, refreshType));
+                    resultMap.put(key, WeatherReadResult.stale(weather));
+                    continue;
+                }
+                log.info("허용 시간보다 오래된 예보 locationGroupId {}, weatherDateTime {}", locationGroupId, weatherDateTime);
             }
-            String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-            Class<?> targetClass = targetObject.getClass();
-            Class<?> valueType = String.class;
-            targetClass.getMethod(setterName, valueType).invoke(targetObject, value);
-        } catch (Exception e) {
-            log.error("callApi setValue error : " + e.getMessage());
+
+            fetchKeyMap.computeIfAbsent(fetchKey, k -> new ArrayList<>()).add(key);
+            fetchGroupMap.put(fetchKey, locationGroup);
         }
-    }
 
-    public List<WeatherTestResponse> selectLocationForWeather(String regionCd, String fcstDate) {
-        Optional<Location> jusoOptional = locationRepository.findByRegionCd(regionCd);
-        if (jusoOptional.isPresent()) {
-            Location location = jusoOptional.get();
-            Long jusoGroupId = location.getLocationGroup().getLocationGroupId();
+        for (Map.Entry<String, List<String>> entry : fetchKeyMap.entrySet()) {
+            String[] fetchKey = entry.getKey().split(":");
+            String refreshType = fetchKey[1];
+            String baseDate = fetchKey[2].substring(0, 8);
+            String baseTime = fetchKey[2].substring(8);
+            String weatherUrl = refreshType.equals("0") ? weatherUltraSrtUrl : weatherSrtUrl;
+            log.info("baseDate {}, baseTime {}", baseDate, baseTime);
+            WeatherUpsertResult result = refreshWeatherOnce(weatherUrl, baseDate, baseTime, fetchGroupMap.get(entry.getKey()), refreshType);
 
-            List<Weather> weatherList = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateOrderByFcstTimeAsc(jusoGroupId, fcstDate);
-            List<WeatherTestResponse> weatherTestResponseList = new ArrayList<>();
-            for (Weather weather : weatherList) {
-                WeatherTestResponse weatherTestResponse = WeatherTestResponse.builder()
-                        .pop(weather.getPop())
-                        .pty(weather.getPty())
-                        .pcp(weather.getPcp())
-                        .tmn(weather.getTmn())
-                        .tmp(weather.getTmp())
-                        .tmx(weather.getTmx())
-                        .sky(weather.getSky())
-                        .baseDate(weather.getBaseDate())
-                        .baseTime(weather.getBaseTime())
-                        .fcstDate(weather.getFcstDate())
-                        .fcstTime(weather.getFcstTime())
-                        .build();
-                weatherTestResponseList.add(weatherTestResponse);
+            for (String key : entry.getValue()) {
+                String fcstTime = key.substring(key.indexOf(':') + 1);
+                Weather upsertWeather = result.findWeather(fcstDate, fcstTime);
+                if (upsertWeather != null) {
+                    resultMap.put(key, WeatherReadResult.fresh(upsertWeather));
+                } else {
+                    // 갱신 실패시 마지막 예보 사용
+                    Weather weather = weatherMap.get(key);
+                    if (weather != null && result.isFailed()) {
+                        log.warn("예보 갱신 실패, 마지막 예보 사용 {}, baseDate {}, baseTime {}", key, weather.getBaseDate(), weather.getBaseTime());
+                    }
+                    resultMap.put(key, new WeatherReadResult(weather, weather != null));
+                }
             }
-            return weatherTestResponseList;
-        } else {
-            return null;
         }
+        return resultMap;
     }
 
     @Transactional
     public Weather selectLocationAndTimeForWeather(LocationGroup locationGroup, String fcstDate, String fcstTime) {
         Long locationGroupId = locationGroup.getLocationGroupId();
+
+        // 캐시에는 예보시간의 현재 갱신타입으로 받은 값만 두고 다음 발표시각 또는 갱신타입이 바뀌는 시각에 만료되므로 캐시값은 항상 최신 발표 기준
+        Weather cacheWeather = weatherCache.get(locationGroupId, fcstDate, fcstTime);
+        if (cacheWeather != null) {
+            return cacheWeather;
+        }
+
         Weather weather = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime(locationGroupId, fcstDate, fcstTime);
         String refreshType = getRefreshType(fcstTime);
         LocalDateTime localDateTime = getSrtWeatherDate(refreshType);
@@ -324,8 +609,8 @@ public class WeatherService {
                 // API 등록
                 // 이후 데이터 조회
                 log.info("baseDate {}, baseTime {}", baseDate, baseTime);
-                insertWeather(weatherUrl, serviceKey, baseDate, baseTime, locationGroup, refreshType);
-                weather = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime(locationGroupId, fcstDate, fcstTime);
+                WeatherUpsertResult result = refreshWeatherOnce(weatherUrl, baseDate, baseTime, locationGroup, refreshType);
+                weather = result.findWeather(fcstDate, fcstTime);
             } else { // DB 값이 현재 기준일보다 적을 경우 update
 
                 int baseYear = Integer.parseInt(weather.getBaseDate().substring(0, 4));
@@ -340,35 +625,26 @@ public class WeatherService {
                     log.info("localDateTime isAfter weatherDateTime localDateTime {}, weatherDateTime {}", localDateTime, weatherDateTime);
 
                     log.info("baseDate {}, baseTime {}", baseDate, baseTime);
-                    insertWeather(weatherUrl, serviceKey, baseDate, baseTime, locationGroup, refreshType);
-                    weather = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime(locationGroupId, fcstDate, fcstTime);
+                    // 영속성 컨텍스트의 기존 엔티티는 갱신되지 않으므로 반영 결과를 사용
+                    WeatherUpsertResult result = refreshWeatherOnce(weatherUrl, baseDate, baseTime, locationGroup, refreshType);
+                    Weather upsertWeather = result.findWeather(fcstDate, fcstTime);
+                    if (upsertWeather != null) {
+                        weather = upsertWeather;
+                    } else if (result.isFailed()) {
+                        log.warn("예보 갱신 실패, 마지막 예보 사용 locationGroupId {}, baseDate {}, baseTime {}", locationGroupId, weather.getBaseDate(), weather.getBaseTime());
+                    }
+                } else {
+                    weatherCache.put(locationGroupId, weather);
                 }
             }
+        } else if (weather != null) {
+            weatherCache.put(locationGroupId, weather);
         }
         return weather;
     }
 
     private String getRefreshType(String fcstTime) {
-        if (fcstTime.length() != 4) {
-            throw new CommonException("시간형식이 올바르지 않습니다.", "666");
-        }
-        int fcstHour = Integer.parseInt(fcstTime.substring(0, 2));
-
-        LocalTime currentLocalTime = LocalTime.now();
-        int currentHour = currentLocalTime.getHour();
-        int currentMinute = currentLocalTime.getMinute();
-
-        if (currentMinute > 45) {
-            currentHour = currentHour + 1;
-        }
-
-        int hout = Math.abs(fcstHour - currentHour);
-
-        if (hout < 6) {
-            return "0";
-        } else {
-            return "1";
-        }
+        return WeatherReleaseSchedule.getRefreshType(fcstTime, LocalTime.now());
     }
 
 
@@ -390,7 +666,7 @@ public class WeatherService {
                 weatherUrl = weatherSrtUrl;
             }
 
-            insertWeather(weatherUrl, serviceKey, baseDate, baseTime, locationGroup, refreshType);
+            refreshWeatherOnce(weatherUrl, baseDate, baseTime, locationGroup, refreshType);
             return selectLocationForWeather(regionCd, LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
         } else {
             return null;
@@ -398,110 +674,229 @@ public class WeatherService {
     }
 
     private LocalDateTime getSrtWeatherDate(String refreshType) {
-        LocalDateTime localDateTime = LocalDateTime.now();
-
-        int minusMinute;
-        List<LocalTime> targetTimes = new ArrayList<>();
-        if (refreshType.equals("0")) {
-            minusMinute = 15;
-            for (int i = 0; i<=23; i++) {
-                targetTimes.add(LocalTime.of(i, 45));
-            }
-        } else {
-            minusMinute = 10;
-            targetTimes.add(LocalTime.of(2, 10));
-            targetTimes.add(LocalTime.of(5, 10));
-            targetTimes.add(LocalTime.of(8, 10));
-            targetTimes.add(LocalTime.of(11, 10));
-            targetTimes.add(LocalTime.of(14, 10));
-            targetTimes.add(LocalTime.of(17, 10));
-            targetTimes.add(LocalTime.of(20, 10));
-            targetTimes.add(LocalTime.of(23, 10));
-        }
-
-        LocalTime currentTime = localDateTime.toLocalTime();
-
-        LocalTime closestTime = null;
-        for (LocalTime targetTime : targetTimes) {
-            if (currentTime.isAfter(targetTime)) {
-                closestTime = targetTime;
-            }
-        }
-
-        if (closestTime == null) {
-            localDateTime = localDateTime.minusDays(1);
-            closestTime = targetTimes.get(targetTimes.size() - 1);
-        }
-
-        closestTime = closestTime.minusMinutes(minusMinute);
-        localDateTime = localDateTime.withHour(closestTime.getHour()).withMinute(closestTime.getMinute()).withSecond(0).withNano(0);
-
-        return localDateTime;
+        return WeatherReleaseSchedule.getBaseDateTime(refreshType, LocalDateTime.now());
     }
 
     public void refreshWeather(LocationGroup locationGroup, String fcstDate, String fcstTime) {
         Long locationGroupId = locationGroup.getLocationGroupId();
+        if (weatherCache.get(locationGroupId, fcstDate, fcstTime) != null) {
+            return;
+        }
         Weather weather = weatherRepository.findByLocationGroupLocationGroupIdAndFcstDateAndFcstTime(locationGroupId, fcstDate, fcstTime);
         String refreshType = getRefreshType(fcstTime);
         LocalDateTime localDateTime = getSrtWeatherDate(refreshType);
         String baseDate = localDateTime.toLocalDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String baseTime = localDateTime.toLocalTime().format(DateTimeFormatter.ofPattern("HHmm"));
 
-        // 현재 시간보다 적은 기준날짜는 제외
-        int fcstYear = Integer.parseInt(fcstDate.substring(0, 4));
-        int fcstMonth = Integer.parseInt(fcstDate.substring(4, 6));
-        int fcstDay = Integer.parseInt(fcstDate.substring(6, 8));
+        if (isRefreshTarget(weather, fcstDate, fcstTime, localDateTime)) {
+            String weatherUrl = refreshType.equals("0") ? weatherUltraSrtUrl : weatherSrtUrl;
+            log.info("baseDate {}, baseTime {}", baseDate, baseTime);
+            refreshWeatherOnce(weatherUrl, baseDate, baseTime, locationGroup, refreshType);
+        }
+    }
 
-        int fcstHour = Integer.parseInt(fcstTime.substring(0, 2));
-        int fcstMiute = Integer.parseInt(fcstTime.substring(2));
+    public WeatherRefreshPlanReport refreshWeatherList(String fcstDate, List<WeatherRefreshTarget> targetList) {
+        return refreshWeatherList(fcstDate, targetList, 0);
+    }
 
-        LocalDateTime fcstDateTime = LocalDateTime.of(fcstYear, fcstMonth, fcstDay, fcstHour, fcstMiute);
-        if (fcstDateTime.isAfter(localDateTime)) {
-            String weatherUrl;
-            if (refreshType.equals("0")) {
-                weatherUrl = weatherUltraSrtUrl;
-            } else {
-                weatherUrl = weatherSrtUrl;
-            }
+    // (격자, 예보시간) 목록을 (격자, 갱신타입, 발표시각) 단위로 묶어 API 는 격자별 한번만 호출
+    // spreadMillis 가 있으면 호출을 그 시간 동안 고르게 나누어 실행 (정각에 몰리지 않도록)
+    public WeatherRefreshPlanReport refreshWeatherList(String fcstDate, List<WeatherRefreshTarget> targetList, long spreadMillis) {
+        Map<Long, LocationGroup> locationGroupMap = new HashMap<>();
+        Map<String, WeatherRefreshTarget> distinctTargetMap = new LinkedHashMap<>();
+        for (WeatherRefreshTarget target : targetList) {
+            Long locationGroupId = target.getLocationGroup().getLocationGroupId();
+            locationGroupMap.putIfAbsent(locationGroupId, target.getLocationGroup());
+            distinctTargetMap.putIfAbsent(locationGroupId + ":" + target.getFcstTime(), target);
+        }
 
-            // 날씨 데이터가 없다면 API 호출
-            if (weather == null) {
-                // 대상 시간이 현재 시간보다 6시간 이전인지 이후인지 체크
-                // 6시간 이전 초단기조회
-                // 6시간 이후 단기조회
-                // 현재시간 기준으로 초단기, 단기 기준시간 조회
-                // API 등록
-                // 이후 데이터 조회
-                log.info("baseDate {}, baseTime {}", baseDate, baseTime);
-                insertWeather(weatherUrl, serviceKey, baseDate, baseTime, locationGroup, refreshType);
-            } else { // DB 값이 현재 기준일보다 적을 경우 update
+        // 대상 격자의 예보를 한번에 조회
+        Map<String, Weather> weatherMap = new HashMap<>();
+        if (!locationGroupMap.isEmpty()) {
+            for (Weather weather : weatherRepository.findByLocationGroupLocationGroupIdInAndFcstDate(locationGroupMap.keySet(), fcstDate)) {
+                weatherMap.put(weather.getLocationGroup().getLocationGroupId() + ":" + weather.getFcstTime(), weather);
+            }
+        }
 
-                int baseYear = Integer.parseInt(weather.getBaseDate().substring(0, 4));
-                int baseMonth = Integer.parseInt(weather.getBaseDate().substring(4, 6));
-                int baseDay = Integer.parseInt(weather.getBaseDate().substring(6, 8));
+        Map<String, LocationGroup> fetchMap = new LinkedHashMap<>();
+        int fresh = 0;
+        for (Map.Entry<String, WeatherRefreshTarget> entry : distinctTargetMap.entrySet()) {
+            LocationGroup locationGroup = entry.getValue().getLocationGroup();
+            String fcstTime = entry.getValue().getFcstTime();
+            if (weatherCache.get(locationGroup.getLocationGroupId(), fcstDate, fcstTime) != null) {
+                fresh++;
+                continue;
+            }
 
-                int baseHour = Integer.parseInt(weather.getBaseTime().substring(0, 2));
-                int baseMiute = Integer.parseInt(weather.getBaseTime().substring(2));
+            String refreshType = getRefreshType(fcstTime);
+            LocalDateTime localDateTime = getSrtWeatherDate(refreshType);
+            if (!isRefreshTarget(weatherMap.get(entry.getKey()), fcstDate, fcstTime, localDateTime)) {
+                fresh++;
+                continue;
+            }
 
-                LocalDateTime weatherDateTime = LocalDateTime.of(baseYear, baseMonth, baseDay, baseHour, baseMiute);
-                if (localDateTime.isAfter(weatherDateTime)) {
-                    log.info("localDateTime isAfter weatherDateTime localDateTime {}, weatherDateTime {}", localDateTime, weatherDateTime);
+            String baseDate = localDateTime.toLocalDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            String baseTime = localDateTime.toLocalTime().format(DateTimeFormatter.ofPattern("HHmm"));
+            fetchMap.putIfAbsent(locationGroup.getLocationGroupId() + ":" + refreshType + ":" + baseDate + baseTime, locationGroup);
+        }
 
-                    log.info("baseDate {}, baseTime {}", baseDate, baseTime);
-                    insertWeather(weatherUrl, serviceKey, baseDate, baseTime, locationGroup, refreshType);
-                }
+        long startMillis = System.currentTimeMillis();
+        int fetched = 0;
+        for (Map.Entry<String, LocationGroup> entry : fetchMap.entrySet()) {
+            if (!waitForSpreadSlot(startMillis, spreadMillis * fetched / fetchMap.size())) {
+                log.warn("refreshWeatherList interrupted, fetched {} / {}", fetched, fetchMap.size());
+                break;
             }
+            String[] fetchKey = entry.getKey().split(":");
+            String refreshType = fetchKey[1];
+            String baseDate = fetchKey[2].substring(0, 8);
+            String baseTime = fetchKey[2].substring(8);
+            String weatherUrl = refreshType.equals("0") ? weatherUltraSrtUrl : weatherSrtUrl;
+            refreshWeatherOnce(weatherUrl, baseDate, baseTime, entry.getValue(), refreshType);
+            fetched++;
         }
+
+        WeatherRefreshPlanReport report = WeatherRefreshPlanReport.builder()
+                .requested(targetList.size())
+                .distinct(distinctTargetMap.size())
+                .fresh(fresh)
+                .fetched(fetchMap.size())
+                .build();
+        log.info("refreshWeatherList {}, avoided {}", report, report.getAvoided());
+        return report;
     }
 
-    @Transactional
-    public void deleteBeforeWeather() {
+    // 시작 후 offsetMillis 가 될 때까지 대기, 인터럽트되면 false
+    private boolean waitForSpreadSlot(long startMillis, long offsetMillis) {
+        long waitMillis = startMillis + offsetMillis - System.currentTimeMillis();
+        if (waitMillis <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(waitMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 예보시간이 발표기준 이후이고, 데이터가 없거나 현재 발표보다 이전 발표의 데이터면 갱신 대상
+    private boolean isRefreshTarget(Weather weather, String fcstDate, String fcstTime, LocalDateTime localDateTime) {
+        LocalDateTime fcstDateTime = LocalDateTime.parse(fcstDate + fcstTime, DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+        if (!fcstDateTime.isAfter(localDateTime)) {
+            return false;
+        }
+        if (weather == null) {
+            return true;
+        }
+        LocalDateTime weatherDateTime = LocalDateTime.parse(weather.getBaseDate() + weather.getBaseTime(), DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+        return localDateTime.isAfter(weatherDateTime);
+    }
+
+    public WeatherPurgeReport deleteBeforeWeather() {
+        return deleteBeforeWeather(() -> true);
+    }
+
+    // PK 범위 단위로 나눠 삭제 (청크마다 커밋, 청크 사이 대기)
+    // 최대 실행시간을 넘거나 작업 임대를 잃으면 중단하고, 같은 기준일로 다시 실행하면 중단 위치부터 이어서 삭제
+    public WeatherPurgeReport deleteBeforeWeather(BooleanSupplier leaseValid) {
         String baseDate = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        List<Weather> weatherList = weatherRepository.findByBaseDateLessThanEqual(baseDate);
-        if (weatherList != null) {
-            if (weatherList.size() > 0) {
-                log.info("deleteBeforeWeather Size {}, baseTime {}", weatherList.size() , baseDate);
-                weatherRepository.deleteAll(weatherList);
+        WeatherPurgeReport report = new WeatherPurgeReport(baseDate);
+
+        if (purgePartitionEnabled) {
+            maintainWeatherPartitions(report);
+        }
+
+        Long minWeatherId = weatherCustomRepository.selectMinWeatherId();
+        Long maxWeatherId = weatherCustomRepository.selectMaxWeatherId();
+        if (minWeatherId == null || maxWeatherId == null) {
+            report.finish(null);
+            log.info("deleteBeforeWeather {}", report);
+            return report;
+        }
+
+        long fromWeatherId = minWeatherId;
+        if (StringUtils.equals(purgeBaseDate, baseDate) && purgeCursorWeatherId > fromWeatherId) {
+            fromWeatherId = purgeCursorWeatherId;
+            log.info("deleteBeforeWeather 이어서 삭제 weatherId {}", fromWeatherId);
+        }
+
+        long deadlineMillis = System.currentTimeMillis() + purgeMaxRunMillis;
+        Long resumeWeatherId = null;
+        while (fromWeatherId <= maxWeatherId) {
+            long toWeatherId = fromWeatherId + purgeChunkSize - 1;
+            int deleted = weatherCustomRepository.deleteWeatherByIdRange(fromWeatherId, toWeatherId, baseDate);
+            report.addChunk(deleted);
+
+            fromWeatherId = toWeatherId + 1;
+            purgeBaseDate = baseDate;
+            purgeCursorWeatherId = fromWeatherId;
+            if (fromWeatherId > maxWeatherId) {
+                break;
+            }
+
+            if (System.currentTimeMillis() >= deadlineMillis) {
+                resumeWeatherId = fromWeatherId;
+                log.warn("deleteBeforeWeather 최대 실행시간 초과, 다음 실행시 weatherId {} 부터 삭제", fromWeatherId);
+                break;
+            }
+            if (!leaseValid.getAsBoolean()) {
+                resumeWeatherId = fromWeatherId;
+                log.warn("deleteBeforeWeather 작업 임대 만료, weatherId {} 에서 중단", fromWeatherId);
+                break;
+            }
+            try {
+                Thread.sleep(purgePauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                resumeWeatherId = fromWeatherId;
+                break;
+            }
+        }
+
+        if (resumeWeatherId == null) {
+            purgeBaseDate = null;
+        }
+        report.finish(resumeWeatherId);
+        log.info("deleteBeforeWeather {}, rowsPerSecond {}", report, report.getRowsPerSecond());
+        return report;
+    }
+
+    // fcstDate 일자별 파티션(pyyyyMMdd) 적용시 지난 일자는 파티션 단위로 삭제, 이후 일자 파티션은 미리 추가
+    private void maintainWeatherPartitions(WeatherPurgeReport report) {
+        Map<String, String> partitionMap = weatherCustomRepository.selectWeatherPartitions();
+        if (partitionMap.isEmpty()) {
+            log.info("Weather 파티션 미적용");
+            return;
+        }
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        LocalDate today = LocalDate.now();
+        String lastPartitionDate = null;
+        for (String partitionName : partitionMap.keySet()) {
+            if (partitionName.equals("pmax")) {
+                continue;
+            }
+            String partitionDate = partitionName.substring(1);
+            // 예보일자가 어제 이전이면 발표일자도 어제 이전
+            if (partitionDate.compareTo(today.format(formatter)) < 0) {
+                weatherCustomRepository.dropWeatherPartition(partitionName);
+                report.addDroppedPartition(partitionName);
+                log.info("Weather 파티션 삭제 {}", partitionName);
+            }
+            lastPartitionDate = partitionDate;
+        }
+
+        if (!partitionMap.containsKey("pmax")) {
+            return;
+        }
+        for (int i = 0; i <= purgePartitionAheadDays; i++) {
+            LocalDate partitionDate = today.plusDays(i);
+            if (lastPartitionDate == null || partitionDate.format(formatter).compareTo(lastPartitionDate) > 0) {
+                weatherCustomRepository.addWeatherPartition("p" + partitionDate.format(formatter), partitionDate.plusDays(1).format(formatter));
+                lastPartitionDate = partitionDate.format(formatter);
+                log.info("Weather 파티션 추가 p{}", lastPartitionDate);
             }
         }
     }
@@ -0,0 +1,146 @@
+package com.jagiya.weather.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jagiya.weather.dto.WeatherDecodeResult;
+import com.jagiya.weather.entity.Weather;
+import com.jagiya.weather.enums.WeatherCategory;
+import com.jagiya.weather.enums.WeatherResponseCode;
+import com.jagiya.weather.response.WeatherErrorResponse;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+// 기상청 예보 응답을 문자열/응답객체로 만들지 않고 스트림에서 바로 예보일시 별 Weather 로 변환
+@Component
+public class WeatherStreamDecoder {
+
+    // 카테고리 별 Weather 필드 (RN1 -> pcp, T1H -> tmp)
+    private static final Map<String, BiConsumer<Weather, String>> CATEGORY_SETTERS;
+
+    static {
+        Map<String, BiConsumer<Weather, String>> setters = new HashMap<>();
+        setters.put(WeatherCategory.POP.name(), Weather::setPop);
+        setters.put(WeatherCategory.PTY.name(), Weather::setPty);
+        setters.put(WeatherCategory.PCP.name(), Weather::setPcp);
+        setters.put(WeatherCategory.RN1.name(), Weather::setPcp);
+        setters.put(WeatherCategory.SKY.name(), Weather::setSky);
+        setters.put(WeatherCategory.TMP.name(), Weather::setTmp);
+        setters.put(WeatherCategory.T1H.name(), Weather::setTmp);
+        setters.put(WeatherCategory.TMN.name(), Weather::setTmn);
+        setters.put(WeatherCategory.TMX.name(), Weather::setTmx);
+        CATEGORY_SETTERS = Collections.unmodifiableMap(setters);
+    }
+
+    private final JsonFactory jsonFactory;
+
+    private final JAXBContext errorContext;
+
+    public WeatherStreamDecoder(ObjectMapper objectMapper) throws JAXBException {
+        this.jsonFactory = objectMapper.getFactory();
+        this.errorContext = JAXBContext.newInstance(WeatherErrorResponse.class);
+    }
+
+    public WeatherDecodeResult decode(InputStream inputStream) throws IOException, JAXBException {
+        BufferedInputStream in = new BufferedInputStream(inputStream);
+        if (isXml(in)) {
+            // 공공데이터포털 게이트웨이 오류는 XML 로 응답
+            WeatherErrorResponse errorResponse = (WeatherErrorResponse) errorContext.createUnmarshaller().unmarshal(in);
+            String returnReasonCode = errorResponse.getCmmMsgHeader() != null ? errorResponse.getCmmMsgHeader().getReturnReasonCode() : null;
+            return new WeatherDecodeResult(returnReasonCode != null ? returnReasonCode : WeatherResponseCode.UNKNOWN_ERROR.getCode(), Collections.emptyList());
+        }
+
+        String resultCode = null;
+        Map<String, Weather> groupedData = new LinkedHashMap<>();
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                String fieldName = parser.getCurrentName();
+                if ("resultCode".equals(fieldName)) {
+                    resultCode = parser.nextTextValue();
+                } else if ("item".equals(fieldName)) {
+                    if (parser.nextToken() == JsonToken.START_ARRAY) {
+                        readItems(parser, groupedData);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (resultCode == null) {
+            throw new IOException("resultCode 가 없는 응답입니다.");
+        }
+        return new WeatherDecodeResult(resultCode, new ArrayList<>(groupedData.values()));
+    }
+
+    private boolean isXml(BufferedInputStream in) throws IOException {
+        in.mark(64);
+        try {
+            int b;
+            while ((b = in.read()) != -1) {
+                if (!Character.isWhitespace(b)) {
+                    return b == '<';
+                }
+            }
+            return false;
+        } finally {
+            in.reset();
+        }
+    }
+
+    private void readItems(JsonParser parser, Map<String, Weather> groupedData) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String baseDate = null;
+            String baseTime = null;
+            String fcstDate = null;
+            String fcstTime = null;
+            String category = null;
+            String fcstValue = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case "baseDate" -> baseDate = parser.getValueAsString();
+                    case "baseTime" -> baseTime = parser.getValueAsString();
+                    case "fcstDate" -> fcstDate = parser.getValueAsString();
+                    case "fcstTime" -> fcstTime = parser.getValueAsString();
+                    case "category" -> category = parser.getValueAsString();
+                    case "fcstValue" -> fcstValue = parser.getValueAsString();
+                    default -> {
+                        if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+
+            BiConsumer<Weather, String> setter = category != null ? CATEGORY_SETTERS.get(category) : null;
+            if (setter == null || fcstDate == null || fcstTime == null) {
+                continue;
+            }
+
+            Weather weather = groupedData.get(fcstDate + fcstTime);
+            if (weather == null) {
+                weather = new Weather();
+                weather.setFcstDate(fcstDate);
+                weather.setFcstTime(fcstTime);
+                groupedData.put(fcstDate + fcstTime, weather);
+            }
+            weather.setBaseDate(baseDate);
+            weather.setBaseTime(baseTime);
+            setter.accept(weather, fcstValue);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- 사용자별 알람 조회용 테이블 (알람 목록, 상세 JSON)
+-- 생성 후 AlarmService.rebuildAlarmReadModel 로 전체 적재
+CREATE TABLE AlarmReadModel (
+    userId     BIGINT   NOT NULL,
+    document   LONGTEXT NOT NULL,
+    version    BIGINT   NOT NULL DEFAULT 1,
+    modifyDate DATETIME NOT NULL,
+    PRIMARY KEY (userId)
+);
@@ -0,0 +1,22 @@
+-- Alarm 조회용 시간(자정기준 분), 요일 비트 컬럼 및 인덱스
+-- weekMask : 월요일 1, 화요일 2, 수요일 4, 목요일 8, 금요일 16, 토요일 32, 일요일 64 (요일 미지정은 매일 127)
+ALTER TABLE Alarm
+    ADD COLUMN alarmMinute SMALLINT NULL AFTER alarmTime,
+    ADD COLUMN weekMask TINYINT UNSIGNED NOT NULL DEFAULT 127 AFTER alarmMinute;
+
+-- 기존 알람 시간 변환 (HHmm)
+UPDATE Alarm
+   SET alarmMinute = CAST(SUBSTRING(alarmTime, 1, 2) AS UNSIGNED) * 60 + CAST(SUBSTRING(alarmTime, 3, 2) AS UNSIGNED)
+ WHERE alarmTime REGEXP '^[0-9]{4}$';
+
+-- 기존 알람 요일 변환
+UPDATE Alarm a
+  JOIN (SELECT alarmId, BIT_OR(1 << (weekId - 1)) AS weekMask
+          FROM AlarmWeek
+         WHERE weekId BETWEEN 1 AND 7
+         GROUP BY alarmId) w
+    ON a.alarmId = w.alarmId
+   SET a.weekMask = w.weekMask;
+
+-- 울릴 알람 조회 (enabled = 1 AND alarmMinute BETWEEN ? AND ?) 범위 조회용
+CREATE INDEX idx_alarm_enabled_minute ON Alarm (enabled, alarmMinute);
@@ -0,0 +1,3 @@
+-- 알람 실행 휠 변경분 동기화 (regDate >= ? OR modifyDate >= ?) 조회용
+CREATE INDEX idx_alarm_reg_date ON Alarm (regDate);
+CREATE INDEX idx_alarm_modify_date ON Alarm (modifyDate);
@@ -0,0 +1,18 @@
+-- 여러 서버에서 스케줄 작업을 한번만 실행하기 위한 임대 테이블 (job.lease.enabled=true 로 사용)
+-- fencingToken : 임대를 가져올 때마다 증가, 이전 임대자의 늦은 작업을 구분하는 용도
+CREATE TABLE JobLease (
+    jobName      VARCHAR(100) NOT NULL,
+    ownerId      VARCHAR(100) NOT NULL,
+    fencingToken BIGINT       NOT NULL,
+    leaseUntil   DATETIME(3)  NOT NULL,
+    modifyDate   DATETIME(3)  NOT NULL,
+    PRIMARY KEY (jobName)
+);
+
+-- 실행중인 서버 (작업 분할용, 주기적으로 heartbeatDate 갱신)
+CREATE TABLE JobInstance (
+    instanceId    VARCHAR(100) NOT NULL,
+    heartbeatDate DATETIME(3)  NOT NULL,
+    PRIMARY KEY (instanceId),
+    KEY idx_job_instance_heartbeat (heartbeatDate)
+);
@@ -0,0 +1,46 @@
+-- 지역 등록 upsert(INSERT ... ON DUPLICATE KEY UPDATE)를 위한 유니크 키
+-- 적용 전 중복 격자, 중복 지역 정리 (가장 먼저 등록된 행만 남김)
+
+-- 중복 격자 : 지역은 남길 격자로 옮기고, 예보는 다음 갱신때 다시 받으므로 삭제
+UPDATE Location l
+  JOIN LocationGroup g ON l.locationGroupId = g.locationGroupId
+  JOIN (SELECT latX, lonY, MIN(locationGroupId) AS keepId
+          FROM LocationGroup
+         GROUP BY latX, lonY) k
+    ON g.latX = k.latX AND g.lonY = k.lonY
+   SET l.locationGroupId = k.keepId
+ WHERE g.locationGroupId <> k.keepId;
+
+DELETE w FROM Weather w
+  JOIN LocationGroup g1 ON w.locationGroupId = g1.locationGroupId
+  JOIN LocationGroup g2
+    ON g1.latX = g2.latX
+   AND g1.lonY = g2.lonY
+   AND g1.locationGroupId > g2.locationGroupId;
+
+DELETE g1 FROM LocationGroup g1
+  JOIN LocationGroup g2
+    ON g1.latX = g2.latX
+   AND g1.lonY = g2.lonY
+   AND g1.locationGroupId > g2.locationGroupId;
+
+-- 중복 지역 : 알람지역은 남길 지역으로 옮김
+UPDATE AlarmLocation al
+  JOIN Location l ON al.locationsId = l.locationId
+  JOIN (SELECT regionCd, MIN(locationId) AS keepId
+          FROM Location
+         GROUP BY regionCd) k
+    ON l.regionCd = k.regionCd
+   SET al.locationsId = k.keepId
+ WHERE l.locationId <> k.keepId;
+
+DELETE l1 FROM Location l1
+  JOIN Location l2
+    ON l1.regionCd = l2.regionCd
+   AND l1.locationId > l2.locationId;
+
+ALTER TABLE LocationGroup
+    ADD CONSTRAINT uk_location_group_grid UNIQUE (latX, lonY);
+
+ALTER TABLE Location
+    ADD CONSTRAINT uk_location_region_cd UNIQUE (regionCd);
@@ -0,0 +1,24 @@
+-- (선택) Weather 테이블 fcstDate 일자별 RANGE COLUMNS 파티션
+-- weather.purge.partition.enabled=true 설정시 삭제 작업이 지난 일자 파티션을 DROP PARTITION 으로 삭제하고
+-- weather.purge.partition.aheadDays 만큼 이후 일자 파티션을 pmax 에서 분리하여 추가한다.
+-- 파티션 이름은 p + 예보일자(yyyyMMdd), 해당 일자 다음날 미만 값을 가진다.
+
+-- 파티션 테이블은 외래키를 가질 수 없으므로 LocationGroup 외래키 삭제
+SET @fk = (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+            WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'Weather' LIMIT 1);
+SET @sql = IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE Weather DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 파티션 키는 모든 유니크 키에 포함되어야 함 (uk_weather_group_fcst 는 이미 fcstDate 포함)
+ALTER TABLE Weather
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (weatherId, fcstDate);
+
+-- 적용일 기준으로 날짜를 바꿔서 실행
+ALTER TABLE Weather
+    PARTITION BY RANGE COLUMNS (fcstDate) (
+        PARTITION p20240101 VALUES LESS THAN ('20240102'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
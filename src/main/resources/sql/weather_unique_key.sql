@@ -0,0 +1,11 @@
+-- Weather 예보 일괄 upsert(INSERT ... ON DUPLICATE KEY UPDATE)를 위한 유니크 키
+-- 적용 전 중복 예보 정리
+DELETE w1 FROM Weather w1
+    JOIN Weather w2
+      ON w1.locationGroupId = w2.locationGroupId
+     AND w1.fcstDate = w2.fcstDate
+     AND w1.fcstTime = w2.fcstTime
+     AND w1.weatherId < w2.weatherId;
+
+ALTER TABLE Weather
+    ADD CONSTRAINT uk_weather_group_fcst UNIQUE (locationGroupId, fcstDate, fcstTime);
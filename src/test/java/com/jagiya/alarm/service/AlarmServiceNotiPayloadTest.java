@@ -0,0 +1,125 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.dto.AlarmNotiPayload;
+import com.jagiya.alarm.entity.Alarm;
+import com.jagiya.alarm.repository.AlarmCustomRepository;
+import com.jagiya.alarm.repository.AlarmRepository;
+import com.jagiya.alarm.request.AlarmEnabledRequest;
+import com.jagiya.alarm.response.AlarmLocationNotiResponse;
+import com.jagiya.user.entity.User;
+import com.jagiya.weather.service.WeatherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 미리 계산된 알림 결과 : 커밋 후 무효화, 다른 서버에서 바뀐 알람의 결과는 버림
+@ExtendWith(MockitoExtension.class)
+class AlarmServiceNotiPayloadTest {
+
+    private static final Long USER_ID = 7L;
+
+    private static final Long ALARM_ID = 1L;
+
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    @Mock
+    private AlarmCustomRepository alarmCustomRepository;
+
+    @Mock
+    private AlarmNotiStore alarmNotiStore;
+
+    @Mock
+    private AlarmTimingWheel alarmTimingWheel;
+
+    @Mock
+    private AlarmCache alarmCache;
+
+    @Mock
+    private WeatherService weatherService;
+
+    @InjectMocks
+    private AlarmService alarmService;
+
+    private Alarm alarm;
+
+    @BeforeEach
+    void setUp() {
+        alarm = Alarm.builder()
+                .alarmId(ALARM_ID)
+                .enabled(1)
+                .alarmTime("0700")
+                .reminder("우산")
+                .user(User.builder().userId(USER_ID).build())
+                .build();
+        alarm.updateSchedule(null);
+    }
+
+    @Test
+    void invalidationWaitsForCommit() {
+        given(alarmRepository.findById(ALARM_ID)).willReturn(Optional.of(alarm));
+        AlarmEnabledRequest alarmEnabledRequest = new AlarmEnabledRequest();
+        alarmEnabledRequest.setAlarmId(ALARM_ID);
+        alarmEnabledRequest.setEnabled(0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            alarmService.updateAlarmEnabled(alarmEnabledRequest);
+            verify(alarmNotiStore, never()).invalidateUser(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(alarmNotiStore).invalidateUser(USER_ID);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void payloadIsServedWhileTheVersionMatches() {
+        AlarmNotiPayload payload = payload("1:100:200");
+        given(alarmNotiStore.get(any(), anyString())).willReturn(payload);
+        given(alarmCustomRepository.selectAlarmNotiVersion(USER_ID, "0700")).willReturn("1:100:200");
+
+        assertThat(alarmService.selectAlarmLocationWeather(ALARM_ID)).isSameAs(payload.getNotiResponse());
+        verify(alarmRepository, never()).findById(any());
+    }
+
+    @Test
+    void payloadChangedOnAnotherServerIsDropped() {
+        given(alarmNotiStore.get(any(), anyString())).willReturn(payload("1:100:200"));
+        // 다른 서버에서 지역만 수정 (수정일 변경)
+        given(alarmCustomRepository.selectAlarmNotiVersion(USER_ID, "0700")).willReturn("1:100:300");
+        given(alarmRepository.findById(ALARM_ID)).willReturn(Optional.of(alarm));
+        given(alarmRepository.findByUserUserIdAndAlarmTimeAndEnabledOrderByAlarmId(USER_ID, "0700", 1)).willReturn(List.of(alarm));
+
+        AlarmLocationNotiResponse alarmLocationNotiResponse = alarmService.selectAlarmLocationWeather(ALARM_ID);
+
+        verify(alarmNotiStore).invalidateUser(USER_ID);
+        assertThat(alarmLocationNotiResponse.getReminder()).isEqualTo("우산");
+        assertThat(alarmLocationNotiResponse.getCityDo()).isEmpty();
+    }
+
+    private AlarmNotiPayload payload(String version) {
+        AlarmLocationNotiResponse alarmLocationNotiResponse = new AlarmLocationNotiResponse();
+        alarmLocationNotiResponse.setCityDo("이전 지역");
+        return new AlarmNotiPayload(ALARM_ID, USER_ID, "0700", "20240101", version, alarmLocationNotiResponse,
+                List.of(), new HashMap<>(), LocalDateTime.now().plusMinutes(30));
+    }
+}
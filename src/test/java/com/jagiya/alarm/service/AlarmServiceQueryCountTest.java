@@ -0,0 +1,157 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.entity.Alarm;
+import com.jagiya.alarm.entity.AlarmLocation;
+import com.jagiya.alarm.entity.AlarmLocationTime;
+import com.jagiya.alarm.entity.AlarmWeek;
+import com.jagiya.alarm.entity.Week;
+import com.jagiya.alarm.repository.AlarmCustomRepositoryImpl;
+import com.jagiya.alarm.response.AlarmResponse;
+import com.jagiya.location.entity.Location;
+import com.jagiya.location.entity.LocationGroup;
+import com.jagiya.location.service.LocationService;
+import com.jagiya.support.MariaDbTestSupport;
+import com.jagiya.user.entity.User;
+import com.jagiya.weather.service.WeatherService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+// 알람 목록 조회 쿼리 수는 알람 수와 관계없이 3회 (알람, 요일, 지역/시간)
+@Import({AlarmService.class, AlarmCustomRepositoryImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = {
+        "alarm.readModel.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AlarmServiceQueryCountTest extends MariaDbTestSupport {
+
+    private static final int LIST_QUERY_COUNT = 3;
+
+    @Autowired
+    private AlarmService alarmService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AlarmNotiStore alarmNotiStore;
+
+    @MockBean
+    private AlarmTimingWheel alarmTimingWheel;
+
+    @MockBean
+    private AlarmCache alarmCache;
+
+    @MockBean
+    private LocationService locationService;
+
+    @MockBean
+    private WeatherService weatherService;
+
+    private User user;
+
+    private List<Week> weekList;
+
+    private List<Location> locationList;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시는 항상 미스
+        given(alarmCache.getAlarmList(any())).willReturn(null);
+
+        user = testEntityManager.persist(User.builder().name("tester").deleteFlag(0).regDate(new Date()).build());
+
+        weekList = new ArrayList<>();
+        for (String dayName : new String[]{"일", "월", "화", "수", "목", "금", "토"}) {
+            weekList.add(testEntityManager.persist(Week.builder().dayName(dayName).regDate(new Date()).build()));
+        }
+
+        LocationGroup locationGroup = testEntityManager.persist(LocationGroup.builder().latX("60").lonY("127").regDate(new Date()).build());
+        locationList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            locationList.add(testEntityManager.persist(Location.builder()
+                    .regionCd("111101010" + i)
+                    .cityDo("서울특별시")
+                    .guGun("종로구")
+                    .eupMyun("동" + i)
+                    .locationGroup(locationGroup)
+                    .regDate(new Date())
+                    .build()));
+        }
+    }
+
+    @Test
+    void selectAlarmListQueryCountDoesNotGrowWithAlarmCount() {
+        Map<Integer, Long> queryCountByAlarmCount = new LinkedHashMap<>();
+        int alarmCount = 0;
+        for (int target : new int[]{1, 10, 50, 200}) {
+            while (alarmCount < target) {
+                insertAlarm(alarmCount++);
+            }
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            List<AlarmResponse> alarmResponseList = alarmService.selectAlarmList(user.getUserId());
+
+            assertThat(alarmResponseList).hasSize(target);
+            assertThat(alarmResponseList).allSatisfy(alarmResponse -> {
+                assertThat(alarmResponse.getAlarmWeek()).hasSize(3);
+                assertThat(alarmResponse.getAlarmLocation()).hasSize(2);
+            });
+            queryCountByAlarmCount.put(target, statistics.getPrepareStatementCount());
+        }
+
+        assertThat(queryCountByAlarmCount.values()).as("알람 수별 쿼리 수 %s", queryCountByAlarmCount)
+                .containsOnly((long) LIST_QUERY_COUNT);
+    }
+
+    // 알람 1건 : 요일 3개, 지역 2개 (지역별 시간 2개)
+    private void insertAlarm(int index) {
+        Alarm alarm = testEntityManager.persist(Alarm.builder()
+                .user(user)
+                .enabled(1)
+                .vibration(1)
+                .volume(50)
+                .alarmTime(String.format("%02d%02d", index % 24, index % 60))
+                .regDate(new Date())
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            testEntityManager.persist(AlarmWeek.builder().alarm(alarm).week(weekList.get((index + i) % 7)).regDate(new Date()).build());
+        }
+        for (int i = 0; i < 2; i++) {
+            AlarmLocation alarmLocation = testEntityManager.persist(AlarmLocation.builder()
+                    .alarm(alarm)
+                    .location(locationList.get((index + i) % locationList.size()))
+                    .regDate(new Date())
+                    .build());
+            testEntityManager.persist(AlarmLocationTime.builder().alarmLocation(alarmLocation).locationTime("0700").regDate(new Date()).build());
+            testEntityManager.persist(AlarmLocationTime.builder().alarmLocation(alarmLocation).locationTime("1800").regDate(new Date()).build());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.dto.AlarmLocationTimeRow;
+import com.jagiya.alarm.dto.AlarmNotiPayload;
+import com.jagiya.alarm.entity.Alarm;
+import com.jagiya.alarm.repository.AlarmCustomRepository;
+import com.jagiya.alarm.repository.AlarmRepository;
+import com.jagiya.common.dto.JobPartition;
+import com.jagiya.location.entity.LocationGroup;
+import com.jagiya.user.entity.User;
+import com.jagiya.weather.dto.WeatherRefreshTarget;
+import com.jagiya.weather.service.WeatherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 23:45 실행에서 자정을 넘겨 울리는 알람(00:xx)은 다음날 예보로 갱신, 조회
+@ExtendWith(MockitoExtension.class)
+class AlarmServiceUpcomingAlarmTest {
+
+    private static final Long USER_ID = 7L;
+
+    // 2024-01-01 은 월요일
+    private static final LocalDateTime MONDAY_2350 = LocalDateTime.of(2024, 1, 1, 23, 50);
+
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    @Mock
+    private AlarmCustomRepository alarmCustomRepository;
+
+    @Mock
+    private AlarmNotiStore alarmNotiStore;
+
+    @Mock
+    private WeatherService weatherService;
+
+    @InjectMocks
+    private AlarmService alarmService;
+
+    private final LocationGroup seoul = LocationGroup.builder().locationGroupId(1L).latX("60").lonY("127").build();
+
+    private final LocationGroup busan = LocationGroup.builder().locationGroupId(2L).latX("98").lonY("76").build();
+
+    private Alarm lateAlarm;
+
+    private Alarm midnightAlarm;
+
+    @BeforeEach
+    void setUp() {
+        lateAlarm = alarm(1L, "2355");
+        midnightAlarm = alarm(2L, "0010");
+        given(alarmCustomRepository.selectDueAlarmList(LocalDateTime.of(2024, 1, 1, 23, 45), LocalDateTime.of(2024, 1, 2, 0, 44)))
+                .willReturn(List.of(lateAlarm, midnightAlarm));
+        given(alarmCustomRepository.selectAlarmLocationTimeRowList(List.of(1L))).willReturn(List.of(row(1L, seoul, "2300")));
+        given(alarmCustomRepository.selectAlarmLocationTimeRowList(List.of(2L))).willReturn(List.of(row(2L, busan, "0100")));
+    }
+
+    @Test
+    void refreshUsesTheDateEachAlarmFiresOn() {
+        alarmService.refreshAlarmLocationWeather(JobPartition.all("alarmWeather"), MONDAY_2350);
+
+        assertThat(refreshedTargets("20240101")).extracting(target -> target.getLocationGroup().getLocationGroupId() + ":" + target.getFcstTime())
+                .containsExactly("1:2300");
+        assertThat(refreshedTargets("20240102")).extracting(target -> target.getLocationGroup().getLocationGroupId() + ":" + target.getFcstTime())
+                .as("00:10 알람은 다음날 예보")
+                .containsExactly("2:0100");
+    }
+
+    @Test
+    void precomputeUsesTheNextDayAfterMidnight() {
+        given(alarmRepository.findById(anyLong())).willAnswer(invocation ->
+                Optional.of(invocation.<Long>getArgument(0) == 1L ? lateAlarm : midnightAlarm));
+        given(alarmRepository.findByUserUserIdAndAlarmTimeAndEnabledOrderByAlarmId(USER_ID, "2355", 1)).willReturn(List.of(lateAlarm));
+        given(alarmRepository.findByUserUserIdAndAlarmTimeAndEnabledOrderByAlarmId(USER_ID, "0010", 1)).willReturn(List.of(midnightAlarm));
+
+        alarmService.precomputeAlarmNoti(MONDAY_2350);
+
+        assertThat(lookedUpTargets("20240101")).isEmpty();
+        assertThat(lookedUpTargets("20240102")).extracting(target -> target.getLocationGroup().getLocationGroupId() + ":" + target.getFcstTime())
+                .as("00:10 알람은 다음날 예보")
+                .containsExactly("2:0100");
+
+        // 울릴 때(다음날) 조회하는 날짜, 예보 갱신 이벤트의 키와 같은 날짜로 저장
+        ArgumentCaptor<AlarmNotiPayload> payloadCaptor = ArgumentCaptor.forClass(AlarmNotiPayload.class);
+        verify(alarmNotiStore, times(2)).put(payloadCaptor.capture());
+        AlarmNotiPayload midnightPayload = payloadCaptor.getAllValues().stream()
+                .filter(payload -> payload.getAlarmId().equals(2L))
+                .findFirst()
+                .orElseThrow();
+        assertThat(midnightPayload.getFcstDate()).isEqualTo("20240102");
+        assertThat(midnightPayload.getRainMap()).containsOnlyKeys("2:20240102:0100");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WeatherRefreshTarget> lookedUpTargets(String fcstDate) {
+        ArgumentCaptor<List<WeatherRefreshTarget>> targetCaptor = ArgumentCaptor.forClass(List.class);
+        verify(weatherService).selectLocationAndTimeForWeatherList(eq(fcstDate), targetCaptor.capture());
+        return targetCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WeatherRefreshTarget> refreshedTargets(String fcstDate) {
+        ArgumentCaptor<List<WeatherRefreshTarget>> targetCaptor = ArgumentCaptor.forClass(List.class);
+        verify(weatherService).refreshWeatherList(eq(fcstDate), targetCaptor.capture(), eq(0L));
+        return targetCaptor.getValue();
+    }
+
+    private Alarm alarm(Long alarmId, String alarmTime) {
+        Alarm alarm = Alarm.builder()
+                .alarmId(alarmId)
+                .enabled(1)
+                .alarmTime(alarmTime)
+                .user(User.builder().userId(USER_ID).build())
+                .build();
+        alarm.updateSchedule(null);
+        return alarm;
+    }
+
+    private AlarmLocationTimeRow row(Long alarmId, LocationGroup locationGroup, String locationTime) {
+        return new AlarmLocationTimeRow(alarmId, alarmId * 10, "시도", "구군", "동", "11110101" + alarmId, locationGroup,
+                alarmId * 100, locationTime);
+    }
+}
@@ -0,0 +1,118 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.dto.AlarmScheduleRow;
+import com.jagiya.alarm.repository.AlarmCustomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// 평일 07:00 에 알람이 몰린 상태에서 한 분 tick 비용 (실행 대상 확인 쿼리는 메모리 조회로 대체, 실행 작업은 no-op)
+// 실행 : ./gradlew jmh -PjmhIncludes=AlarmTimingWheelBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AlarmTimingWheelBenchmark {
+
+    // 전체 활성 알람 수
+    @Param({"200000", "1000000"})
+    private int alarmCount;
+
+    // 전체 중 평일 07:00 알람 비율
+    @Param({"0.1"})
+    private double peakRatio;
+
+    private AlarmTimingWheel alarmTimingWheel;
+
+    private LocalDateTime peakMinute;
+
+    private LocalDateTime offPeakMinute;
+
+    @Setup
+    public void setUp() {
+        List<AlarmScheduleRow> alarmScheduleRowList = createAlarmScheduleRowList(alarmCount, peakRatio);
+
+        AlarmCustomRepository alarmCustomRepository = mock(AlarmCustomRepository.class, withSettings().stubOnly());
+        given(alarmCustomRepository.selectEnabledAlarmScheduleRowList(anyLong(), anyInt())).willAnswer(invocation -> {
+            long lastAlarmId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            int from = (int) lastAlarmId;
+            return new ArrayList<>(alarmScheduleRowList.subList(Math.min(from, alarmScheduleRowList.size()), Math.min(from + limit, alarmScheduleRowList.size())));
+        });
+        given(alarmCustomRepository.selectEnabledAlarmIdList(any())).willAnswer(invocation -> new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+
+        alarmTimingWheel = new AlarmTimingWheel(alarmCustomRepository, List.of(new NoopAlarmFireAction()), true, "noop", 5000, 5, 120);
+        alarmTimingWheel.load();
+
+        // 2024-01-01 은 월요일
+        peakMinute = LocalDateTime.of(2024, 1, 1, 7, 0);
+        offPeakMinute = LocalDateTime.of(2024, 1, 1, 3, 17);
+    }
+
+    // 평일 07:00 (알람이 가장 몰리는 분)
+    @Benchmark
+    public int peakTick() {
+        peakMinute = peakMinute.plusWeeks(1);
+        alarmTimingWheel.skip(peakMinute.minusMinutes(1));
+        return alarmTimingWheel.tick(peakMinute);
+    }
+
+    // 알람이 드문 분
+    @Benchmark
+    public int offPeakTick() {
+        offPeakMinute = offPeakMinute.plusWeeks(1);
+        alarmTimingWheel.skip(offPeakMinute.minusMinutes(1));
+        return alarmTimingWheel.tick(offPeakMinute);
+    }
+
+    // 알람 ID 순서, 앞에서 peakRatio 만큼은 평일 07:00 나머지는 임의 시간, 요일
+    static List<AlarmScheduleRow> createAlarmScheduleRowList(int alarmCount, double peakRatio) {
+        Random random = new Random(7L);
+        int peakCount = (int) (alarmCount * peakRatio);
+        List<AlarmScheduleRow> alarmScheduleRowList = new ArrayList<>(alarmCount);
+        for (int i = 1; i <= alarmCount; i++) {
+            if (i <= peakCount) {
+                alarmScheduleRowList.add(new AlarmScheduleRow((long) i, 1, 7 * 60, 0b0011111));
+            } else {
+                alarmScheduleRowList.add(new AlarmScheduleRow((long) i, 1, random.nextInt(24 * 60), 1 + random.nextInt(127)));
+            }
+        }
+        return alarmScheduleRowList;
+    }
+
+    static class NoopAlarmFireAction implements AlarmFireAction {
+
+        @Override
+        public String getName() {
+            return "noop";
+        }
+
+        @Override
+        public void fire(Long alarmId, LocalDateTime fireDateTime) {
+        }
+    }
+}
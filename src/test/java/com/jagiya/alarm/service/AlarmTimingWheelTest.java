@@ -0,0 +1,103 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.dto.AlarmScheduleRow;
+import com.jagiya.alarm.repository.AlarmCustomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class AlarmTimingWheelTest {
+
+    private static final int ALARM_COUNT = 100_000;
+
+    // 2024-01-01 은 월요일
+    private static final LocalDateTime MONDAY_0700 = LocalDateTime.of(2024, 1, 1, 7, 0);
+
+    private final List<Long> firedAlarmIds = new ArrayList<>();
+
+    private final Set<Long> deletedAlarmIds = new HashSet<>();
+
+    private List<AlarmScheduleRow> alarmScheduleRowList;
+
+    private AlarmTimingWheel alarmTimingWheel;
+
+    @BeforeEach
+    void setUp() {
+        alarmScheduleRowList = AlarmTimingWheelBenchmark.createAlarmScheduleRowList(ALARM_COUNT, 0.1);
+
+        AlarmCustomRepository alarmCustomRepository = mock(AlarmCustomRepository.class);
+        given(alarmCustomRepository.selectEnabledAlarmScheduleRowList(anyLong(), anyInt())).willAnswer(invocation -> {
+            long lastAlarmId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return alarmScheduleRowList.stream().filter(row -> row.getAlarmId() > lastAlarmId).limit(limit).toList();
+        });
+        given(alarmCustomRepository.selectEnabledAlarmIdList(any())).willAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream().filter(alarmId -> !deletedAlarmIds.contains(alarmId)).toList());
+
+        AlarmFireAction recordingAction = new AlarmFireAction() {
+            @Override
+            public String getName() {
+                return "record";
+            }
+
+            @Override
+            public void fire(Long alarmId, LocalDateTime fireDateTime) {
+                firedAlarmIds.add(alarmId);
+            }
+        };
+        alarmTimingWheel = new AlarmTimingWheel(alarmCustomRepository, List.of(new LoggingAlarmFireAction(), recordingAction), true, "record", 5000, 5, 120);
+        assertThat(alarmTimingWheel.load()).isEqualTo(ALARM_COUNT);
+    }
+
+    @Test
+    void peakTickFiresEveryAlarmOfTheMinuteOnce() {
+        alarmTimingWheel.skip(MONDAY_0700.minusMinutes(1));
+        int fired = alarmTimingWheel.tick(MONDAY_0700);
+
+        long expected = alarmScheduleRowList.stream().filter(row -> isDue(row, MONDAY_0700)).count();
+        assertThat(expected).isGreaterThanOrEqualTo(ALARM_COUNT / 10);
+        assertThat(fired).isEqualTo(expected);
+        assertThat(firedAlarmIds).doesNotHaveDuplicates().hasSize((int) expected);
+
+        // 같은 분은 다시 실행하지 않음
+        assertThat(alarmTimingWheel.tick(MONDAY_0700.plusSeconds(30))).isZero();
+    }
+
+    @Test
+    void missedMinutesAreCaughtUpAndDeletedAlarmsDropped() {
+        alarmTimingWheel.skip(MONDAY_0700.minusMinutes(1));
+        deletedAlarmIds.add(1L);
+        deletedAlarmIds.add(2L);
+
+        // 07:00 ~ 07:02 를 한번에 보충
+        int fired = alarmTimingWheel.tick(MONDAY_0700.plusMinutes(2));
+
+        long expected = 0;
+        for (int i = 0; i <= 2; i++) {
+            LocalDateTime minute = MONDAY_0700.plusMinutes(i);
+            expected += alarmScheduleRowList.stream().filter(row -> isDue(row, minute) && !deletedAlarmIds.contains(row.getAlarmId())).count();
+        }
+        assertThat(fired).isEqualTo(expected);
+        assertThat(firedAlarmIds).doesNotContain(1L, 2L);
+        assertThat(alarmTimingWheel.getDroppedCount()).isEqualTo(2);
+        assertThat(alarmTimingWheel.getScheduledCount()).isEqualTo(ALARM_COUNT - 2);
+    }
+
+    private boolean isDue(AlarmScheduleRow row, LocalDateTime minute) {
+        int dayBit = 1 << (minute.getDayOfWeek().getValue() - 1);
+        return row.getAlarmMinute() == minute.getHour() * 60 + minute.getMinute() && (row.getWeekMask() & dayBit) != 0;
+    }
+}
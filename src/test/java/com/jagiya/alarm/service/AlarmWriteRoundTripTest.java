@@ -0,0 +1,200 @@
+package com.jagiya.alarm.service;
+
+import com.jagiya.alarm.entity.Week;
+import com.jagiya.alarm.repository.AlarmCustomRepositoryImpl;
+import com.jagiya.alarm.request.AlarmDeleteRequest;
+import com.jagiya.alarm.request.AlarmInsertRequest;
+import com.jagiya.alarm.request.AlarmLocationInsertRequest;
+import com.jagiya.alarm.request.AlarmLocationTimeInsertRequest;
+import com.jagiya.alarm.request.AlarmWeekInsertRequest;
+import com.jagiya.alarm.response.AlarmDetailResponse;
+import com.jagiya.location.entity.Location;
+import com.jagiya.location.entity.LocationGroup;
+import com.jagiya.location.request.LocationRequest;
+import com.jagiya.location.service.LocationService;
+import com.jagiya.support.MariaDbTestSupport;
+import com.jagiya.support.StatementCounter;
+import com.jagiya.user.entity.User;
+import com.jagiya.weather.service.WeatherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+// 알람 등록, 삭제의 DB 왕복(조회 + 변경 쿼리) 횟수 (운영과 같이 조회용 테이블 갱신, 실제 캐시 사용)
+// 일괄 처리 전에는 요일, 지역, 지역시간 행마다 INSERT / DELETE 한번씩이었으므로 행 수만큼 왕복
+@Import({AlarmService.class, AlarmCustomRepositoryImpl.class, AlarmCache.class, AlarmNotiStore.class, StatementCounter.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class AlarmWriteRoundTripTest extends MariaDbTestSupport {
+
+    private static final int MAX_LOCATION_COUNT = 5;
+
+    // 조회용 테이블 갱신 : 알람, 요일, 지역/시간 조회 3회 + 저장 1회 (사용자의 알람 수와 관계없이)
+    private static final int READ_MODEL_READ_COUNT = 3;
+
+    private static final int READ_MODEL_WRITE_COUNT = 1;
+
+    @Autowired
+    private AlarmService alarmService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @MockBean
+    private AlarmTimingWheel alarmTimingWheel;
+
+    @MockBean
+    private LocationService locationService;
+
+    @MockBean
+    private WeatherService weatherService;
+
+    private User user;
+
+    private List<Week> weekList;
+
+    private final Map<String, Location> locationMap = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        user = testEntityManager.persist(User.builder().name("tester").deleteFlag(0).regDate(new Date()).build());
+
+        weekList = new ArrayList<>();
+        for (String dayName : new String[]{"월", "화", "수", "목", "금", "토", "일"}) {
+            weekList.add(testEntityManager.persist(Week.builder().dayName(dayName).regDate(new Date()).build()));
+        }
+
+        // 지역 조회, 등록은 측정 대상이 아니므로 미리 등록한 지역을 돌려줌
+        LocationGroup locationGroup = testEntityManager.persist(LocationGroup.builder().latX("60").lonY("127").regDate(new Date()).build());
+        for (int i = 0; i < MAX_LOCATION_COUNT; i++) {
+            Location location = testEntityManager.persist(Location.builder()
+                    .regionCd("111101010" + i)
+                    .cityDo("서울특별시")
+                    .guGun("종로구")
+                    .eupMyun("동" + i)
+                    .locationGroup(locationGroup)
+                    .regDate(new Date())
+                    .build());
+            locationMap.put(location.getRegionCd(), location);
+        }
+        given(locationService.selectInsertLocation(any())).willAnswer(invocation ->
+                locationMap.get(invocation.<LocationRequest>getArgument(0).getRegionCd()));
+        testEntityManager.flush();
+    }
+
+    @Test
+    void insertAlarmRoundTripsDoNotGrowWithRowsOrExistingAlarms() {
+        // {요일 수, 지역 수, 지역별 시간 수}, 같은 사용자에 차례로 등록하므로 기존 알람도 늘어남
+        int[][] shapes = {{1, 1, 1}, {3, 3, 6}, {7, 5, 12}, {7, 5, 12}};
+        for (int i = 0; i < shapes.length; i++) {
+            int weekCount = shapes[i][0];
+            int locationCount = shapes[i][1];
+            int timeCount = shapes[i][2];
+            // 이전 : 알람 1 + 요일 행 + 지역 행 + 지역시간 행
+            int rowCount = 1 + weekCount + locationCount + locationCount * timeCount;
+            String shape = String.format("기존 알람 %d, 요일 %d, 지역 %d x 시간 %d (행 %d)", i, weekCount, locationCount, timeCount, rowCount);
+
+            testEntityManager.clear();
+            statementCounter.reset();
+            AlarmDetailResponse alarmDetailResponse = alarmService.insertAlarm(insertRequest(weekCount, locationCount, timeCount));
+            testEntityManager.flush();
+
+            assertThat(alarmDetailResponse.getAlarmWeek()).hasSize(weekCount);
+            assertThat(alarmDetailResponse.getAlarmLocation()).hasSize(locationCount);
+            assertThat(alarmDetailResponse.getAlarmLocation()).allSatisfy(alarmLocation ->
+                    assertThat(alarmLocation.getAlarmLocationTimeDetail()).hasSize(timeCount));
+            // 알람 1 + 요일 배치 1 + 지역 (키가 필요하므로 행마다) + 지역시간 배치 1
+            assertThat(statementCounter.getWriteCount()).as("변경 쿼리 : %s", shape)
+                    .isEqualTo(3 + locationCount + READ_MODEL_WRITE_COUNT);
+            // 등록 결과 응답은 조회용 데이터를 만들며 생성한 상세를 사용하므로 추가 조회 없음
+            assertThat(statementCounter.getReadCount()).as("조회 쿼리 : %s", shape)
+                    .isEqualTo(READ_MODEL_READ_COUNT);
+        }
+    }
+
+    @Test
+    void deleteAlarmRoundTripsDoNotGrowWithRows() {
+        // 삭제 후에도 사용자에게 남는 알람 (조회용 테이블을 남은 알람으로 다시 만듦)
+        alarmService.insertAlarm(insertRequest(7, 5, 12));
+
+        int[][] shapes = {{1, 1, 1}, {7, 5, 12}};
+        for (int[] shape : shapes) {
+            Long alarmId = alarmService.insertAlarm(insertRequest(shape[0], shape[1], shape[2])).getAlarmId();
+            testEntityManager.flush();
+            testEntityManager.clear();
+            int rowCount = 1 + shape[0] + shape[1] + shape[1] * shape[2];
+
+            statementCounter.reset();
+            AlarmDeleteRequest alarmDeleteRequest = new AlarmDeleteRequest();
+            alarmDeleteRequest.setAlarmId(alarmId);
+            alarmService.deleteAlarm(alarmDeleteRequest);
+            testEntityManager.flush();
+
+            // 요일, 지역시간, 지역, 알람 순서로 한번씩
+            assertThat(statementCounter.getWriteCount()).as("변경 쿼리 : 행 %d", rowCount)
+                    .isEqualTo(4 + READ_MODEL_WRITE_COUNT);
+            // 사용자 조회 1
+            assertThat(statementCounter.getReadCount()).as("조회 쿼리 : 행 %d", rowCount)
+                    .isEqualTo(1 + READ_MODEL_READ_COUNT);
+            assertThat(testEntityManager.getEntityManager()
+                    .createQuery("select count(a) from Alarm a where a.alarmId = :alarmId", Long.class)
+                    .setParameter("alarmId", alarmId)
+                    .getSingleResult()).isZero();
+        }
+    }
+
+    private AlarmInsertRequest insertRequest(int weekCount, int locationCount, int timeCount) {
+        AlarmInsertRequest alarmInsertRequest = new AlarmInsertRequest();
+        alarmInsertRequest.setUserId(user.getUserId());
+        alarmInsertRequest.setAlarmTime("0700");
+        alarmInsertRequest.setTimeOfDay("AM");
+        alarmInsertRequest.setVibration(1);
+        alarmInsertRequest.setVolume(50);
+
+        List<AlarmWeekInsertRequest> alarmWeekList = new ArrayList<>();
+        for (int i = 0; i < weekCount; i++) {
+            AlarmWeekInsertRequest alarmWeekInsertRequest = new AlarmWeekInsertRequest();
+            alarmWeekInsertRequest.setWeekId(weekList.get(i).getWeekId());
+            alarmWeekList.add(alarmWeekInsertRequest);
+        }
+        alarmInsertRequest.setWeekList(alarmWeekList);
+
+        List<AlarmLocationInsertRequest> alarmLocationList = new ArrayList<>();
+        for (int i = 0; i < locationCount; i++) {
+            Location location = locationMap.get("111101010" + i);
+            AlarmLocationInsertRequest alarmLocationInsertRequest = new AlarmLocationInsertRequest();
+            alarmLocationInsertRequest.setRegionCd(location.getRegionCd());
+            alarmLocationInsertRequest.setCityDo(location.getCityDo());
+            alarmLocationInsertRequest.setGuGun(location.getGuGun());
+            alarmLocationInsertRequest.setEupMyun(location.getEupMyun());
+
+            List<AlarmLocationTimeInsertRequest> alarmLocationTimeList = new ArrayList<>();
+            for (int j = 0; j < timeCount; j++) {
+                AlarmLocationTimeInsertRequest alarmLocationTimeInsertRequest = new AlarmLocationTimeInsertRequest();
+                alarmLocationTimeInsertRequest.setLocationTime(String.format("%02d00", 6 + j));
+                alarmLocationTimeList.add(alarmLocationTimeInsertRequest);
+            }
+            alarmLocationInsertRequest.setAlarmLocationTimeRequest(alarmLocationTimeList);
+            alarmLocationList.add(alarmLocationInsertRequest);
+        }
+        alarmInsertRequest.setAlarmLocationList(alarmLocationList);
+        return alarmInsertRequest;
+    }
+}
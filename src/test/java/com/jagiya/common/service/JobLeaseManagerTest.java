@@ -0,0 +1,135 @@
+package com.jagiya.common.service;
+
+import com.jagiya.common.dto.JobPartition;
+import com.jagiya.common.repository.JobLeaseRepository;
+import com.jagiya.support.MariaDbTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 DB 를 쓰는 두 서버(instanceId 가 다른 JobLeaseManager) 사이의 임대
+// ACQUIRE_SQL 은 ON DUPLICATE KEY UPDATE 가 앞에서부터 차례로 반영되는 것에 의존하므로 실제 MariaDB 로 확인
+@Import(JobLeaseRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobLeaseManagerTest extends MariaDbTestSupport {
+
+    private static final String JOB_NAME = "testJob";
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JobLeaseManager serverA;
+
+    private JobLeaseManager serverB;
+
+    @BeforeEach
+    void setUp() {
+        // 엔티티가 아니므로 스크립트로 생성
+        jdbcTemplate.execute("DROP TABLE IF EXISTS JobLease");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS JobInstance");
+        new ResourceDatabasePopulator(new ClassPathResource("sql/job_lease.sql")).execute(dataSource);
+
+        serverA = new JobLeaseManager(jobLeaseRepository, true, 30, "server-a");
+        serverB = new JobLeaseManager(jobLeaseRepository, true, 30, "server-b");
+    }
+
+    @Test
+    void onlyOneServerAcquiresTheLease() throws Exception {
+        List<JobPartition> ranPartitions = Collections.synchronizedList(new ArrayList<>());
+
+        List<Boolean> results = runConcurrently(
+                () -> serverA.runOnce(JOB_NAME, 30, ranPartitions::add),
+                () -> serverB.runOnce(JOB_NAME, 30, ranPartitions::add));
+
+        assertThat(results).containsExactlyInAnyOrder(true, false);
+        assertThat(ranPartitions).hasSize(1);
+        assertThat(ranPartitions.get(0).getFencingToken()).isEqualTo(1L);
+    }
+
+    @Test
+    void takeoverAfterExpiryIncrementsFencingTokenAndFencesOldOwner() throws Exception {
+        List<JobPartition> partitionsA = new ArrayList<>();
+        List<JobPartition> partitionsB = new ArrayList<>();
+
+        assertThat(serverA.runOnce(JOB_NAME, 1, partitionsA::add)).isTrue();
+        // 만료 전에는 가져갈 수 없음
+        assertThat(serverB.runOnce(JOB_NAME, 1, partitionsB::add)).isFalse();
+
+        Thread.sleep(1_200);
+        assertThat(serverB.runOnce(JOB_NAME, 30, partitionsB::add)).isTrue();
+
+        JobPartition oldPartition = partitionsA.get(0);
+        JobPartition newPartition = partitionsB.get(0);
+        assertThat(newPartition.getFencingToken()).isEqualTo(oldPartition.getFencingToken() + 1);
+        assertThat(serverA.extend(oldPartition, 30)).isFalse();
+        assertThat(serverB.extend(newPartition, 30)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT ownerId FROM JobLease WHERE jobName = ?", String.class, JOB_NAME))
+                .isEqualTo("server-b");
+    }
+
+    @Test
+    void runPartitionedCoversEveryPartitionExactlyOnce() throws Exception {
+        // server-c 는 살아있는 것으로 보이지만 실행하지 않으므로 그 구간은 a, b 중 한 곳이 가져가야 함
+        serverA.heartbeat();
+        serverB.heartbeat();
+        new JobLeaseManager(jobLeaseRepository, true, 30, "server-c").heartbeat();
+
+        List<JobPartition> ranPartitions = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> ranCounts = runConcurrently(
+                () -> serverA.runPartitioned(JOB_NAME, 30, ranPartitions::add),
+                () -> serverB.runPartitioned(JOB_NAME, 30, ranPartitions::add));
+
+        assertThat(ranCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        assertThat(ranPartitions).extracting(JobPartition::getCount).containsOnly(3);
+        assertThat(ranPartitions).extracting(JobPartition::getIndex).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @SafeVarargs
+    private <T> List<T> runConcurrently(Callable<T>... tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.length);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return task.call();
+                }));
+            }
+            startLatch.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.jagiya.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 기존 GpsTransfer 변환식(호출마다 투영 상수 계산) 대비 GridProjection 변환 비용
+// 실행 : ./gradlew jmh -PjmhIncludes=GridProjectionBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridProjectionBenchmark {
+
+    // 한번에 변환하는 좌표 수 (전국 격자 갱신은 수천건)
+    @Param({"1", "4000"})
+    private int size;
+
+    private double[] lats;
+
+    private double[] lons;
+
+    private int[] xs;
+
+    private int[] ys;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        lats = new double[size];
+        lons = new double[size];
+        xs = new int[size];
+        ys = new int[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.5;
+            lons[i] = 124.5 + random.nextDouble() * 7.5;
+        }
+    }
+
+    @Benchmark
+    public void legacyToGrid(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(LegacyGpsTransfer.toGrid(lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public void toGrid(Blackhole blackhole) {
+        GridProjection projection = GridProjection.KMA_DFS;
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(projection.toGrid(lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public int[] toGridBatch() {
+        GridProjection.KMA_DFS.toGrid(lats, lons, xs, ys);
+        return xs;
+    }
+}
@@ -0,0 +1,146 @@
+package com.jagiya.common.utils;
+
+import com.jagiya.location.request.GpsTransfer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 기존 GpsTransfer 변환식과 격자, 위경도가 완전히 같은지 확인 (골든 테스트)
+class GridProjectionTest {
+
+    // 기상청 격자 범위를 덮는 위경도 영역 (0.01도 간격)
+    private static final double MIN_LAT = 32.0;
+    private static final double MAX_LAT = 39.5;
+    private static final double MIN_LON = 123.5;
+    private static final double MAX_LON = 132.5;
+    private static final double STEP = 0.01;
+
+    // 기상청 격자 범위 (1 ~ 149, 1 ~ 253)
+    private static final int MAX_X = 149;
+    private static final int MAX_Y = 253;
+
+    private final GridProjection projection = GridProjection.KMA_DFS;
+
+    @Test
+    void toGridMatchesLegacyOverKoreaSweep() {
+        int latCount = (int) Math.round((MAX_LAT - MIN_LAT) / STEP);
+        int lonCount = (int) Math.round((MAX_LON - MIN_LON) / STEP);
+        int checked = 0;
+        for (int i = 0; i <= latCount; i++) {
+            double lat = MIN_LAT + i * STEP;
+            for (int j = 0; j <= lonCount; j++) {
+                double lon = MIN_LON + j * STEP;
+                assertSameGrid(lat, lon);
+                checked++;
+            }
+        }
+        assertThat(checked).isEqualTo((latCount + 1) * (lonCount + 1));
+    }
+
+    @Test
+    void toGridMatchesLegacyNearCellBoundaries() {
+        // 반올림 경계(격자 중심 사이)에 걸리는 좌표를 골라 비교
+        Random random = new Random(20231024L);
+        for (int i = 0; i < 200_000; i++) {
+            int x = 1 + random.nextInt(MAX_X);
+            int y = 1 + random.nextInt(MAX_Y);
+            double lat = projection.toLat(x, y) + (random.nextDouble() - 0.5) * 0.05;
+            double lon = projection.toLon(x, y) + (random.nextDouble() - 0.5) * 0.05;
+            assertSameGrid(lat, lon);
+        }
+    }
+
+    @Test
+    void toGridBatchMatchesLegacy() {
+        Random random = new Random(7L);
+        int size = 10_000;
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+            lons[i] = MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON);
+        }
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        projection.toGrid(lats, lons, xs, ys);
+
+        for (int i = 0; i < size; i++) {
+            int[] legacy = LegacyGpsTransfer.toGrid(lats[i], lons[i]);
+            assertThat(xs[i]).isEqualTo(legacy[0]);
+            assertThat(ys[i]).isEqualTo(legacy[1]);
+        }
+    }
+
+    @Test
+    void toLatLonMatchesLegacyForEveryCell() {
+        for (int x = 1; x <= MAX_X; x++) {
+            for (int y = 1; y <= MAX_Y; y++) {
+                double[] legacy = LegacyGpsTransfer.toLatLon(x, y);
+                assertThat(projection.toLat(x, y)).isEqualTo(legacy[0]);
+                assertThat(projection.toLon(x, y)).isEqualTo(legacy[1]);
+            }
+        }
+    }
+
+    @Test
+    void toLatLonBatchMatchesSingleAndRoundTrips() {
+        int size = MAX_X * MAX_Y;
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = 1 + i / MAX_Y;
+            ys[i] = 1 + i % MAX_Y;
+        }
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        projection.toLatLon(xs, ys, lats, lons);
+
+        for (int i = 0; i < size; i++) {
+            assertThat(lats[i]).isEqualTo(projection.toLat(xs[i], ys[i]));
+            assertThat(lons[i]).isEqualTo(projection.toLon(xs[i], ys[i]));
+
+            long grid = projection.toGrid(lats[i], lons[i]);
+            assertThat(GridProjection.gridX(grid)).isEqualTo(xs[i]);
+            assertThat(GridProjection.gridY(grid)).isEqualTo(ys[i]);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedGpsTransferDelegatesToSameResult() {
+        // 서울 종로구, 제주, 독도, 기준점
+        double[][] points = {{37.5732694444444, 126.970955555555}, {33.4996, 126.5312}, {37.2426, 131.8597}, {38.0, 126.0}};
+        for (double[] point : points) {
+            GpsTransfer gpsTransfer = new GpsTransfer(point[0], point[1]);
+            gpsTransfer.transfer(gpsTransfer, 0);
+            int[] legacy = LegacyGpsTransfer.toGrid(point[0], point[1]);
+            assertThat(gpsTransfer.getxLat()).isEqualTo(legacy[0]);
+            assertThat(gpsTransfer.getyLon()).isEqualTo(legacy[1]);
+
+            gpsTransfer.transfer(gpsTransfer, 1);
+            double[] legacyLatLon = LegacyGpsTransfer.toLatLon(legacy[0], legacy[1]);
+            assertThat(gpsTransfer.getLat()).isEqualTo(legacyLatLon[0]);
+            assertThat(gpsTransfer.getLon()).isEqualTo(legacyLatLon[1]);
+        }
+        // 기준점은 (43, 136)
+        assertThat(LegacyGpsTransfer.toGrid(38.0, 126.0)).containsExactly(43, 136);
+    }
+
+    @Test
+    void batchRejectsMismatchedArrays() {
+        assertThatThrownBy(() -> projection.toGrid(new double[2], new double[1], new int[2], new int[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> projection.toLatLon(new int[2], new int[2], new double[1], new double[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertSameGrid(double lat, double lon) {
+        int[] legacy = LegacyGpsTransfer.toGrid(lat, lon);
+        long grid = projection.toGrid(lat, lon);
+        assertThat(GridProjection.gridX(grid)).as("x (%s, %s)", lat, lon).isEqualTo(legacy[0]);
+        assertThat(GridProjection.gridY(grid)).as("y (%s, %s)", lat, lon).isEqualTo(legacy[1]);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jagiya.common.utils;
+
+// GridProjection 도입 전 GpsTransfer.transfer 의 변환식 (골든 테스트, 벤치마크 비교용)
+// 호출할 때마다 투영 상수를 다시 계산하던 원래 방식 그대로 유지
+final class LegacyGpsTransfer {
+
+    private LegacyGpsTransfer() {
+    }
+
+    // 위경도 -> 격자 {x, y} (mode 0)
+    static int[] toGrid(double lat, double lon) {
+        double[] result = transfer(lat, lon, 0);
+        return new int[]{(int) result[0], (int) result[1]};
+    }
+
+    // 격자 -> 위경도 {lat, lon} (mode 1)
+    static double[] toLatLon(int x, int y) {
+        return transfer(x, y, 1);
+    }
+
+    private static double[] transfer(double latOrX, double lonOrY, int mode) {
+
+        double RE = 6371.00877; // 지구 반경(km)
+        double GRID = 5.0; // 격자 간격(km)
+        double SLAT1 = 30.0; // 투영 위도1(degree)
+        double SLAT2 = 60.0; // 투영 위도2(degree)
+        double OLON = 126.0; // 기준점 경도(degree)
+        double OLAT = 38.0; // 기준점 위도(degree)
+        double XO = 43; // 기준점 X좌표(GRID)
+        double YO = 136; // 기준점 Y좌표(GRID)
+
+        double DEGRAD = Math.PI / 180.0;
+        double RADDEG = 180.0 / Math.PI;
+
+        double re = RE / GRID;
+        double slat1 = SLAT1 * DEGRAD;
+        double slat2 = SLAT2 * DEGRAD;
+        double olon = OLON * DEGRAD;
+        double olat = OLAT * DEGRAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
+        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
+        ro = re * sf / Math.pow(ro, sn);
+
+        if (mode == 0) {
+            double ra = Math.tan(Math.PI * 0.25 + latOrX * DEGRAD * 0.5);
+            ra = re * sf / Math.pow(ra, sn);
+            double theta = lonOrY * DEGRAD - olon;
+            if (theta > Math.PI) theta -= 2.0 * Math.PI;
+            if (theta < -Math.PI) theta += 2.0 * Math.PI;
+            theta *= sn;
+            double x = Math.floor(ra * Math.sin(theta) + XO + 0.5);
+            double y = Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
+            return new double[]{x, y};
+        }
+
+        double xn = latOrX - XO;
+        double yn = ro - lonOrY + YO;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (sn < 0.0) {
+            ra = -ra;
+        }
+        double alat = Math.pow((re * sf / ra), (1.0 / sn));
+        alat = 2.0 * Math.atan(alat) - Math.PI * 0.5;
+
+        double theta = 0.0;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else {
+            if (Math.abs(yn) <= 0.0) {
+                theta = Math.PI * 0.5;
+                if (xn < 0.0) {
+                    theta = -theta;
+                }
+            } else theta = Math.atan2(xn, yn);
+        }
+        double alon = theta / sn + olon;
+        return new double[]{alat * RADDEG, alon * RADDEG};
+    }
+}
@@ -0,0 +1,101 @@
+package com.jagiya.location.service;
+
+import com.jagiya.common.utils.GridProjection;
+import com.jagiya.location.dto.LocationPoint;
+import com.jagiya.location.repository.LocationCustomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// 여러 스레드가 동시에 조회할 때 가장 가까운 지역 조회 지연 (SampleTime 의 p0.99 가 1ms 미만인지 확인)
+// 실행 : ./gradlew jmh -PjmhIncludes=LocationGridIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LocationGridIndexBenchmark {
+
+    static final double MAX_DISTANCE_KM = 20;
+
+    // 전국 법정동(약 2만) 보다 넉넉하게
+    @Param({"20000", "50000"})
+    private int locationCount;
+
+    private LocationGridIndex locationGridIndex;
+
+    @State(Scope.Thread)
+    public static class Query {
+
+        private final Random random = new Random(Thread.currentThread().getId());
+
+        double lat() {
+            return 33.0 + random.nextDouble() * 5.7;
+        }
+
+        double lon() {
+            return 124.9 + random.nextDouble() * 4.8;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        locationGridIndex = createLocationGridIndex(createLocationPointList(locationCount));
+    }
+
+    @Benchmark
+    public LocationPoint findNearest(Query query) {
+        return locationGridIndex.findNearest(query.lat(), query.lon());
+    }
+
+    // 남한 범위 임의 좌표
+    static List<LocationPoint> createLocationPointList(int locationCount) {
+        Random random = new Random(23L);
+        List<LocationPoint> locationPointList = new ArrayList<>(locationCount);
+        for (int i = 0; i < locationCount; i++) {
+            double lat = 33.1 + random.nextDouble() * 5.5;
+            double lon = 125.0 + random.nextDouble() * 4.6;
+            long grid = GridProjection.KMA_DFS.toGrid(lat, lon);
+            locationPointList.add(new LocationPoint(i + 1L, String.valueOf(1_100_000_000L + i), "시도", "구군", "동" + i,
+                    String.valueOf(lat), String.valueOf(lon), i + 1L,
+                    String.valueOf(GridProjection.gridX(grid)), String.valueOf(GridProjection.gridY(grid))));
+        }
+        return locationPointList;
+    }
+
+    // 지역 목록을 페이지 단위로 돌려주는 저장소로 색인 적재
+    static LocationGridIndex createLocationGridIndex(List<LocationPoint> locationPointList) {
+        LocationCustomRepository locationCustomRepository = mock(LocationCustomRepository.class, withSettings().stubOnly());
+        given(locationCustomRepository.selectLocationPointList(anyLong(), anyInt())).willAnswer(invocation -> {
+            int from = (int) (long) invocation.<Long>getArgument(0);
+            int limit = invocation.getArgument(1);
+            int size = locationPointList.size();
+            return new ArrayList<>(locationPointList.subList(Math.min(from, size), Math.min(from + limit, size)));
+        });
+        LocationGridIndex locationGridIndex = new LocationGridIndex(locationCustomRepository, 5000, MAX_DISTANCE_KM);
+        locationGridIndex.load();
+        return locationGridIndex;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jagiya.location.service;
+
+import com.jagiya.location.dto.LocationPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 위치 색인 : 전수 비교로 가장 가까운 지역이 맞는지 확인 (조회 지연은 LocationGridIndexBenchmark)
+class LocationGridIndexTest {
+
+    private static final int LOCATION_COUNT = 50_000;
+
+    private static final double DEGRAD = Math.PI / 180.0;
+
+    private double[] lats;
+
+    private double[] lons;
+
+    private LocationGridIndex locationGridIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<LocationPoint> locationPointList = LocationGridIndexBenchmark.createLocationPointList(LOCATION_COUNT);
+        lats = new double[LOCATION_COUNT];
+        lons = new double[LOCATION_COUNT];
+        for (int i = 0; i < LOCATION_COUNT; i++) {
+            lats[i] = Double.parseDouble(locationPointList.get(i).getLat());
+            lons[i] = Double.parseDouble(locationPointList.get(i).getLon());
+        }
+
+        locationGridIndex = LocationGridIndexBenchmark.createLocationGridIndex(locationPointList);
+        assertThat(locationGridIndex.getSize()).isEqualTo(LOCATION_COUNT);
+    }
+
+    @Test
+    void findNearestMatchesBruteForce() {
+        Random random = new Random(5L);
+        for (int i = 0; i < 2_000; i++) {
+            double lat = 33.0 + random.nextDouble() * 5.7;
+            double lon = 124.9 + random.nextDouble() * 4.8;
+
+            double expectedKm = Double.MAX_VALUE;
+            for (int j = 0; j < LOCATION_COUNT; j++) {
+                expectedKm = Math.min(expectedKm, distanceKm(lat, lon, lats[j], lons[j]));
+            }
+
+            LocationPoint nearest = locationGridIndex.findNearest(lat, lon);
+            if (expectedKm > LocationGridIndexBenchmark.MAX_DISTANCE_KM) {
+                assertThat(nearest).isNull();
+            } else {
+                assertThat(nearest).as("(%s, %s)", lat, lon).isNotNull();
+                assertThat(locationGridIndex.distanceKm(nearest, lat, lon)).as("(%s, %s)", lat, lon).isEqualTo(expectedKm);
+            }
+        }
+    }
+
+    // LocationGridIndex 와 같은 근사 거리 (equirectangular)
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double x = (lon2 - lon1) * DEGRAD * Math.cos((lat1 + lat2) * 0.5 * DEGRAD);
+        double y = (lat2 - lat1) * DEGRAD;
+        return Math.sqrt(x * x + y * y) * 6371.00877;
+    }
+}
@@ -0,0 +1,136 @@
+package com.jagiya.location.service;
+
+import com.jagiya.common.http.OutboundHttpClient;
+import com.jagiya.common.http.OutboundHttpClients;
+import com.jagiya.location.entity.Location;
+import com.jagiya.location.repository.LocationCustomRepositoryImpl;
+import com.jagiya.location.request.LocationRequest;
+import com.jagiya.support.MariaDbTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 같은 지역 동시 등록 : 지오코딩 한번, 격자와 지역은 한 행 (upsert, LAST_INSERT_ID, 잠금 재조회 경로)
+// 유니크 키는 엔티티에 선언된 것으로 생성 (ddl-auto)
+@Import({LocationService.class, LocationCustomRepositoryImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = {
+        "location.url=http://localhost/juso",
+        "location.confmKey=test",
+        "geocoding.url=http://localhost/geocoding",
+        "geocoding.appKey=test"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LocationServiceConcurrencyTest extends MariaDbTestSupport {
+
+    private static final int THREADS = 16;
+
+    private static final String REGION_CD = "1111010100";
+
+    private static final String GEOCODING_BODY = "{\"coordinateInfo\":{\"lat\":\"37.5732694444444\",\"lon\":\"126.970955555555\"}}";
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private OutboundHttpClients outboundHttpClients;
+
+    @MockBean
+    private LocationSearchIndex locationSearchIndex;
+
+    @MockBean
+    private LocationGridIndex locationGridIndex;
+
+    @MockBean
+    private LocationSearchCache locationSearchCache;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentRegistrationOfSameRegionGeocodesOnceAndInsertsOneRow() throws Exception {
+        HttpResponse<String> geocodingResponse = mock(HttpResponse.class);
+        given(geocodingResponse.statusCode()).willReturn(200);
+        given(geocodingResponse.body()).willReturn(GEOCODING_BODY);
+
+        // 나머지 요청이 모두 진행 중인 지오코딩에 합류하도록 응답을 늦춤
+        AtomicInteger geocodingCount = new AtomicInteger();
+        OutboundHttpClient geocoding = mock(OutboundHttpClient.class);
+        given(outboundHttpClients.getGeocoding()).willReturn(geocoding);
+        given(geocoding.send(any(), any())).willAnswer(invocation -> {
+            geocodingCount.incrementAndGet();
+            Thread.sleep(500);
+            return geocodingResponse;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Location>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return locationService.selectInsertLocation(locationRequest());
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            Set<Long> locationIds = new HashSet<>();
+            for (Future<Location> future : futures) {
+                locationIds.add(future.get(30, TimeUnit.SECONDS).getLocationId());
+            }
+
+            assertThat(geocodingCount).hasValue(1);
+            assertThat(locationIds).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Long> rowIds = jdbcTemplate.queryForList("SELECT locationId FROM Location WHERE regionCd = ?", Long.class, REGION_CD);
+        assertThat(rowIds).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM LocationGroup", Integer.class)).isEqualTo(1);
+
+        // 지오코딩 위경도로 계산한 격자 (서울 종로구 = 60, 127)
+        List<String> grid = jdbcTemplate.queryForList(
+                "SELECT CONCAT(g.latX, ',', g.lonY) FROM Location l JOIN LocationGroup g ON l.locationGroupId = g.locationGroupId WHERE l.regionCd = ?",
+                String.class, REGION_CD);
+        assertThat(grid).containsExactly("60,127");
+    }
+
+    private LocationRequest locationRequest() {
+        LocationRequest locationRequest = new LocationRequest();
+        locationRequest.setRegionCd(REGION_CD);
+        locationRequest.setCityDo("서울특별시");
+        locationRequest.setGuGun("종로구");
+        locationRequest.setEupMyun("청운동");
+        return locationRequest;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jagiya.support;
+
+import com.jagiya.common.config.QueryDslConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 실제 MariaDB(Testcontainers)에서 실행하는 JPA, JdbcTemplate 통합 테스트 기반 (도커가 없으면 건너뜀)
+// 컨테이너는 테스트 클래스끼리 같이 쓰고, 스키마는 엔티티 기준으로 컨텍스트마다 새로 생성
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.hibernate.naming.physical-strategy=org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+public abstract class MariaDbTestSupport {
+
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    @DynamicPropertySource
+    static void mariaDbProperties(DynamicPropertyRegistry registry) {
+        // 도커 확인 이후에 시작 (이미 실행 중이면 그대로 사용)
+        MARIADB.start();
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+        registry.add("spring.datasource.driver-class-name", MARIADB::getDriverClassName);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jagiya.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// DataSource 를 감싸 JDBC 실행 횟수(DB 왕복)를 조회, 변경으로 나누어 셈 (@Import 로 등록)
+// 배치는 executeBatch 한번을 1회로 셈 (MariaDB 드라이버는 배치를 한번에 전송)
+public class StatementCounter implements BeanPostProcessor {
+
+    private final AtomicInteger readCount = new AtomicInteger();
+
+    private final AtomicInteger writeCount = new AtomicInteger();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                    return proxyConnection(connection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    public void reset() {
+        readCount.set(0);
+        writeCount.set(0);
+    }
+
+    public int getReadCount() {
+        return readCount.get();
+    }
+
+    public int getWriteCount() {
+        return writeCount.get();
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            String name = method.getName();
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return proxyStatement(CallableStatement.class, statement, sql);
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return proxyStatement(PreparedStatement.class, statement, sql);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxyStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T proxyStatement(Class<T> type, T statement, String preparedSql) {
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+                if (name.contains("Batch") || name.contains("Update") || isWrite(sql)) {
+                    writeCount.incrementAndGet();
+                } else {
+                    readCount.incrementAndGet();
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static boolean isWrite(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String command = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return command.startsWith("insert") || command.startsWith("update") || command.startsWith("delete") || command.startsWith("replace");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface TargetInvocation {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, TargetInvocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> invocation.invoke(target, method, args);
+        return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}